@@ -0,0 +1,60 @@
+package io.beanmapper.benchmarks;
+
+import io.beanmapper.BeanMapper;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Boots the {@link BenchmarkApplication} once per trial, so every benchmark maps with the BeanMapper created by
+ * the BeanMapperAutoConfig. The diagnostics level and the Hibernate unproxy mechanism are benchmark parameters.
+ */
+@State(Scope.Benchmark)
+public class BeanMapperState {
+
+    /**
+     * Value of beanmapper.diagnostics-detail-level.
+     */
+    @Param({ "DISABLED", "COUNT_PER_PAIR" })
+    public String diagnostics;
+
+    /**
+     * Value of beanmapper.use-hibernate-unproxy.
+     */
+    @Param({ "true", "false" })
+    public boolean hibernateUnproxy;
+
+    private ConfigurableApplicationContext context;
+    private BeanMapper beanMapper;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = new SpringApplicationBuilder(BenchmarkApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "beanmapper.diagnostics-detail-level=" + diagnostics,
+                        "beanmapper.use-hibernate-unproxy=" + hibernateUnproxy)
+                .run();
+        beanMapper = context.getBean(BeanMapper.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    public BeanMapper getBeanMapper() {
+        return beanMapper;
+    }
+
+    public <T> T getBean(Class<T> beanClass) {
+        return context.getBean(beanClass);
+    }
+}
@@ -0,0 +1,11 @@
+package io.beanmapper.benchmarks;
+
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+/**
+ * Application booted by the {@link BeanMapperState}, so the benchmarks run against the autoconfigured
+ * BeanMapper. The mapped classes live in the {@code model} package below it.
+ */
+@SpringBootApplication
+public class BenchmarkApplication {
+}
@@ -0,0 +1,55 @@
+package io.beanmapper.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import io.beanmapper.benchmarks.model.Customer;
+import io.beanmapper.benchmarks.model.CustomerOrdersResult;
+import io.beanmapper.benchmarks.model.CustomerResult;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Maps lists of entities, and entities holding a list of orders, to results.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CollectionMappingBenchmark {
+
+    @Param({ "100" })
+    public int customers;
+
+    @Param({ "20" })
+    public int ordersPerCustomer;
+
+    private List<Customer> source;
+
+    @Setup
+    public void setUp() {
+        source = Fixtures.customers(customers, ordersPerCustomer);
+    }
+
+    @Benchmark
+    public List<CustomerResult> listToResults(BeanMapperState state) {
+        return state.getBeanMapper().map(source, CustomerResult.class);
+    }
+
+    @Benchmark
+    public List<CustomerOrdersResult> listWithNestedCollectionsToResults(BeanMapperState state) {
+        return state.getBeanMapper().map(source, CustomerOrdersResult.class);
+    }
+}
@@ -0,0 +1,83 @@
+package io.beanmapper.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import io.beanmapper.BeanMapper;
+import io.beanmapper.benchmarks.model.Customer;
+import io.beanmapper.benchmarks.model.CustomerResult;
+import io.beanmapper.benchmarks.startup.SyntheticConverter;
+import io.beanmapper.core.converter.BeanConverter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.support.GenericApplicationContext;
+
+/**
+ * Maps an entity with an embedded address to a result, with a number of custom converters registered as beans,
+ * looked up in the list of converters of the BeanMapper and with the converter index. No converter matches the
+ * address, so without the index every converter is asked for it on every call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConverterDispatchBenchmark {
+
+    /**
+     * Number of custom converters, none of which matches.
+     */
+    @Param({ "1", "10", "50", "100" })
+    public int converters;
+
+    /**
+     * Value of beanmapper.converter-index.enabled.
+     */
+    @Param({ "false", "true" })
+    public boolean converterIndex;
+
+    private ConfigurableApplicationContext context;
+    private BeanMapper beanMapper;
+    private Customer customer;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = new SpringApplicationBuilder(BenchmarkApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties("beanmapper.converter-index.enabled=" + converterIndex)
+                .initializers(applicationContext -> {
+                    for (int i = 0; i < converters; i++) {
+                        ((GenericApplicationContext) applicationContext).registerBean("syntheticConverter" + i, BeanConverter.class,
+                                () -> new SyntheticConverter() { });
+                    }
+                })
+                .run();
+        beanMapper = context.getBean(BeanMapper.class);
+        customer = Fixtures.customer(1, 0);
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    @Benchmark
+    public CustomerResult entityToResult() {
+        return beanMapper.map(customer, CustomerResult.class);
+    }
+}
@@ -0,0 +1,96 @@
+package io.beanmapper.benchmarks;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import io.beanmapper.benchmarks.model.Address;
+import io.beanmapper.benchmarks.model.ContactForm;
+import io.beanmapper.benchmarks.model.Customer;
+import io.beanmapper.benchmarks.model.CustomerForm;
+import io.beanmapper.benchmarks.model.Order;
+import io.beanmapper.benchmarks.model.OrderForm;
+
+/**
+ * Creates the source objects of the benchmarks.
+ */
+final class Fixtures {
+
+    private Fixtures() {
+    }
+
+    static CustomerForm customerForm(int number) {
+        CustomerForm form = new CustomerForm();
+        form.name = "Customer " + number;
+        form.email = "customer" + number + "@example.com";
+        form.age = 20 + number % 50;
+        form.active = number % 2 == 0;
+        return form;
+    }
+
+    static List<ContactForm> contactForms(int numberOfContacts) {
+        List<ContactForm> forms = new ArrayList<>();
+        for (int number = 0; number < numberOfContacts; number++) {
+            ContactForm form = new ContactForm();
+            form.setName("Contact " + number);
+            form.setEmail("contact" + number + "@example.com");
+            form.setAge(20 + number % 50);
+            form.setActive(number % 2 == 0);
+            form.setBirthDate(LocalDate.of(1970, 1, 1).plusDays(number));
+            form.setBalance(BigDecimal.valueOf(number, 2));
+            forms.add(form);
+        }
+        return forms;
+    }
+
+    static Customer customer(long id, int numberOfOrders) {
+        Customer customer = new Customer();
+        customer.setId(id);
+        customer.setName("Customer " + id);
+        customer.setEmail("customer" + id + "@example.com");
+        customer.setAge(20 + (int) (id % 50));
+        customer.setActive(id % 2 == 0);
+        customer.setAddress(address(id));
+        for (int i = 0; i < numberOfOrders; i++) {
+            customer.getOrders().add(order(id * 1000 + i, customer));
+        }
+        return customer;
+    }
+
+    static List<Customer> customers(int numberOfCustomers, int numberOfOrders) {
+        List<Customer> customers = new ArrayList<>(numberOfCustomers);
+        for (int i = 0; i < numberOfCustomers; i++) {
+            customers.add(customer(i, numberOfOrders));
+        }
+        return customers;
+    }
+
+    static OrderForm orderForm(Long customerId, int number) {
+        OrderForm form = new OrderForm();
+        form.customer = customerId;
+        form.description = "Order " + number;
+        form.quantity = number % 10 + 1;
+        form.amount = BigDecimal.valueOf(number, 2);
+        return form;
+    }
+
+    private static Address address(long number) {
+        Address address = new Address();
+        address.setStreet("Street " + number);
+        address.setHouseNumber(Long.toString(number % 200 + 1));
+        address.setZipCode("1234 AB");
+        address.setCity("Amsterdam");
+        return address;
+    }
+
+    private static Order order(long id, Customer customer) {
+        Order order = new Order();
+        order.setId(id);
+        order.setCustomer(customer);
+        order.setDescription("Order " + id);
+        order.setQuantity((int) (id % 10) + 1);
+        order.setAmount(BigDecimal.valueOf(id, 2));
+        return order;
+    }
+}
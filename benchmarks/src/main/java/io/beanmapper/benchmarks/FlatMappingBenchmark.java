@@ -0,0 +1,41 @@
+package io.beanmapper.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import io.beanmapper.benchmarks.model.Customer;
+import io.beanmapper.benchmarks.model.CustomerForm;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Maps a form with only simple properties to an entity.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FlatMappingBenchmark {
+
+    private CustomerForm form;
+
+    @Setup
+    public void setUp() {
+        form = Fixtures.customerForm(1);
+    }
+
+    @Benchmark
+    public Customer formToEntity(BeanMapperState state) {
+        return state.getBeanMapper().map(form, Customer.class);
+    }
+}
@@ -0,0 +1,71 @@
+package io.beanmapper.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import io.beanmapper.BeanMapper;
+import io.beanmapper.benchmarks.model.Contact;
+import io.beanmapper.benchmarks.model.ContactForm;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Maps a list of {@code @BeanMapToClass} forms with simple properties, with the mapper the annotation processor
+ * generated for the pair and reflectively.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GeneratedMapperBenchmark {
+
+    @Param({ "100" })
+    public int contacts;
+
+    /**
+     * Value of beanmapper.generated-mappers.enabled.
+     */
+    @Param({ "false", "true" })
+    public boolean generatedMappers;
+
+    private ConfigurableApplicationContext context;
+    private BeanMapper beanMapper;
+    private List<ContactForm> forms;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = new SpringApplicationBuilder(BenchmarkApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties("beanmapper.generated-mappers.enabled=" + generatedMappers)
+                .run();
+        beanMapper = context.getBean(BeanMapper.class);
+        forms = Fixtures.contactForms(contacts);
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Contact> listToEntities() {
+        return beanMapper.map(forms, Contact.class);
+    }
+}
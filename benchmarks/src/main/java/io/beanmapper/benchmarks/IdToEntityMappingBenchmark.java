@@ -0,0 +1,62 @@
+package io.beanmapper.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import io.beanmapper.benchmarks.model.Customer;
+import io.beanmapper.benchmarks.model.CustomerRepository;
+import io.beanmapper.benchmarks.model.Order;
+import io.beanmapper.benchmarks.model.OrderForm;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Maps forms referring to a customer by id to entities, so the IdToEntityBeanConverter looks the customer
+ * up in the embedded H2 database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IdToEntityMappingBenchmark {
+
+    private static final int NUMBER_OF_ORDERS = 10;
+
+    private OrderForm form;
+    private List<OrderForm> forms;
+
+    @Setup
+    public void setUp(BeanMapperState state) {
+        CustomerRepository customerRepository = state.getBean(CustomerRepository.class);
+        customerRepository.deleteAll();
+        Customer customer = Fixtures.customer(0, 0);
+        customer.setId(null);
+        Long customerId = customerRepository.save(customer).getId();
+        form = Fixtures.orderForm(customerId, 1);
+        forms = IntStream.range(0, NUMBER_OF_ORDERS)
+                .mapToObj(i -> Fixtures.orderForm(customerId, i))
+                .toList();
+    }
+
+    @Benchmark
+    public Order formToEntity(BeanMapperState state) {
+        return state.getBeanMapper().map(form, Order.class);
+    }
+
+    @Benchmark
+    public List<Order> formsToEntities(BeanMapperState state) {
+        return state.getBeanMapper().map(forms, Order.class);
+    }
+}
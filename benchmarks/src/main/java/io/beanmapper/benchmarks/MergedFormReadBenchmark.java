@@ -0,0 +1,107 @@
+package io.beanmapper.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import io.beanmapper.autoconfigure.StreamingStructuredJsonMessageConverter;
+import io.beanmapper.benchmarks.model.Customer;
+import io.beanmapper.benchmarks.model.CustomerForm;
+import io.beanmapper.spring.web.converter.StructuredBody;
+import io.beanmapper.spring.web.converter.StructuredJsonMessageConverter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.JacksonJsonHttpMessageConverter;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Reads a PATCH body of a merged form and merges the properties present onto an entity, like the
+ * MergedFormMethodArgumentResolver does, with the StructuredJsonMessageConverter and with the
+ * StreamingStructuredJsonMessageConverter.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MergedFormReadBenchmark {
+
+    /**
+     * Length of the customer name in the body, to compare small and large bodies.
+     */
+    @Param({ "16", "65536" })
+    public int nameLength;
+
+    private byte[] body;
+    private HttpMessageConverter<Object> structuredConverter;
+    private HttpMessageConverter<Object> streamingConverter;
+    private Customer customer;
+
+    @Setup
+    public void setUp() {
+        JsonMapper jsonMapper = JsonMapper.builder().build();
+        structuredConverter = new StructuredJsonMessageConverter(new JacksonJsonHttpMessageConverter(jsonMapper));
+        streamingConverter = new StreamingStructuredJsonMessageConverter(jsonMapper);
+        body = ("{\"name\":\"" + "n".repeat(nameLength) + "\",\"email\":\"customer@example.com\"}")
+                .getBytes(StandardCharsets.UTF_8);
+        customer = Fixtures.customer(1, 0);
+    }
+
+    @Benchmark
+    public Customer structured(BeanMapperState state) throws IOException {
+        return readAndMerge(state, structuredConverter);
+    }
+
+    @Benchmark
+    public Customer streaming(BeanMapperState state) throws IOException {
+        return readAndMerge(state, streamingConverter);
+    }
+
+    private Customer readAndMerge(BeanMapperState state, HttpMessageConverter<Object> converter) throws IOException {
+        StructuredBody structuredBody = (StructuredBody) converter.read(CustomerForm.class, new BodyInputMessage(body));
+        return state.getBeanMapper().wrap()
+                .downsizeSource(new ArrayList<>(structuredBody.propertyNames()))
+                .setFlushEnabled(false)
+                .build()
+                .map(structuredBody.body(), customer);
+    }
+
+    private static final class BodyInputMessage implements HttpInputMessage {
+
+        private final byte[] body;
+        private final HttpHeaders headers = new HttpHeaders();
+
+        BodyInputMessage(byte[] body) {
+            this.body = body;
+            headers.setContentType(MediaType.APPLICATION_JSON);
+        }
+
+        @Override
+        public InputStream getBody() {
+            return new ByteArrayInputStream(body);
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+    }
+}
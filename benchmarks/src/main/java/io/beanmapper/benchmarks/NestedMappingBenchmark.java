@@ -0,0 +1,41 @@
+package io.beanmapper.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import io.beanmapper.benchmarks.model.Customer;
+import io.beanmapper.benchmarks.model.CustomerResult;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Maps an entity with an embedded address to a result with a nested address result.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NestedMappingBenchmark {
+
+    private Customer customer;
+
+    @Setup
+    public void setUp() {
+        customer = Fixtures.customer(1, 0);
+    }
+
+    @Benchmark
+    public CustomerResult entityToResult(BeanMapperState state) {
+        return state.getBeanMapper().map(customer, CustomerResult.class);
+    }
+}
@@ -0,0 +1,12 @@
+package io.beanmapper.benchmarks.model;
+
+public class AddressResult {
+
+    public String street;
+
+    public String houseNumber;
+
+    public String zipCode;
+
+    public String city;
+}
@@ -0,0 +1,70 @@
+package io.beanmapper.benchmarks.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import io.beanmapper.autoconfigure.BeanMapToClass;
+
+@BeanMapToClass(target = Contact.class)
+public class ContactForm {
+
+    private String name;
+
+    private String email;
+
+    private int age;
+
+    private boolean active;
+
+    private LocalDate birthDate;
+
+    private BigDecimal balance;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    public int getAge() {
+        return age;
+    }
+
+    public void setAge(int age) {
+        this.age = age;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    public void setActive(boolean active) {
+        this.active = active;
+    }
+
+    public LocalDate getBirthDate() {
+        return birthDate;
+    }
+
+    public void setBirthDate(LocalDate birthDate) {
+        this.birthDate = birthDate;
+    }
+
+    public BigDecimal getBalance() {
+        return balance;
+    }
+
+    public void setBalance(BigDecimal balance) {
+        this.balance = balance;
+    }
+}
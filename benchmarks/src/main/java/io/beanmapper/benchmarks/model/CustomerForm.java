@@ -0,0 +1,12 @@
+package io.beanmapper.benchmarks.model;
+
+public class CustomerForm {
+
+    public String name;
+
+    public String email;
+
+    public int age;
+
+    public boolean active;
+}
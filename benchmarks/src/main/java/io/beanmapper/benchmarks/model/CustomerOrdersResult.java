@@ -0,0 +1,15 @@
+package io.beanmapper.benchmarks.model;
+
+import java.util.List;
+
+import io.beanmapper.annotations.BeanCollection;
+
+public class CustomerOrdersResult {
+
+    public Long id;
+
+    public String name;
+
+    @BeanCollection(elementType = OrderResult.class)
+    public List<OrderResult> orders;
+}
@@ -0,0 +1,6 @@
+package io.beanmapper.benchmarks.model;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface CustomerRepository extends JpaRepository<Customer, Long> {
+}
@@ -0,0 +1,16 @@
+package io.beanmapper.benchmarks.model;
+
+public class CustomerResult {
+
+    public Long id;
+
+    public String name;
+
+    public String email;
+
+    public int age;
+
+    public boolean active;
+
+    public AddressResult address;
+}
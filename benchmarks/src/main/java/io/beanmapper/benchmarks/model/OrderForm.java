@@ -0,0 +1,14 @@
+package io.beanmapper.benchmarks.model;
+
+import java.math.BigDecimal;
+
+public class OrderForm {
+
+    public Long customer;
+
+    public String description;
+
+    public int quantity;
+
+    public BigDecimal amount;
+}
@@ -0,0 +1,14 @@
+package io.beanmapper.benchmarks.model;
+
+import java.math.BigDecimal;
+
+public class OrderResult {
+
+    public Long id;
+
+    public String description;
+
+    public int quantity;
+
+    public BigDecimal amount;
+}
@@ -0,0 +1,97 @@
+package io.beanmapper.benchmarks.startup;
+
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+
+/**
+ * {@link ApplicationStartup} that records the wall time and the bytes allocated by the current thread for
+ * each {@code beanmapper.*} startup step of the BeanMapperAutoConfig. Other steps are not recorded.
+ */
+final class PhaseRecorder implements ApplicationStartup {
+
+    private static final String STEP_PREFIX = "beanmapper.";
+
+    private final com.sun.management.ThreadMXBean threadMXBean =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private final Map<String, Phase> phases = new LinkedHashMap<>();
+
+    @Override
+    public StartupStep start(String name) {
+        StartupStep step = ApplicationStartup.DEFAULT.start(name);
+        if (!name.startsWith(STEP_PREFIX)) {
+            return step;
+        }
+        return new RecordingStep(name.substring(STEP_PREFIX.length()), step);
+    }
+
+    /**
+     * @return the recorded phases by name, ie {@code converters}, in the order they finished
+     */
+    Map<String, Phase> getPhases() {
+        return phases;
+    }
+
+    /**
+     * @param nanos the wall time of the phase
+     * @param allocatedBytes the bytes allocated by the thread running the phase
+     */
+    record Phase(long nanos, long allocatedBytes) {
+    }
+
+    private final class RecordingStep implements StartupStep {
+
+        private final String phase;
+        private final StartupStep delegate;
+        private final long startNanos = System.nanoTime();
+        private final long startAllocatedBytes = threadMXBean.getCurrentThreadAllocatedBytes();
+
+        private RecordingStep(String phase, StartupStep delegate) {
+            this.phase = phase;
+            this.delegate = delegate;
+        }
+
+        @Override
+        public String getName() {
+            return delegate.getName();
+        }
+
+        @Override
+        public long getId() {
+            return delegate.getId();
+        }
+
+        @Override
+        public Long getParentId() {
+            return delegate.getParentId();
+        }
+
+        @Override
+        public StartupStep tag(String key, String value) {
+            delegate.tag(key, value);
+            return this;
+        }
+
+        @Override
+        public StartupStep tag(String key, Supplier<String> value) {
+            delegate.tag(key, value);
+            return this;
+        }
+
+        @Override
+        public Tags getTags() {
+            return delegate.getTags();
+        }
+
+        @Override
+        public void end() {
+            phases.put(phase, new Phase(System.nanoTime() - startNanos,
+                    threadMXBean.getCurrentThreadAllocatedBytes() - startAllocatedBytes));
+            delegate.end();
+        }
+    }
+}
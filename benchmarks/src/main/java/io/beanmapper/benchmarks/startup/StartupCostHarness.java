@@ -0,0 +1,159 @@
+package io.beanmapper.benchmarks.startup;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
+
+import io.beanmapper.autoconfigure.BeanMapperAutoConfig;
+import io.beanmapper.benchmarks.startup.PhaseRecorder.Phase;
+
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackages;
+import org.springframework.boot.context.annotation.ImportCandidates;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Measures the cost of {@link BeanMapperAutoConfig#beanMapper()} for generated packages of 100 to 50.000 classes,
+ * see {@link SyntheticPackage}. All auto-configurations of the starter are registered, as in an application. Every
+ * run creates a context with a fresh class loader, so class loading is part of the measurement. The wall time and
+ * the allocated bytes of every phase of the autoconfig are recorded through its startup steps, see
+ * {@link PhaseRecorder}. The runs are done with classpath scanning and with a generated beanmapper index.
+ * <p>
+ * Prints the median of every phase and writes them as JSON to {@value #RESULT_FILE}. JMH is not used here, because
+ * its secondary results cannot express a median per phase. Usage:
+ * <pre>java -cp target/benchmarks.jar io.beanmapper.benchmarks.startup.StartupCostHarness [classes...]</pre>
+ */
+public final class StartupCostHarness {
+
+    static final String RESULT_FILE = "target/startup-cost.json";
+
+    private static final String INDEX_LOCATION = "META-INF/beanmapper.index";
+    private static final int[] DEFAULT_SIZES = { 100, 1_000, 10_000, 50_000 };
+    private static final int WARMUP_RUNS = 3;
+    private static final int MEASURED_RUNS = 10;
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private StartupCostHarness() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        int[] sizes = args.length > 0 ? Arrays.stream(args).mapToInt(Integer::parseInt).toArray() : DEFAULT_SIZES;
+        List<String> results = new ArrayList<>();
+        for (int size : sizes) {
+            for (boolean useIndex : new boolean[] { false, true }) {
+                Map<String, long[]> medians = measure(size, useIndex);
+                print(size, useIndex, medians);
+                results.add(toJson(size, useIndex, medians));
+            }
+        }
+        Path resultFile = Path.of(RESULT_FILE);
+        Files.createDirectories(resultFile.toAbsolutePath().getParent());
+        Files.writeString(resultFile, "[\n" + String.join(",\n", results) + "\n]\n");
+        System.out.println("Results written to " + resultFile.toAbsolutePath());
+    }
+
+    /**
+     * @return the median wall time (nanos) and allocated bytes per phase, and of the whole context refresh
+     */
+    private static Map<String, long[]> measure(int size, boolean useIndex) throws IOException {
+        SyntheticPackage syntheticPackage = SyntheticPackage.generate(size, useIndex);
+        try {
+            for (int i = 0; i < WARMUP_RUNS; i++) {
+                run(syntheticPackage, useIndex);
+            }
+            List<Map<String, Phase>> runs = new ArrayList<>();
+            for (int i = 0; i < MEASURED_RUNS; i++) {
+                runs.add(run(syntheticPackage, useIndex));
+            }
+            Map<String, long[]> medians = new LinkedHashMap<>();
+            for (String phase : runs.get(0).keySet()) {
+                medians.put(phase, new long[] {
+                        median(runs, phase, Phase::nanos),
+                        median(runs, phase, Phase::allocatedBytes) });
+            }
+            return medians;
+        } finally {
+            syntheticPackage.delete();
+        }
+    }
+
+    private static Map<String, Phase> run(SyntheticPackage syntheticPackage, boolean useIndex) throws IOException {
+        PhaseRecorder phaseRecorder = new PhaseRecorder();
+        try (URLClassLoader classLoader = new SyntheticClassLoader(syntheticPackage.getDirectory().toUri().toURL());
+             AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext()) {
+            context.setClassLoader(classLoader);
+            context.setApplicationStartup(phaseRecorder);
+            context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("startup-cost",
+                    Map.of("beanmapper.use-index", useIndex)));
+            AutoConfigurationPackages.register(context, syntheticPackage.getPackageName());
+            ImportCandidates.load(AutoConfiguration.class, classLoader).getCandidates().stream()
+                    .filter(name -> name.startsWith(BeanMapperAutoConfig.class.getPackageName() + "."))
+                    .map(name -> ClassUtils.resolveClassName(name, classLoader))
+                    .forEach(context::register);
+            long startNanos = System.nanoTime();
+            long startAllocatedBytes = THREAD_MX_BEAN.getCurrentThreadAllocatedBytes();
+            context.refresh();
+            Map<String, Phase> phases = new LinkedHashMap<>(phaseRecorder.getPhases());
+            phases.put("context-refresh", new Phase(System.nanoTime() - startNanos,
+                    THREAD_MX_BEAN.getCurrentThreadAllocatedBytes() - startAllocatedBytes));
+            return phases;
+        }
+    }
+
+    private static long median(List<Map<String, Phase>> runs, String phase, ToLongFunction<Phase> value) {
+        long[] values = runs.stream().mapToLong(run -> value.applyAsLong(run.get(phase))).sorted().toArray();
+        return values[values.length / 2];
+    }
+
+    private static void print(int size, boolean useIndex, Map<String, long[]> medians) {
+        System.out.printf("%n%,d classes, %s%n", size, useIndex ? "index" : "classpath scanning");
+        System.out.printf("  %-22s %12s %14s%n", "phase", "median ms", "median KiB");
+        medians.forEach((phase, median) -> System.out.printf("  %-22s %12.2f %14d%n",
+                phase, median[0] / (double) TimeUnit.MILLISECONDS.toNanos(1), median[1] / 1024));
+    }
+
+    private static String toJson(int size, boolean useIndex, Map<String, long[]> medians) {
+        String phases = medians.entrySet().stream()
+                .map(entry -> "    \"%s\": { \"nanos\": %d, \"allocatedBytes\": %d }"
+                        .formatted(entry.getKey(), entry.getValue()[0], entry.getValue()[1]))
+                .collect(Collectors.joining(",\n"));
+        return "  { \"classes\": %d, \"useIndex\": %s, \"runs\": %d, \"phases\": {\n%s\n  } }"
+                .formatted(size, useIndex, MEASURED_RUNS, phases);
+    }
+
+    /**
+     * Loads the generated classes. Hides the beanmapper index of the benchmarks themselves, so only the
+     * index of the generated package is used.
+     */
+    private static final class SyntheticClassLoader extends URLClassLoader {
+
+        private SyntheticClassLoader(URL directory) {
+            super(new URL[] { directory }, StartupCostHarness.class.getClassLoader());
+        }
+
+        @Override
+        public Enumeration<URL> getResources(String name) throws IOException {
+            return INDEX_LOCATION.equals(name) ? findResources(name) : super.getResources(name);
+        }
+
+        @Override
+        public URL getResource(String name) {
+            return INDEX_LOCATION.equals(name) ? findResource(name) : super.getResource(name);
+        }
+    }
+}
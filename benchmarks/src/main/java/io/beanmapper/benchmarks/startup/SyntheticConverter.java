@@ -0,0 +1,21 @@
+package io.beanmapper.benchmarks.startup;
+
+import io.beanmapper.BeanMapper;
+import io.beanmapper.core.BeanPropertyMatch;
+import io.beanmapper.core.converter.BeanConverter;
+
+/**
+ * Superclass of the generated converters. Abstract, so it is not picked up as a converter itself.
+ */
+public abstract class SyntheticConverter implements BeanConverter {
+
+    @Override
+    public <S, T> T convert(BeanMapper beanMapper, S source, Class<T> targetClass, BeanPropertyMatch beanPropertyMatch) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean match(Class<?> sourceClass, Class<?> targetClass) {
+        return false;
+    }
+}
@@ -0,0 +1,14 @@
+package io.beanmapper.benchmarks.startup;
+
+import io.beanmapper.annotations.LogicSecuredCheck;
+
+/**
+ * Superclass of the generated logic secured checks. Abstract, so it is not picked up as a check itself.
+ */
+public abstract class SyntheticLogicSecuredCheck implements LogicSecuredCheck<Object, Object> {
+
+    @Override
+    public boolean isAllowed(Object source, Object target) {
+        return true;
+    }
+}
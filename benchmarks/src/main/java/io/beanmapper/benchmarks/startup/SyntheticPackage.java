@@ -0,0 +1,145 @@
+package io.beanmapper.benchmarks.startup;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import io.beanmapper.autoconfigure.BeanMapToClass;
+
+import org.springframework.asm.AnnotationVisitor;
+import org.springframework.asm.ClassWriter;
+import org.springframework.asm.MethodVisitor;
+import org.springframework.asm.Opcodes;
+import org.springframework.asm.Type;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.util.FileSystemUtils;
+
+/**
+ * Generates a package with a {@code @SpringBootApplication} class and the given number of classes, spread over
+ * sub-packages of {@value #CLASSES_PER_PACKAGE} classes. Most classes are plain models with a few fields. Every
+ * {@value #SPECIAL_CLASS_INTERVAL}th class is a converter, a logic secured check or a {@code @BeanMapToClass} form,
+ * so each phase of the autoconfig has something to find.
+ * <p>
+ * Optionally, a {@code META-INF/beanmapper.index} is written for the generated classes, in the format of the
+ * index the BeanMapperIndexProcessor writes at compile time.
+ */
+final class SyntheticPackage {
+
+    static final int CLASSES_PER_PACKAGE = 100;
+    static final int SPECIAL_CLASS_INTERVAL = 100;
+
+    private static final String OBJECT = Type.getInternalName(Object.class);
+
+    private final String packageName;
+    private final Path directory;
+    private final List<String> indexLines = new ArrayList<>();
+
+    private SyntheticPackage(String packageName, Path directory) {
+        this.packageName = packageName;
+        this.directory = directory;
+    }
+
+    /**
+     * Generates the classes into a new temporary directory.
+     * @param numberOfClasses the number of classes, excluding the application class
+     * @param writeIndex whether to write a beanmapper index for the classes
+     * @return the generated package
+     */
+    static SyntheticPackage generate(int numberOfClasses, boolean writeIndex) {
+        try {
+            String packageName = "io.beanmapper.synthetic.c" + numberOfClasses;
+            SyntheticPackage syntheticPackage = new SyntheticPackage(packageName, Files.createTempDirectory("beanmapper-startup"));
+            syntheticPackage.generateClasses(numberOfClasses);
+            if (writeIndex) {
+                syntheticPackage.writeIndex();
+            }
+            return syntheticPackage;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    String getPackageName() {
+        return packageName;
+    }
+
+    Path getDirectory() {
+        return directory;
+    }
+
+    void delete() {
+        try {
+            FileSystemUtils.deleteRecursively(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void generateClasses(int numberOfClasses) throws IOException {
+        String application = packageName + ".SyntheticApplication";
+        writeClass(application, OBJECT, Type.getDescriptor(SpringBootApplication.class), null);
+        indexLines.add(application + "=application");
+
+        for (int i = 0; i < numberOfClasses; i++) {
+            String className = packageName + ".p" + (i / CLASSES_PER_PACKAGE) + ".Class" + i;
+            switch (i % SPECIAL_CLASS_INTERVAL) {
+                case 10 -> {
+                    writeClass(className + "Converter", Type.getInternalName(SyntheticConverter.class), null, null);
+                    indexLines.add(className + "Converter=bean-converter");
+                }
+                case 20 -> {
+                    writeClass(className + "Check", Type.getInternalName(SyntheticLogicSecuredCheck.class), null, null);
+                    indexLines.add(className + "Check=logic-secured-check");
+                }
+                case 30 -> {
+                    String target = packageName + ".p" + (i / CLASSES_PER_PACKAGE) + ".Class" + (i - 1);
+                    writeClass(className + "Form", OBJECT, Type.getDescriptor(BeanMapToClass.class), target);
+                    indexLines.add(className + "Form=bean-pair,strict-mapping");
+                }
+                default -> writeClass(className, OBJECT, null, null);
+            }
+        }
+    }
+
+    /**
+     * Writes a public class with a public no-arg constructor and, for models, a few private fields.
+     */
+    private void writeClass(String className, String superName, String annotation, String beanMapToClassTarget) throws IOException {
+        String internalName = className.replace('.', '/');
+        ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+        writer.visit(Opcodes.V17, Opcodes.ACC_PUBLIC | Opcodes.ACC_SUPER, internalName, null, superName, null);
+        if (annotation != null) {
+            AnnotationVisitor annotationVisitor = writer.visitAnnotation(annotation, true);
+            if (beanMapToClassTarget != null) {
+                annotationVisitor.visit("target", Type.getObjectType(beanMapToClassTarget.replace('.', '/')));
+            }
+            annotationVisitor.visitEnd();
+        }
+        if (annotation == null && OBJECT.equals(superName)) {
+            writer.visitField(Opcodes.ACC_PRIVATE, "name", "Ljava/lang/String;", null, null).visitEnd();
+            writer.visitField(Opcodes.ACC_PRIVATE, "amount", "I", null, null).visitEnd();
+            writer.visitField(Opcodes.ACC_PRIVATE, "active", "Z", null, null).visitEnd();
+        }
+        MethodVisitor constructor = writer.visitMethod(Opcodes.ACC_PUBLIC, "<init>", "()V", null, null);
+        constructor.visitCode();
+        constructor.visitVarInsn(Opcodes.ALOAD, 0);
+        constructor.visitMethodInsn(Opcodes.INVOKESPECIAL, superName, "<init>", "()V", false);
+        constructor.visitInsn(Opcodes.RETURN);
+        constructor.visitMaxs(0, 0);
+        constructor.visitEnd();
+        writer.visitEnd();
+
+        Path file = directory.resolve(internalName + ".class");
+        Files.createDirectories(file.getParent());
+        Files.write(file, writer.toByteArray());
+    }
+
+    private void writeIndex() throws IOException {
+        Path file = directory.resolve("META-INF/beanmapper.index");
+        Files.createDirectories(file.getParent());
+        Files.write(file, indexLines);
+    }
+}
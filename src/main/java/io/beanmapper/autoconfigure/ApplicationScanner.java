@@ -1,49 +1,158 @@
 package io.beanmapper.autoconfigure;
 
-import static io.beanmapper.utils.Classes.forName;
-
+import java.io.IOException;
 import java.lang.annotation.Annotation;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeSet;
 
 import io.beanmapper.annotations.LogicSecuredCheck;
 import io.beanmapper.core.collections.CollectionHandler;
 import io.beanmapper.core.converter.BeanConverter;
-import io.beanmapper.utils.Classes;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackages;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.persistence.autoconfigure.EntityScanPackages;
 import org.springframework.boot.persistence.autoconfigure.EntityScanner;
 import org.springframework.context.ApplicationContext;
-import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
-import org.springframework.core.type.filter.TypeFilter;
+import org.springframework.core.env.Environment;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.core.type.ClassMetadata;
+import org.springframework.core.type.classreading.CachingMetadataReaderFactory;
+import org.springframework.core.type.classreading.MetadataReader;
+import org.springframework.util.ClassUtils;
 
 /**
- * Utility that helps searching for beans/classes within the application.
+ * Utility that helps searching for beans/classes within the application. When a {@link BeanMapperIndex}
+ * with an entry for the application is available, the classes are looked up in the index instead of scanning
+ * the classpath, for the base packages the index has entries in. The application and the bean pairs are only
+ * taken from the index in the packages the {@link EntityScanner} would scan, so both ways find the same classes.
+ * <p>
+ * The classpath is scanned only once per base package, for all supported types at the same time. The
+ * type hierarchy of every candidate is resolved from its class file metadata, so only the classes that
+ * actually match are loaded.
  */
 class ApplicationScanner {
 
+    private static final List<Class<?>> SCANNED_TYPES = List.of(BeanConverter.class, CollectionHandler.class, LogicSecuredCheck.class);
+    /** Classes the autoconfiguration registers itself, depending on its properties. */
+    private static final Set<String> AUTOCONFIGURED_CLASS_NAMES = Set.of(
+            BatchedIdToEntityBeanConverter.class.getName(), CachingIdToEntityBeanConverter.class.getName(),
+            ParallelListCollectionHandler.class.getName(), ParallelSetCollectionHandler.class.getName(),
+            ObservedBeanConverter.class.getName(), BeanConverterIndex.class.getName(), GeneratedBeanPairConverter.class.getName());
+
     private final Logger log = LoggerFactory.getLogger(ApplicationScanner.class);
+    private final ApplicationContext context;
     private final EntityScanner entityScanner;
-    private final ClassPathScanningCandidateComponentProvider classpathScanner;
+    private final Environment environment;
+    private final ResourcePatternResolver resourcePatternResolver;
+    private final CachingMetadataReaderFactory metadataReaderFactory;
+    private final ClassLoader classLoader;
+    private final BeanMapperIndex index;
 
-    ApplicationScanner(ApplicationContext context) {
+    private final Map<String, ScanResult> scanResults = new HashMap<>();
+    private final Map<String, Set<Class<?>>> assignableTypes = new HashMap<>();
+    private Set<Class<?>> beanPairInstructions;
+
+    ApplicationScanner(ApplicationContext context, boolean useIndex) {
+        this.context = context;
         this.entityScanner = new EntityScanner(context);
-        this.classpathScanner = new ClassPathScanningCandidateComponentProvider(
-                false);
-        this.classpathScanner.setEnvironment(context.getEnvironment());
-        this.classpathScanner.setResourceLoader(context);
+        this.environment = context.getEnvironment();
+        this.resourcePatternResolver = new PathMatchingResourcePatternResolver(context);
+        this.metadataReaderFactory = new CachingMetadataReaderFactory(context);
+        this.classLoader = context.getClassLoader() != null ? context.getClassLoader() : ClassUtils.getDefaultClassLoader();
+        this.index = useIndex ? loadIndex() : null;
+    }
+
+    /**
+     * Loads the index, if the application itself was compiled with the {@link BeanMapperIndexProcessor}. An index
+     * without an application entry in the entity scan packages stems from libraries or other applications, and says
+     * nothing about the classes of this application.
+     */
+    private BeanMapperIndex loadIndex() {
+        BeanMapperIndex loadedIndex = BeanMapperIndex.load(classLoader).orElse(null);
+        if (loadedIndex == null) {
+            return null;
+        }
+        if (findApplicationClassName(loadedIndex).isEmpty()) {
+            log.info("BeanMapper index [{}] has no application entry in packages {}, falling back to classpath scanning.",
+                    BeanMapperIndex.INDEX_LOCATION, getEntityScanPackages());
+            return null;
+        }
+        log.info("Found BeanMapper index [{}], classpath scanning will be skipped.", BeanMapperIndex.INDEX_LOCATION);
+        return loadedIndex;
+    }
+
+    /**
+     * @return the packages the {@link EntityScanner} scans: those of {@code @EntityScan}, or else the
+     * auto-configuration packages, which hold the {@code @SpringBootApplication} class
+     */
+    private List<String> getEntityScanPackages() {
+        List<String> packages = EntityScanPackages.get(context).getPackageNames();
+        if (packages.isEmpty() && AutoConfigurationPackages.has(context)) {
+            packages = AutoConfigurationPackages.get(context);
+        }
+        return packages;
+    }
+
+    /**
+     * @return the indexed classes of the kind that reside in one of the entity scan packages
+     */
+    private Set<String> getEntityScanClassNames(BeanMapperIndex fromIndex, String kind) {
+        Set<String> classNames = new TreeSet<>();
+        getEntityScanPackages().forEach(basePackage -> classNames.addAll(fromIndex.getClassNames(kind, basePackage)));
+        return classNames;
+    }
+
+    /**
+     * Picks the indexed application in the entity scan packages. An application in the auto-configuration package
+     * itself is the one annotated with {@code @SpringBootApplication}, and wins over those in its sub-packages.
+     */
+    private Optional<String> findApplicationClassName(BeanMapperIndex fromIndex) {
+        List<String> packages = getEntityScanPackages();
+        return getEntityScanClassNames(fromIndex, BeanMapperIndex.APPLICATION).stream()
+                .min(Comparator.comparing(className -> !packages.contains(ClassUtils.getPackageName(className))));
+    }
+
+    /**
+     * @return whether the index is used for the base package, which it is when it has entries in that package
+     */
+    private boolean isIndexed(String basePackage) {
+        if (index == null) {
+            return false;
+        }
+        if (!index.covers(basePackage)) {
+            log.debug("BeanMapper index has no entries in package [{}], falling back to classpath scanning.", basePackage);
+            return false;
+        }
+        return true;
     }
 
     Optional<String> findApplicationPackage() {
+        return findApplicationClassName().map(ClassUtils::getPackageName);
+    }
+
+    Optional<String> findApplicationClassName() {
+        if (index != null) {
+            return findApplicationClassName(index);
+        }
         try {
             Set<Class<?>> appClasses = entityScanner.scan(SpringBootApplication.class);
             Class<?> appClass = appClasses.iterator().next();
-            return Optional.of(appClass.getPackage().getName());
+            return Optional.of(appClass.getName());
         } catch (ClassNotFoundException | NoSuchElementException e) {
             log.error("Cannot find class annotated with SpringBootApplication. ", e);
             return Optional.empty();
@@ -51,7 +160,17 @@ class ApplicationScanner {
     }
 
     Set<Class<?>> findBeanPairInstructions() {
-        Set<Class<?>> foundAnnotations = findBeanPairInstructions(BeanMapFromClass.class);
+        if (beanPairInstructions == null) {
+            beanPairInstructions = doFindBeanPairInstructions();
+        }
+        return beanPairInstructions;
+    }
+
+    private Set<Class<?>> doFindBeanPairInstructions() {
+        if (index != null) {
+            return loadClasses(getEntityScanClassNames(index, BeanMapperIndex.BEAN_PAIR), Object.class);
+        }
+        Set<Class<?>> foundAnnotations = new LinkedHashSet<>(findBeanPairInstructions(BeanMapFromClass.class));
         foundAnnotations.addAll(findBeanPairInstructions(BeanMapToClass.class));
         return foundAnnotations;
     }
@@ -65,31 +184,131 @@ class ApplicationScanner {
     }
 
     Set<Class<? extends BeanConverter>> findBeanConverterClasses(String basePackage) {
-        return findClasses(basePackage, BeanConverter.class);
+        return findClasses(basePackage, BeanConverter.class, BeanMapperIndex.BEAN_CONVERTER);
     }
 
     Set<Class<? extends CollectionHandler>> findCollectionHandlerClasses(String basePackage) {
-        return findClasses(basePackage, CollectionHandler.class);
+        return findClasses(basePackage, CollectionHandler.class, BeanMapperIndex.COLLECTION_HANDLER);
     }
 
     Set<Class<? extends LogicSecuredCheck>> findLogicSecuredCheckClasses(String basePackage) {
-        return findClasses(basePackage, LogicSecuredCheck.class);
+        return findClasses(basePackage, LogicSecuredCheck.class, BeanMapperIndex.LOGIC_SECURED_CHECK);
+    }
+
+    /**
+     * Finds the classes whose simple name ends with the strict source or strict target suffix. When the
+     * index is used, only the classes that matched the suffixes of the {@link BeanMapperIndexProcessor}
+     * are candidates.
+     */
+    Set<Class<?>> findStrictMappingClasses(String basePackage, String strictSourceSuffix, String strictTargetSuffix) {
+        Set<String> candidates = isIndexed(basePackage)
+                ? index.getClassNames(BeanMapperIndex.STRICT_MAPPING, basePackage)
+                : scan(basePackage).classNames();
+        Set<String> classNames = new TreeSet<>();
+        for (String className : candidates) {
+            String shortName = ClassUtils.getShortName(className);
+            if (shortName.endsWith(strictSourceSuffix) || shortName.endsWith(strictTargetSuffix)) {
+                classNames.add(className);
+            }
+        }
+        return loadClasses(classNames, Object.class);
+    }
+
+    private <T> Set<Class<? extends T>> findClasses(String basePackage, Class<T> lookForClass, String indexKind) {
+        Set<String> classNames = isIndexed(basePackage)
+                ? index.getClassNames(indexKind, basePackage)
+                : scan(basePackage).matches().get(lookForClass);
+        return loadClasses(classNames, lookForClass);
+    }
+
+    private <T> Set<Class<? extends T>> loadClasses(Collection<String> classNames, Class<T> lookForClass) {
+        Set<Class<? extends T>> classes = new LinkedHashSet<>();
+        classNames.forEach(className -> classes.add(ClassUtils.resolveClassName(className, classLoader).asSubclass(lookForClass)));
+        return classes;
+    }
+
+    private ScanResult scan(String basePackage) {
+        return scanResults.computeIfAbsent(basePackage, this::doScan);
+    }
+
+    private ScanResult doScan(String basePackage) {
+        ScanResult result = new ScanResult(new HashMap<>(), new TreeSet<>());
+        SCANNED_TYPES.forEach(type -> result.matches().put(type, new TreeSet<>()));
+
+        String pattern = ResourcePatternResolver.CLASSPATH_ALL_URL_PREFIX
+                + ClassUtils.convertClassNameToResourcePath(environment.resolveRequiredPlaceholders(basePackage))
+                + "/**/*.class";
+        try {
+            for (Resource resource : resourcePatternResolver.getResources(pattern)) {
+                if (!resource.isReadable()) {
+                    continue;
+                }
+                ClassMetadata classMetadata = metadataReaderFactory.getMetadataReader(resource).getClassMetadata();
+                if (classMetadata.isIndependent() && classMetadata.isConcrete()
+                        && !AUTOCONFIGURED_CLASS_NAMES.contains(classMetadata.getClassName())) {
+                    result.classNames().add(classMetadata.getClassName());
+                    getAssignableTypes(classMetadata).forEach(type -> result.matches().get(type).add(classMetadata.getClassName()));
+                }
+            }
+        } catch (IOException e) {
+            log.error("Cannot scan package [{}] for BeanMapper classes.", basePackage, e);
+        } finally {
+            metadataReaderFactory.clearCache();
+            assignableTypes.clear();
+        }
+        return result;
+    }
+
+    /**
+     * Determines which of the scanned types the class is assignable to, by walking its superclasses and
+     * interfaces. Works on class file metadata only, so no classes are loaded. Results are memoized, because
+     * most classes share (part of) their hierarchy.
+     */
+    private Set<Class<?>> getAssignableTypes(String className) {
+        Set<Class<?>> types = assignableTypes.get(className);
+        if (types != null) {
+            return types;
+        }
+        for (Class<?> scannedType : SCANNED_TYPES) {
+            if (scannedType.getName().equals(className)) {
+                types = Set.of(scannedType);
+            }
+        }
+        if (types == null) {
+            types = isJavaType(className) ? Collections.emptySet() : resolveAssignableTypes(className);
+        }
+        assignableTypes.put(className, types);
+        return types;
+    }
+
+    private Set<Class<?>> resolveAssignableTypes(String className) {
+        try {
+            MetadataReader metadataReader = metadataReaderFactory.getMetadataReader(className);
+            return getAssignableTypes(metadataReader.getClassMetadata());
+        } catch (IOException e) {
+            log.debug("Cannot read class metadata of [{}], skipping it in the type hierarchy.", className);
+            return Collections.emptySet();
+        }
+    }
+
+    private Set<Class<?>> getAssignableTypes(ClassMetadata classMetadata) {
+        Set<Class<?>> types = new HashSet<>();
+        if (classMetadata.hasSuperClass()) {
+            types.addAll(getAssignableTypes(classMetadata.getSuperClassName()));
+        }
+        for (String interfaceName : classMetadata.getInterfaceNames()) {
+            types.addAll(getAssignableTypes(interfaceName));
+        }
+        return types;
     }
 
-    private <T> Set<Class<? extends T>> findClasses(String basePackage, Class<T> lookForClass) {
-        Set<Class<? extends T>> converterClasses = new HashSet<>();
-        classpathScanner.addIncludeFilter(createTypeFilterForClass(lookForClass));
-        classpathScanner.findCandidateComponents(basePackage).forEach(
-                bd -> converterClasses.add((Class<T>) forName(bd.getBeanClassName())));
-        classpathScanner.resetFilters(false);
-        return converterClasses;
+    private static boolean isJavaType(String className) {
+        return className.startsWith("java.") || className.startsWith("javax.");
     }
 
-    private TypeFilter createTypeFilterForClass(Class<?> clazz) {
-        return (metadataReader, metadataReaderFactory) -> {
-            String className = metadataReader.getClassMetadata().getClassName();
-            Class<?> currentClass = Classes.forName(className);
-            return clazz.isAssignableFrom(currentClass);
-        };
+    /**
+     * The names of the classes found in a package, and the subset of those that match each scanned type.
+     */
+    private record ScanResult(Map<Class<?>, Set<String>> matches, Set<String> classNames) {
     }
 }
@@ -0,0 +1,70 @@
+package io.beanmapper.autoconfigure;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+import io.beanmapper.BeanMapper;
+
+/**
+ * Facade over a {@link BeanMapper} that maps on an {@link Executor}, so independent mappings, ie the result
+ * graphs of an aggregating endpoint, can overlap:
+ * <pre>
+ * CompletableFuture&lt;OrderResult&gt; order = asyncBeanMapper.mapAsync(orderEntity, OrderResult.class);
+ * CompletableFuture&lt;List&lt;InvoiceResult&gt;&gt; invoices = asyncBeanMapper.mapAsync(invoiceEntities, InvoiceResult.class);
+ * </pre>
+ * The mapping calls are made through the {@link InstrumentedBeanMapper}, so they are intercepted like the
+ * synchronous ones. The auto-configured executor carries the Spring Security context over to the mapping
+ * threads. Entities must be loaded before they are mapped asynchronously, because lazy loading uses the
+ * persistence context of the calling thread.
+ */
+public final class AsyncBeanMapper {
+
+    private final InstrumentedBeanMapper beanMapper;
+    private final Executor executor;
+
+    public AsyncBeanMapper(InstrumentedBeanMapper beanMapper, Executor executor) {
+        this.beanMapper = beanMapper;
+        this.executor = executor;
+    }
+
+    public <S, T> CompletableFuture<T> mapAsync(S source, Class<T> targetClass) {
+        return supply(() -> beanMapper.map(source, targetClass));
+    }
+
+    public <S, T> CompletableFuture<T> mapAsync(S source, T target) {
+        return supply(() -> beanMapper.map(source, target));
+    }
+
+    public <S, T> CompletableFuture<Collection<T>> mapAsync(Collection<S> sources, Class<T> targetClass) {
+        return supply(() -> beanMapper.map(sources, targetClass));
+    }
+
+    public <S, T> CompletableFuture<List<T>> mapAsync(List<S> sources, Class<T> targetClass) {
+        return supply(() -> beanMapper.map(sources, targetClass));
+    }
+
+    public <S, T> CompletableFuture<Set<T>> mapAsync(Set<S> sources, Class<T> targetClass) {
+        return supply(() -> beanMapper.map(sources, targetClass));
+    }
+
+    public <K, S, T> CompletableFuture<Map<K, T>> mapAsync(Map<K, S> sources, Class<T> targetClass) {
+        return supply(() -> beanMapper.map(sources, targetClass));
+    }
+
+    /**
+     * @return the executor the mappings run on
+     */
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    private <R> CompletableFuture<R> supply(Supplier<R> mapping) {
+        return CompletableFuture.supplyAsync(mapping, executor);
+    }
+
+}
@@ -0,0 +1,209 @@
+package io.beanmapper.autoconfigure;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.beanmapper.BeanMapper;
+import io.beanmapper.config.Configuration;
+import io.beanmapper.core.BeanPropertyMatch;
+import io.beanmapper.core.collections.CollectionHandler;
+import io.beanmapper.core.converter.BeanConverter;
+import io.beanmapper.core.converter.collections.BeanCollectionInstructions;
+import io.beanmapper.core.converter.collections.CollectionConverter;
+import io.beanmapper.exceptions.BeanConversionException;
+import jakarta.persistence.EntityNotFoundException;
+
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.core.EntityInformation;
+import org.springframework.data.repository.support.Repositories;
+
+/**
+ * Converts a collection of ids to a collection of entities with a single {@link CrudRepository#findAllById(Iterable)}
+ * query, instead of the {@link CrudRepository#findById(Object)} query per id the
+ * {@link io.beanmapper.spring.converter.IdToEntityBeanConverter} does for every element. The entities are added
+ * to the target collection in the order of their ids. When ids cannot be found, an {@link EntityNotFoundException}
+ * naming the missing ids is thrown. When an {@link IdToEntityCache} is given, only the ids that are not cached
+ * are queried.
+ * <p>
+ * All other collections are converted by the converter BeanMapper would have used without this one, normally
+ * its {@link CollectionConverter}. Like the converter store of BeanMapper, that converter is looked up once per
+ * unproxied source class and target class.
+ * <p>
+ * BeanMapper asks its converters by the collection classes only, so this converter is asked for every collection
+ * property. It is therefore only registered when {@code beanmapper.id-to-entity.batched} is enabled.
+ */
+public class BatchedIdToEntityBeanConverter implements BeanConverter {
+
+    private final Repositories repositories;
+    private final IdToEntityCache cache;
+    private final Map<List<Class<?>>, Optional<BeanConverter>> nextConverters = new ConcurrentHashMap<>();
+
+    public BatchedIdToEntityBeanConverter(ApplicationContext applicationContext) {
+        this(applicationContext, null);
+    }
+
+    public BatchedIdToEntityBeanConverter(ApplicationContext applicationContext, IdToEntityCache cache) {
+        this(new Repositories(applicationContext), cache);
+    }
+
+    BatchedIdToEntityBeanConverter(Repositories repositories, IdToEntityCache cache) {
+        this.repositories = repositories;
+        this.cache = cache;
+    }
+
+    @Override
+    public <S, T> T convert(BeanMapper beanMapper, S source, Class<T> targetClass, BeanPropertyMatch beanPropertyMatch) {
+        Class<?> elementType = getTargetElementType(beanPropertyMatch);
+        if (source == null || elementType == null || !repositories.hasRepositoryFor(elementType)) {
+            return convertWithNextConverter(beanMapper, source, targetClass, beanPropertyMatch);
+        }
+        EntityInformation<Object, Object> entityInformation = getEntityInformation(elementType);
+        Collection<?> ids = (Collection<?>) source;
+        if (!containsOnlyIds(ids, entityInformation.getIdType())) {
+            return convertWithNextConverter(beanMapper, source, targetClass, beanPropertyMatch);
+        }
+        CollectionHandler<?> collectionHandler = getCollectionHandler(beanMapper.getConfiguration(), targetClass);
+        if (collectionHandler == null || !Collection.class.isAssignableFrom(collectionHandler.getType())) {
+            return convertWithNextConverter(beanMapper, source, targetClass, beanPropertyMatch);
+        }
+        List<Object> entities = findAllInOrder(ids, elementType, entityInformation);
+        Collection<Object> target = getTargetCollection(beanMapper, collectionHandler, elementType, beanPropertyMatch);
+        target.addAll(entities);
+        return targetClass.cast(target);
+    }
+
+    @Override
+    public boolean match(Class<?> sourceClass, Class<?> targetClass) {
+        return Collection.class.isAssignableFrom(sourceClass) && Collection.class.isAssignableFrom(targetClass);
+    }
+
+    private Class<?> getTargetElementType(BeanPropertyMatch beanPropertyMatch) {
+        if (beanPropertyMatch == null) {
+            return null;
+        }
+        BeanCollectionInstructions instructions = beanPropertyMatch.getCollectionInstructions();
+        return instructions != null && instructions.getCollectionElementType() != null
+                ? instructions.getCollectionElementType().getType()
+                : null;
+    }
+
+    /**
+     * Looks up the handler in the store, because {@code OverrideConfiguration#getCollectionHandlerFor} calls
+     * itself in BeanMapper 6.0.
+     */
+    private CollectionHandler<?> getCollectionHandler(Configuration configuration, Class<?> targetClass) {
+        return configuration.getCollectionHandlerStore().getCollectionHandlerFor(targetClass, configuration.getBeanUnproxy());
+    }
+
+    @SuppressWarnings("unchecked")
+    private EntityInformation<Object, Object> getEntityInformation(Class<?> entityClass) {
+        return (EntityInformation<Object, Object>) repositories.getEntityInformationFor(entityClass);
+    }
+
+    private boolean containsOnlyIds(Collection<?> ids, Class<?> idType) {
+        for (Object id : ids) {
+            if (id != null && !idType.isInstance(id)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object> findAllInOrder(Collection<?> ids, Class<?> entityClass, EntityInformation<Object, Object> entityInformation) {
+        Set<Object> uniqueIds = new LinkedHashSet<>(ids);
+        uniqueIds.remove(null);
+        Map<Object, Object> entitiesById = new HashMap<>();
+        Set<Object> missingIds = new LinkedHashSet<>();
+        for (Object id : uniqueIds) {
+            Object cached = cache != null ? cache.get(entityClass, id) : null;
+            if (cached != null) {
+                entitiesById.put(id, cached);
+            } else {
+                missingIds.add(id);
+            }
+        }
+        if (!missingIds.isEmpty()) {
+            CrudRepository<Object, Object> repository = (CrudRepository<Object, Object>) repositories.getRepositoryFor(entityClass)
+                    .orElseThrow(() -> new EntityNotFoundException("No repository found for " + entityClass.getName()));
+            for (Object entity : repository.findAllById(new ArrayList<>(missingIds))) {
+                Object id = entityInformation.getId(entity);
+                entitiesById.put(id, entity);
+                missingIds.remove(id);
+                if (cache != null) {
+                    cache.put(entityClass, id, entity);
+                }
+            }
+        }
+        if (!missingIds.isEmpty()) {
+            throw new EntityNotFoundException("Unable to find " + entityClass.getName() + " with ids " + missingIds);
+        }
+        List<Object> entities = new ArrayList<>(ids.size());
+        for (Object id : ids) {
+            entities.add(id != null ? entitiesById.get(id) : null);
+        }
+        return entities;
+    }
+
+    /**
+     * Gets the target collection like the {@link CollectionConverter} does, so the collection usage, preferred
+     * collection class and flush after clear settings of the property are respected.
+     */
+    @SuppressWarnings("unchecked")
+    private Collection<Object> getTargetCollection(BeanMapper beanMapper, CollectionHandler<?> collectionHandler,
+            Class<?> elementType, BeanPropertyMatch beanPropertyMatch) {
+        BeanCollectionInstructions instructions = beanPropertyMatch.getCollectionInstructions();
+        Configuration configuration = beanMapper.wrap()
+                .setCollectionClass(collectionHandler.getType())
+                .setCollectionUsage(instructions.getBeanCollectionUsage())
+                .setPreferredCollectionClass(instructions.getPreferredCollectionClass().getAnnotationClass())
+                .setFlushAfterClear(instructions.getFlushAfterClear())
+                .setTargetClass(elementType)
+                .setTarget(beanPropertyMatch.getTargetObject())
+                .build()
+                .getConfiguration();
+        CollectionHandler<Object> handler = (CollectionHandler<Object>) collectionHandler;
+        return (Collection<Object>) handler.getTargetCollection(configuration.getCollectionUsage(),
+                configuration.getPreferredCollectionClass(), elementType, configuration.getTarget(),
+                configuration.getCollectionFlusher(), configuration.mustFlush());
+    }
+
+    private <S, T> T convertWithNextConverter(BeanMapper beanMapper, S source, Class<T> targetClass, BeanPropertyMatch beanPropertyMatch) {
+        if (source == null) {
+            return null;
+        }
+        Configuration configuration = beanMapper.getConfiguration();
+        Class<?> sourceClass = configuration.getBeanUnproxy().unproxy(source.getClass());
+        Optional<BeanConverter> nextConverter = nextConverters.computeIfAbsent(List.of(sourceClass, targetClass),
+                pair -> findNextConverter(configuration, sourceClass, targetClass));
+        if (nextConverter.isPresent()) {
+            return nextConverter.get().convert(beanMapper, source, targetClass, beanPropertyMatch);
+        }
+        if (targetClass.isInstance(source)) {
+            return targetClass.cast(source);
+        }
+        throw new BeanConversionException(sourceClass, targetClass);
+    }
+
+    /**
+     * Finds the first converter after this one that matches, which is the converter BeanMapper would choose
+     * without this one.
+     */
+    private Optional<BeanConverter> findNextConverter(Configuration configuration, Class<?> sourceClass, Class<?> targetClass) {
+        return configuration.getBeanConverters().stream()
+                .flatMap(BeanConverterIndex::unwrap)
+                .dropWhile(converter -> ObservedBeanConverter.unwrap(converter) != this)
+                .skip(1)
+                .filter(converter -> converter.match(sourceClass, targetClass))
+                .findFirst();
+    }
+
+}
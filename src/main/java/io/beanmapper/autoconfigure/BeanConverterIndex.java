@@ -0,0 +1,104 @@
+package io.beanmapper.autoconfigure;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Stream;
+
+import io.beanmapper.BeanMapper;
+import io.beanmapper.config.BeanMapperBuilder;
+import io.beanmapper.core.BeanPropertyMatch;
+import io.beanmapper.core.converter.BeanConverter;
+import io.beanmapper.core.unproxy.UnproxyResultStore;
+
+/**
+ * Dispatches to the first of its converters that matches a source and target class, like the {@link BeanMapper}
+ * does with its list of converters, but asks the converters only once per class pair. The choice is cached per
+ * source class in a {@link ClassValue}, including the class pairs no converter matches, so a lookup costs the same
+ * for 1 or 100 converters. The {@link BeanMapper} itself only caches the pairs a converter matches, and asks all
+ * converters again for the others, ie every nested bean, on every mapping call.
+ * <p>
+ * Installed by the {@link IndexingBeanMapperBuilder} in place of the converters added to the builder, when
+ * {@code beanmapper.converter-index.enabled} is true. The default converters of the {@link BeanMapper} follow the
+ * index, like they follow the custom converters otherwise.
+ */
+final class BeanConverterIndex implements BeanConverter {
+
+    private final List<BeanConverter> converters = new ArrayList<>();
+    private final ClassValue<ConcurrentMap<Class<?>, Optional<BeanConverter>>> choices = new ClassValue<>() {
+        @Override
+        protected ConcurrentMap<Class<?>, Optional<BeanConverter>> computeValue(Class<?> sourceClass) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    @Override
+    public boolean match(Class<?> sourceClass, Class<?> targetClass) {
+        return find(sourceClass, targetClass).isPresent();
+    }
+
+    @Override
+    public <S, T> T convert(BeanMapper beanMapper, S source, Class<T> targetClass, BeanPropertyMatch beanPropertyMatch) {
+        Class<?> sourceClass = getSourceClass(beanMapper, source, beanPropertyMatch);
+        BeanConverter converter = find(sourceClass, targetClass).orElseThrow(() -> new IllegalStateException(
+                "No indexed converter matches [" + sourceClass.getName() + "] -> [" + targetClass.getName() + "]."));
+        return converter.convert(beanMapper, source, targetClass, beanPropertyMatch);
+    }
+
+    List<BeanConverter> getConverters() {
+        return Collections.unmodifiableList(converters);
+    }
+
+    private void add(BeanConverter converter) {
+        converters.add(converter);
+    }
+
+    private Optional<BeanConverter> find(Class<?> sourceClass, Class<?> targetClass) {
+        ConcurrentMap<Class<?>, Optional<BeanConverter>> targetChoices = choices.get(sourceClass);
+        Optional<BeanConverter> choice = targetChoices.get(targetClass);
+        if (choice == null) {
+            choice = targetChoices.computeIfAbsent(targetClass, target -> converters.stream()
+                    .filter(converter -> converter.match(sourceClass, target))
+                    .findFirst());
+        }
+        return choice;
+    }
+
+    /**
+     * Determines the class the {@link BeanMapper} looked up the converter for: the unproxied class of the source
+     * property or, when the source itself is converted, of the source.
+     */
+    private Class<?> getSourceClass(BeanMapper beanMapper, Object source, BeanPropertyMatch beanPropertyMatch) {
+        Class<?> sourceClass = beanPropertyMatch != null ? beanPropertyMatch.getSourceClass() : source.getClass();
+        return UnproxyResultStore.getInstance().getOrComputeUnproxyResult(sourceClass, beanMapper.getConfiguration().getBeanUnproxy());
+    }
+
+    /**
+     * @return the converters of the index, or else the converter itself
+     */
+    static Stream<BeanConverter> unwrap(BeanConverter converter) {
+        return converter instanceof BeanConverterIndex index ? index.getConverters().stream() : Stream.of(converter);
+    }
+
+    /**
+     * Adds the converters to a {@link BeanConverterIndex}, which takes the place of the first converter in the list
+     * of converters of the {@link BeanMapper}.
+     */
+    static final class IndexingBeanMapperBuilder extends BeanMapperBuilder {
+
+        private final BeanConverterIndex index = new BeanConverterIndex();
+
+        @Override
+        public BeanMapperBuilder addConverter(BeanConverter converter) {
+            if (index.converters.isEmpty()) {
+                super.addConverter(index);
+            }
+            index.add(converter);
+            return this;
+        }
+    }
+
+}
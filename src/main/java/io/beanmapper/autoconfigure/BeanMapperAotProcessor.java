@@ -0,0 +1,95 @@
+package io.beanmapper.autoconfigure;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotContribution;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.ApplicationContext;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Runs the discovery of the {@link ApplicationScanner} at build time. The result is written as a
+ * {@link BeanMapperIndex} to the generated resources, so the scanner reads it at runtime instead of
+ * scanning the classpath, which is not possible in a native image. Reflection hints are registered
+ * for the found converters, collection handlers and logic secured checks, for the bean pairs and their
+ * generated mappers, and for the classes matching the strict source and target suffixes.
+ */
+class BeanMapperAotProcessor implements BeanFactoryInitializationAotProcessor {
+
+    private final Logger log = LoggerFactory.getLogger(BeanMapperAotProcessor.class);
+    private final ApplicationContext applicationContext;
+
+    BeanMapperAotProcessor(ApplicationContext applicationContext) {
+        this.applicationContext = applicationContext;
+    }
+
+    @Override
+    public BeanFactoryInitializationAotContribution processAheadOfTime(ConfigurableListableBeanFactory beanFactory) {
+        BeanMapperProperties props = Binder.get(applicationContext.getEnvironment())
+                .bindOrCreate("beanmapper", BeanMapperProperties.class);
+        ApplicationScanner scanner = new ApplicationScanner(applicationContext, props.isUseIndex());
+
+        Optional<String> applicationClassName = scanner.findApplicationClassName();
+        String packagePrefix = Optional.ofNullable(props.getPackagePrefix())
+                .or(() -> applicationClassName.map(ClassUtils::getPackageName))
+                .orElse(null);
+        if (packagePrefix == null) {
+            log.warn("Application package not found, no BeanMapper index and hints will be generated.");
+            return null;
+        }
+
+        Map<String, Set<String>> entries = new TreeMap<>();
+        applicationClassName.ifPresent(className -> addEntry(entries, className, BeanMapperIndex.APPLICATION));
+        List<Class<?>> instantiatedTypes = new ArrayList<>();
+        instantiatedTypes.addAll(addEntries(entries, scanner.findBeanConverterClasses(packagePrefix), BeanMapperIndex.BEAN_CONVERTER));
+        instantiatedTypes.addAll(addEntries(entries, scanner.findCollectionHandlerClasses(packagePrefix), BeanMapperIndex.COLLECTION_HANDLER));
+        instantiatedTypes.addAll(addEntries(entries, scanner.findLogicSecuredCheckClasses(packagePrefix), BeanMapperIndex.LOGIC_SECURED_CHECK));
+
+        Set<Class<?>> beanPairs = scanner.findBeanPairInstructions();
+        addEntries(entries, beanPairs, BeanMapperIndex.BEAN_PAIR);
+        List<Class<?>> mappedTypes = new ArrayList<>(beanPairs);
+        beanPairs.forEach(cls -> {
+            BeanMapToClass beanMapToClass = cls.getDeclaredAnnotation(BeanMapToClass.class);
+            BeanMapFromClass beanMapFromClass = cls.getDeclaredAnnotation(BeanMapFromClass.class);
+            if (beanMapToClass != null) {
+                mappedTypes.add(beanMapToClass.target());
+            } else if (beanMapFromClass != null) {
+                mappedTypes.add(beanMapFromClass.source());
+            }
+            if (props.getGeneratedMappers().isEnabled()) {
+                GeneratedBeanPairMapper.findClass(cls).ifPresent(instantiatedTypes::add);
+            }
+        });
+        mappedTypes.addAll(addEntries(entries,
+                scanner.findStrictMappingClasses(packagePrefix, props.getStrictSourceSuffix(), props.getStrictTargetSuffix()),
+                BeanMapperIndex.STRICT_MAPPING));
+
+        String index = BeanMapperIndex.format(entries);
+        return (generationContext, beanFactoryInitializationCode) -> {
+            generationContext.getGeneratedFiles().addResourceFile(BeanMapperIndex.INDEX_LOCATION, index);
+            BeanMapperRuntimeHints runtimeHints = new BeanMapperRuntimeHints();
+            runtimeHints.registerInstantiatedTypes(generationContext.getRuntimeHints().reflection(), instantiatedTypes);
+            runtimeHints.registerMappedTypes(generationContext.getRuntimeHints().reflection(), mappedTypes);
+        };
+    }
+
+    private static <T extends Class<?>> Collection<T> addEntries(Map<String, Set<String>> entries, Collection<T> classes, String kind) {
+        classes.forEach(cls -> addEntry(entries, cls.getName(), kind));
+        return classes;
+    }
+
+    private static void addEntry(Map<String, Set<String>> entries, String className, String kind) {
+        entries.computeIfAbsent(className, k -> new TreeSet<>()).add(kind);
+    }
+}
@@ -1,145 +1,437 @@
 package io.beanmapper.autoconfigure;
 
-import static java.util.Collections.singletonList;
 import static org.springframework.beans.BeanUtils.instantiateClass;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
 
 import io.beanmapper.BeanMapper;
 import io.beanmapper.annotations.LogicSecuredCheck;
 import io.beanmapper.config.BeanMapperBuilder;
+import io.beanmapper.config.BeanPair;
 import io.beanmapper.core.collections.CollectionHandler;
 import io.beanmapper.core.converter.BeanConverter;
-import io.beanmapper.spring.converter.IdToEntityBeanConverter;
-import io.beanmapper.spring.flusher.JpaAfterClearFlusher;
-import io.beanmapper.spring.security.SpringRoleSecuredCheck;
-import io.beanmapper.spring.unproxy.HibernateAwareBeanUnproxy;
-import io.beanmapper.spring.web.MergedFormMethodArgumentResolver;
-import io.beanmapper.spring.web.converter.StructuredJsonMessageConverter;
-import jakarta.annotation.Nonnull;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.observation.ObservationRegistry;
 import jakarta.annotation.PostConstruct;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.BeanInstantiationException;
-import org.springframework.beans.BeansException;
-import org.springframework.beans.factory.NoSuchBeanDefinitionException;
-import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.support.AbstractBeanDefinition;
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackages;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.condition.AnyNestedCondition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
-import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
-import org.springframework.boot.webmvc.autoconfigure.WebMvcAutoConfiguration;
 import org.springframework.context.ApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Conditional;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.context.annotation.EnableAspectJAutoProxy;
-import org.springframework.http.converter.json.JacksonJsonHttpMessageConverter;
-import tools.jackson.databind.json.JsonMapper;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.util.ClassUtils;
-import org.springframework.web.method.support.HandlerMethodArgumentResolver;
-import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 /**
- * In no BeanMapper bean is found, it will be created with sensible webapplication/spring-data-jpa mapping defaults.
- * It's possible to customize the BeanMapperBuilder by adding a bean of type {@link BeanMapperBuilderCustomizer}
- * to your configuration.
- * When a {@link JsonMapper} bean is found (Jackson is on the classpath), a {@link MergedFormMethodArgumentResolver}
- * will be added to the Spring MVC context.
+ * In no BeanMapper bean is found, it will be created with sensible defaults. The support for Spring Data JPA,
+ * Hibernate and Spring Security is contributed by the {@link BeanMapperJpaAutoConfig},
+ * {@link BeanMapperHibernateAutoConfig} and {@link BeanMapperSecurityAutoConfig} through ordered
+ * {@link BeanMapperBuilderCustomizer} beans, which are only loaded when those libraries are on the classpath.
+ * It's possible to customize the BeanMapperBuilder further by adding a bean of type {@link BeanMapperBuilderCustomizer}
+ * to your configuration. The web support is configured by the {@link BeanMapperWebAutoConfig}.
  */
 @Configuration
-@EnableAspectJAutoProxy
-@AutoConfigureAfter(WebMvcAutoConfiguration.class)
+@ImportRuntimeHints(BeanMapperRuntimeHints.class)
+@AutoConfigureAfter(name = { "org.springframework.boot.micrometer.metrics.autoconfigure.CompositeMeterRegistryAutoConfiguration",
+        "org.springframework.boot.micrometer.observation.autoconfigure.ObservationAutoConfiguration",
+        "org.springframework.boot.autoconfigure.availability.ApplicationAvailabilityAutoConfiguration" })
 @EnableConfigurationProperties(BeanMapperProperties.class)
 public class BeanMapperAutoConfig {
 
+    static final String STARTUP_STEP_PREFIX = "beanmapper.";
+    static final String ID_TO_ENTITY_CACHE_METRIC_NAME = "beanmapper.id-to-entity.cache";
+    static final String PARALLEL_EXECUTOR_BEAN_NAME = "beanMapperParallelExecutor";
+    static final String ASYNC_EXECUTOR_BEAN_NAME = "beanMapperTaskExecutor";
+    static final String BEAN_MAPPER_BEAN_NAME = "beanMapper";
+
+    /**
+     * The types of the beans that are looked up while the {@link BeanMapper} is built.
+     */
+    private static final List<Class<?>> BUILD_DEPENDENCY_TYPES = List.of(BeanMapperBuilderCustomizer.class, CollectionHandler.class,
+            BeanConverter.class, LogicSecuredCheck.class, SecurityContextPropagation.class, ManagedTypeDetector.class, ObservationRegistry.class);
+    private static final Duration BUILD_DEPENDENCY_POLL_INTERVAL = Duration.ofMillis(10);
+
     private final Logger log = LoggerFactory.getLogger(BeanMapperAutoConfig.class);
     private final BeanMapperProperties props;
     private final ApplicationContext applicationContext;
-    private final BeanMapperBuilderCustomizer builderCustomizer;
 
-    private ApplicationScanner collectionHandlerAppScanner;
-    private ApplicationScanner beanConverterAppScanner;
+    private ApplicationScanner applicationScanner;
+    private String packagePrefix;
 
-    public BeanMapperAutoConfig(final BeanMapperProperties props, final ApplicationContext applicationContext, @Autowired(required = false) final BeanMapperBuilderCustomizer builderCustomizer) {
+    public BeanMapperAutoConfig(final BeanMapperProperties props, final ApplicationContext applicationContext) {
         this.props = props;
         this.applicationContext = applicationContext;
-        this.builderCustomizer = builderCustomizer;
     }
 
     @PostConstruct
     private void initApplicationScanner() {
-        collectionHandlerAppScanner = new ApplicationScanner(applicationContext);
-        beanConverterAppScanner = new ApplicationScanner(applicationContext);
+        if (props.getScan().isEnabled()) {
+            applicationScanner = new ApplicationScanner(applicationContext, props.isUseIndex());
+        } else {
+            log.info("BeanMapper scanning is disabled, only the converters, collection handlers and logic secured checks "
+                    + "of the application context will be registered.");
+        }
     }
 
     /**
-     * Creates a {@link BeanMapper} bean with spring-data-jpa defaults.
-     * If a {@link BeanMapperBuilderCustomizer} bean is found, uses this to
-     * customize the builder before the {@link BeanMapper} is build.
+     * Runs the discovery of converters, collection handlers, logic secured checks and bean pairs
+     * ahead of time, when the application is processed for AOT / GraalVM native images.
+     * @param applicationContext the application context to discover the classes in
+     * @return BeanMapperAotProcessor
+     */
+    @Bean
+    static BeanMapperAotProcessor beanMapperAotProcessor(ApplicationContext applicationContext) {
+        return new BeanMapperAotProcessor(applicationContext);
+    }
+
+    /**
+     * Creates a {@link BeanMapper} bean. The {@link BeanMapperBuilderCustomizer} beans are applied to the
+     * builder in order before the {@link BeanMapper} is build.
      * @return BeanMapper
      */
     @Bean
     @ConditionalOnMissingBean(BeanMapper.class)
+    @ConditionalOnProperty(name = "beanmapper.bootstrap", havingValue = "default", matchIfMissing = true)
     public BeanMapper beanMapper() {
-        String packagePrefix = determinePackagePrefix();
-        BeanMapperBuilder builder = new BeanMapperBuilder()
-                .setApplyStrictMappingConvention(props.getApplyStrictMappingConvention())
-                .setStrictSourceSuffix(props.getStrictSourceSuffix())
-                .setStrictTargetSuffix(props.getStrictTargetSuffix())
-                .addPackagePrefix(packagePrefix);
+        return buildBeanMapper();
+    }
 
-        if (isSpringDataJpaOnClasspath()) {
-                builder.addConverter(new IdToEntityBeanConverter(applicationContext));
-        } else {
-            log.info("Spring Data JPA is not present on the classpath. BeanMapper's IdToEntityBeanConverter will not be activated");
+    /**
+     * Creates the {@link BeanMapper} bean like {@link #beanMapper()}, but on the bootstrap executor, so the
+     * scanning and validation run in parallel with the initialization of the other beans. Beans that need the
+     * {@link BeanMapper} during their own initialization wait for it; use the {@link BeanMapperHandle} to wait
+     * only when the {@link BeanMapper} is actually used, as the beans of this starter do.
+     * @return BeanMapper
+     */
+    @Bean(name = BEAN_MAPPER_BEAN_NAME, bootstrap = Bean.Bootstrap.BACKGROUND)
+    @ConditionalOnMissingBean(BeanMapper.class)
+    @ConditionalOnProperty(name = "beanmapper.bootstrap", havingValue = "background")
+    public BeanMapper backgroundBeanMapper() {
+        log.info("Building BeanMapper in the background.");
+        preloadScanResults();
+        awaitBuildDependencies();
+        return buildBeanMapper();
+    }
+
+    /**
+     * Makes the {@link BeanMapper} that is built in the background depend on the beans it looks up that the main
+     * thread does not create by itself: lazy beans, prototypes and the products of factory beans. A background
+     * thread may not create these, so they are created on the main thread before the build starts. The other beans
+     * are not created early; the build waits for the main thread to create them in its own time.
+     * @return BeanFactoryPostProcessor
+     */
+    @Bean
+    @ConditionalOnProperty(name = "beanmapper.bootstrap", havingValue = "background")
+    static BeanFactoryPostProcessor beanMapperBackgroundDependencies() {
+        return beanFactory -> {
+            if (!beanFactory.containsBeanDefinition(BEAN_MAPPER_BEAN_NAME)
+                    || !(beanFactory.getBeanDefinition(BEAN_MAPPER_BEAN_NAME) instanceof AbstractBeanDefinition definition)
+                    || !definition.isBackgroundInit()) {
+                return;
+            }
+            Set<String> dependsOn = new LinkedHashSet<>();
+            if (definition.getDependsOn() != null) {
+                dependsOn.addAll(List.of(definition.getDependsOn()));
+            }
+            getBuildDependencies(beanFactory).stream()
+                    .filter(beanName -> !isPreInstantiated(beanFactory, beanName))
+                    .forEach(dependsOn::add);
+            definition.setDependsOn(dependsOn.toArray(String[]::new));
+        };
+    }
+
+    private static Set<String> getBuildDependencies(ConfigurableListableBeanFactory beanFactory) {
+        Set<String> beanNames = new LinkedHashSet<>();
+        BUILD_DEPENDENCY_TYPES.forEach(type -> beanNames.addAll(List.of(beanFactory.getBeanNamesForType(type, true, false))));
+        if (beanFactory.containsBean(PARALLEL_EXECUTOR_BEAN_NAME)) {
+            beanNames.add(PARALLEL_EXECUTOR_BEAN_NAME);
         }
+        return beanNames;
+    }
 
-        addCollectionHandlers(builder, packagePrefix);
-        addCustomConverters(builder, packagePrefix);
-        addCustomBeanPairs(builder);
+    /**
+     * @return whether the main thread creates the bean by itself while it pre-instantiates the singletons
+     */
+    private static boolean isPreInstantiated(ConfigurableListableBeanFactory beanFactory, String beanName) {
+        if (!beanFactory.containsBeanDefinition(beanName)) {
+            return beanFactory.containsSingleton(beanName);
+        }
+        BeanDefinition definition = beanFactory.getMergedBeanDefinition(beanName);
+        return definition.isSingleton() && !definition.isLazyInit() && !definition.isAbstract() && !beanFactory.isFactoryBean(beanName);
+    }
 
-        if (isSpringDataJpaOnClasspath()) {
-            addAfterClearFlusher(builder);
-        } else {
-            log.info("Spring Data JPA is not present on the classpath. BeanMapper's afterClearFlusher will not be activated");
+    /**
+     * Scans the package prefix for the classes to register and loads them. This needs none of the beans the build
+     * looks up, so it overlaps with the creation of these beans on the main thread.
+     */
+    private void preloadScanResults() {
+        if (applicationScanner == null) {
+            return;
         }
+        String basePackage = getPackagePrefix();
+        applicationScanner.findCollectionHandlerClasses(basePackage);
+        applicationScanner.findBeanConverterClasses(basePackage);
+        applicationScanner.findBeanPairInstructions();
+        applicationScanner.findLogicSecuredCheckClasses(basePackage);
+    }
 
-        if (isSpringSecurityOnClasspath()) {
-            setSecuredChecks(builder, packagePrefix);
-        } else {
-            log.info("Spring Security is not present on the classpath. BeanMapper's @BeanLogicSecured and @BeanRoleSecured annotations will not be processed.");
+    /**
+     * Waits until the main thread has created the beans the build looks up, because a background thread may not
+     * create them itself. The beans the main thread does not create by itself have been created before the build
+     * started, see {@link #beanMapperBackgroundDependencies()}.
+     */
+    private void awaitBuildDependencies() {
+        ConfigurableApplicationContext context = (ConfigurableApplicationContext) applicationContext;
+        ConfigurableListableBeanFactory beanFactory = context.getBeanFactory();
+        try {
+            for (String beanName : getBuildDependencies(beanFactory)) {
+                while (!beanFactory.containsSingleton(beanName)) {
+                    if (!context.isActive()) {
+                        throw new IllegalStateException("Application context was closed before bean [" + beanName + "] was created.");
+                    }
+                    Thread.sleep(BUILD_DEPENDENCY_POLL_INTERVAL.toMillis());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the beans to build the BeanMapper with.", e);
+        }
+    }
+
+    /**
+     * Creates a {@link BeanMapperHandle}, which gives access to the {@link BeanMapper} without waiting for it
+     * while the application context is initialized.
+     * @return BeanMapperHandle
+     */
+    @Bean
+    @ConditionalOnMissingBean(BeanMapperHandle.class)
+    public BeanMapperHandle beanMapperHandle() {
+        return new BeanMapperHandle(applicationContext.getBeanProvider(BeanMapper.class));
+    }
+
+    private BeanMapper buildBeanMapper() {
+        try {
+            BeanMapper beanMapper = doBuildBeanMapper();
+            beanMapperHandle().complete(beanMapper);
+            return beanMapper;
+        } catch (RuntimeException e) {
+            beanMapperHandle().completeExceptionally(e);
+            throw e;
         }
+    }
+
+    private BeanMapper doBuildBeanMapper() {
+        BeanMapperBuilder builder = props.getConverterIndex().isEnabled()
+                ? new BeanConverterIndex.IndexingBeanMapperBuilder()
+                : new BeanMapperBuilder();
+        builder.setApplyStrictMappingConvention(props.getApplyStrictMappingConvention())
+                .setStrictSourceSuffix(props.getStrictSourceSuffix())
+                .setStrictTargetSuffix(props.getStrictTargetSuffix())
+                .addPackagePrefix(getPackagePrefix());
+        logMissingOptionalDependencies();
 
-        setUnproxy(builder);
-        customize(builder);
+        // looked up through the context, because an injected provider would skip the customizer of this class
+        applicationContext.getBeanProvider(BeanMapperBuilderCustomizer.class).orderedStream().forEach(customizer -> {
+            log.debug("Customizing BeanMapperBuilder with [{}].", customizer);
+            customizer.customize(builder);
+        });
+        StartupStep step = startStep("build");
         BeanMapper beanMapper = builder.build();
         if (props.getDiagnosticsDetailLevel().isEnabled()) {
             beanMapper = beanMapper.wrap(props.getDiagnosticsDetailLevel()).build();
         }
+        step.end();
         return beanMapper;
     }
 
-    private void setSecuredChecks(BeanMapperBuilder builder, String packagePrefix) {
-        if (!props.getApplySecuredProperties()) {
-            return;
+    private void logMissingOptionalDependencies() {
+        ClassLoader classLoader = applicationContext.getClassLoader();
+        if (props.isUseHibernateUnproxy() && !ClassUtils.isPresent("org.hibernate.proxy.HibernateProxy", classLoader)) {
+            log.warn("use-hibernate-unproxy was set to true, but no Hibernate / Spring Data JPA was found on your classpath. Did you perhaps forget to include spring-boot-start-data-jpa in your project?");
+        }
+        if (props.getApplySecuredProperties()
+                && !ClassUtils.isPresent("org.springframework.security.authentication.AuthenticationManager", classLoader)) {
+            log.info("Spring Security is not present on the classpath. BeanMapper's @BeanLogicSecured and @BeanRoleSecured annotations will not be processed.");
         }
-        addLogicSecuredChecks(builder, packagePrefix);
-        builder.setSecuredPropertyHandler(new SpringRoleSecuredCheck());
     }
 
-    private void addAfterClearFlusher(BeanMapperBuilder builder) {
-        jakarta.persistence.EntityManager entityManager;
+    /**
+     * Registers the {@link CollectionHandler} and {@link BeanConverter} beans of the application context, followed by
+     * the collection handlers, converters and bean pairs found under the package prefix. Classes found by the scan that are also a bean are only registered as bean.
+     * The mappers generated for the bean pairs are registered as converters, unless {@code beanmapper.generated-mappers.enabled}
+     * is false.
+     * The scan is skipped when {@code beanmapper.scan.enabled} is false. It runs after the converters of the
+     * {@link BeanMapperJpaAutoConfig}, so these take precedence over the scanned ones like before.
+     * @return BeanMapperBuilderCustomizer
+     */
+    @Bean
+    @Order(BeanMapperBuilderCustomizer.SCAN_ORDER)
+    public BeanMapperBuilderCustomizer beanMapperScanCustomizer() {
+        return builder -> {
+            String basePackage = getPackagePrefix();
+            StartupStep step = startStep("collection-handlers");
+            addParallelCollectionHandlers(builder);
+            Set<Class<?>> beanClasses = addBeans(CollectionHandler.class, "collection handler", builder::addCollectionHandler);
+            if (applicationScanner != null) {
+                addCollectionHandlers(builder, basePackage, beanClasses);
+            }
+            step.end();
+            step = startStep("converters");
+            beanClasses = addBeans(BeanConverter.class, "bean converter", converter -> addConverter(builder, converter));
+            if (applicationScanner != null) {
+                addCustomConverters(builder, basePackage, beanClasses);
+            }
+            step.end();
+            if (applicationScanner != null) {
+                step = startStep("bean-pairs");
+                addCustomBeanPairs(builder);
+                step.end();
+            }
+        };
+    }
 
-        try {
-            entityManager = applicationContext.getBean(jakarta.persistence.EntityManager.class);
-        } catch (NoSuchBeanDefinitionException e) {
-            log.warn("No EntityManager bean has been configured within your application. BeanMapper's afterClearFlusher can not be activated.");
-            return;
+    /**
+     * Registers the {@link LogicSecuredCheck} beans of the application context, followed by the logic secured checks
+     * found under the package prefix. Called by the {@link BeanMapperSecurityAutoConfig}, as the checks are only
+     * processed with Spring Security on the classpath.
+     * @param builder the builder to register the logic secured checks with
+     */
+    void addLogicSecuredChecks(BeanMapperBuilder builder) {
+        StartupStep step = startStep("logic-secured-checks");
+        Set<Class<?>> beanClasses = addBeans(LogicSecuredCheck.class, "logic secured check", builder::addLogicSecuredCheck);
+        if (applicationScanner != null) {
+            addLogicSecuredChecks(builder, getPackagePrefix(), beanClasses);
         }
+        step.end();
+    }
+
+    /**
+     * Creates a {@link BeanMapperWarmUp} that pre-computes the mapping metadata of the bean pairs and the strict
+     * mapping pairs during startup.
+     * The auto-configuration runs after the availability one, so the {@link BeanMapperWarmUp} receives the readiness
+     * events after the ApplicationAvailability bean and its own readiness state is the one that sticks.
+     * @param beanMapperHandle the bean mapper to warm up
+     * @return BeanMapperWarmUp
+     */
+    @Bean
+    @ConditionalOnProperty(name = "beanmapper.warmup.enabled", havingValue = "true")
+    public BeanMapperWarmUp beanMapperWarmUp(BeanMapperHandle beanMapperHandle) {
+        return new BeanMapperWarmUp(beanMapperHandle, this::findStrictMappingPairs, applicationContext);
+    }
+
+    /**
+     * Creates an {@link InstrumentedBeanMapper} that runs the mapping calls through all
+     * {@link BeanMappingInterceptor} beans, ie the {@link BeanMapperMetrics}. The {@link BeanMapper} is resolved
+     * on first use, so this bean and the beans built on it do not wait for a {@link BeanMapper} that is built in
+     * the background.
+     * @param beanMapperHandle the bean mapper to delegate to
+     * @param interceptors the interceptors, in order
+     * @return InstrumentedBeanMapper
+     */
+    @Bean
+    @ConditionalOnMissingBean(InstrumentedBeanMapper.class)
+    public InstrumentedBeanMapper instrumentedBeanMapper(BeanMapperHandle beanMapperHandle, ObjectProvider<BeanMappingInterceptor> interceptors) {
+        return new InstrumentedBeanMapper(beanMapperHandle, interceptors.orderedStream().toList());
+    }
+
+    /**
+     * Creates an {@link AsyncBeanMapper}, which maps on the {@link TaskExecutor} bean named
+     * {@code beanMapperTaskExecutor} or, without one, on a new virtual thread per mapping. When Spring Security
+     * is present, the security context of the caller is carried over to the mapping thread by the
+     * {@link SecurityContextPropagation} of the {@link BeanMapperSecurityAutoConfig}.
+     * @param instrumentedBeanMapper the bean mapper to delegate to
+     * @param taskExecutor the user-supplied executor, if any
+     * @return AsyncBeanMapper
+     */
+    @Bean
+    @ConditionalOnMissingBean(AsyncBeanMapper.class)
+    public AsyncBeanMapper asyncBeanMapper(InstrumentedBeanMapper instrumentedBeanMapper,
+            @Qualifier(ASYNC_EXECUTOR_BEAN_NAME) ObjectProvider<TaskExecutor> taskExecutor) {
+        Executor executor = taskExecutor.getIfAvailable(() -> {
+            SimpleAsyncTaskExecutor virtualThreadExecutor = new SimpleAsyncTaskExecutor("beanmapper-async-");
+            virtualThreadExecutor.setVirtualThreads(true);
+            return virtualThreadExecutor;
+        });
+        SecurityContextPropagation propagation = applicationContext.getBeanProvider(SecurityContextPropagation.class).getIfAvailable();
+        return new AsyncBeanMapper(instrumentedBeanMapper, propagation != null ? propagation.propagateTo(executor) : executor);
+    }
+
+    /**
+     * Creates a {@link StreamingBeanMapper}, which maps streams lazily. When JPA is present, it releases the
+     * streamed entities as configured with {@code beanmapper.streaming.release}, and when a transaction manager
+     * is present, mapped streams are written within a read-only transaction.
+     * @param instrumentedBeanMapper the bean mapper to map the elements with
+     * @param release releases the mapped entities from the persistence context
+     * @param scope the scope mapped streams are consumed in
+     * @return StreamingBeanMapper
+     */
+    @Bean
+    @ConditionalOnMissingBean(StreamingBeanMapper.class)
+    public StreamingBeanMapper streamingBeanMapper(InstrumentedBeanMapper instrumentedBeanMapper, ObjectProvider<PersistenceContextRelease> release,
+            ObjectProvider<StreamingScope> scope) {
+        return new StreamingBeanMapper(instrumentedBeanMapper, release.getIfAvailable(() -> PersistenceContextRelease.NONE),
+                scope.getIfAvailable(() -> StreamingScope.NONE));
+    }
+
+    /**
+     * Starts a step of the {@link ApplicationStartup} of the context, so the duration of the phases of
+     * {@link #beanMapper()} show up in the startup metrics, ie the startup actuator endpoint.
+     */
+    private StartupStep startStep(String phase) {
+        ApplicationStartup applicationStartup = applicationContext instanceof ConfigurableApplicationContext configurableContext
+                ? configurableContext.getApplicationStartup()
+                : ApplicationStartup.DEFAULT;
+        return applicationStartup.start(STARTUP_STEP_PREFIX + phase);
+    }
 
-        builder.addAfterClearFlusher(new JpaAfterClearFlusher(entityManager));
+    /**
+     * Determines the package prefix once, also when the customizers are applied on the bootstrap executor.
+     */
+    private synchronized String getPackagePrefix() {
+        if (packagePrefix == null) {
+            StartupStep step = startStep("package-prefix");
+            packagePrefix = determinePackagePrefix();
+            step.tag("packagePrefix", packagePrefix).end();
+        }
+        return packagePrefix;
     }
 
     private String determinePackagePrefix() {
@@ -147,7 +439,7 @@ public class BeanMapperAutoConfig {
         if (packagePrefix == null) {
             log.info("No beanmapper.package-prefix found in environment properties, "
                     + "defaulting to SpringBootApplication annotated class package.");
-            packagePrefix = beanConverterAppScanner.findApplicationPackage()
+            packagePrefix = findApplicationPackage()
                     .orElseThrow(() -> new RuntimeException(
                             "Application package not found, define beanmapper.package-prefix property in your environment!"));
         }
@@ -155,51 +447,164 @@ public class BeanMapperAutoConfig {
         return packagePrefix;
     }
 
+    /**
+     * Without scanning, the package of the {@link org.springframework.boot.autoconfigure.SpringBootApplication}
+     * annotated class is taken from the auto-configuration packages.
+     */
+    private Optional<String> findApplicationPackage() {
+        if (applicationScanner != null) {
+            return applicationScanner.findApplicationPackage();
+        }
+        return AutoConfigurationPackages.has(applicationContext)
+                ? AutoConfigurationPackages.get(applicationContext).stream().findFirst()
+                : Optional.empty();
+    }
+
     private void addCustomBeanPairs(BeanMapperBuilder builder) {
-        beanConverterAppScanner.findBeanPairInstructions().forEach(cls -> {
+        applicationScanner.findBeanPairInstructions().forEach(cls -> {
             BeanMapToClass beanMapToClass = cls.getDeclaredAnnotation(BeanMapToClass.class);
             BeanMapFromClass beanMapFromClass = cls.getDeclaredAnnotation(BeanMapFromClass.class);
             if (beanMapToClass != null) {
                 builder.addBeanPairWithStrictSource(cls, beanMapToClass.target());
+                addGeneratedMapper(builder, cls, cls, beanMapToClass.target());
             } else if (beanMapFromClass != null) {
                 builder.addBeanPairWithStrictTarget(beanMapFromClass.source(), cls);
+                addGeneratedMapper(builder, cls, beanMapFromClass.source(), cls);
             }
         });
     }
 
-    private void addLogicSecuredChecks(BeanMapperBuilder builder, String basePackage) {
-        collectionHandlerAppScanner.findLogicSecuredCheckClasses(basePackage).forEach(cls -> {
-            LogicSecuredCheck<?, ?> logicSecuredCheck = instantiateClassAppContextOptional(cls, "logic secured check");
-            if (logicSecuredCheck == null) {
-                try {
-                    logicSecuredCheck = this.applicationContext.getBean(cls);
-                } catch (BeansException e) {
-                    log.error("Could not instantiate class [{}] as Spring Bean.", cls.getName());
-                    return;
-                }
+    /**
+     * Pairs the classes following the strict mapping convention with the class of the same name without the suffix in
+     * the same package, ie {@code PersonForm} with {@code Person}. These pairs are not declared, so this is the best
+     * guess of the pairs the application maps. Called after the {@link BeanMapper} is built, so the scanner is not
+     * used by two threads at the same time.
+     * @return the source/target pairs of the strict mapping classes
+     */
+    synchronized List<BeanPair> findStrictMappingPairs() {
+        if (applicationScanner == null || !props.getApplyStrictMappingConvention()) {
+            return List.of();
+        }
+        String sourceSuffix = props.getStrictSourceSuffix();
+        String targetSuffix = props.getStrictTargetSuffix();
+        List<BeanPair> beanPairs = new ArrayList<>();
+        for (Class<?> cls : applicationScanner.findStrictMappingClasses(getPackagePrefix(), sourceSuffix, targetSuffix)) {
+            if (cls.getName().endsWith(sourceSuffix)) {
+                findClassWithoutSuffix(cls, sourceSuffix).ifPresent(target -> beanPairs.add(new BeanPair(cls, target)));
+            }
+            if (cls.getName().endsWith(targetSuffix)) {
+                findClassWithoutSuffix(cls, targetSuffix).ifPresent(source -> beanPairs.add(new BeanPair(source, cls)));
             }
-            builder.addLogicSecuredCheck(logicSecuredCheck);
+        }
+        log.debug("Found [{}] strict mapping pairs.", beanPairs.size());
+        return beanPairs;
+    }
+
+    private static Optional<Class<?>> findClassWithoutSuffix(Class<?> cls, String suffix) {
+        if (suffix.isEmpty()) {
+            return Optional.empty();
+        }
+        String className = cls.getName().substring(0, cls.getName().length() - suffix.length());
+        ClassLoader classLoader = cls.getClassLoader();
+        return ClassUtils.isPresent(className, classLoader)
+                ? Optional.of(ClassUtils.resolveClassName(className, classLoader))
+                : Optional.empty();
+    }
+
+    /**
+     * Registers the mapper the {@link BeanPairMapperProcessor} generated for the bean pair as converter, ahead of the
+     * default converters. Without a generated mapper, the pair is mapped reflectively.
+     */
+    private void addGeneratedMapper(BeanMapperBuilder builder, Class<?> beanPairClass, Class<?> source, Class<?> target) {
+        if (!props.getGeneratedMappers().isEnabled()) {
+            return;
+        }
+        Optional<Class<?>> mapperClass = GeneratedBeanPairMapper.findClass(beanPairClass);
+        if (mapperClass.isEmpty()) {
+            log.debug("No generated mapper found for bean pair [{}], it is mapped reflectively.", beanPairClass);
+            return;
+        }
+        GeneratedBeanPairMapper<?, ?> mapper = (GeneratedBeanPairMapper<?, ?>) instantiateClass(mapperClass.get());
+        if (mapper.getSourceClass() != source || mapper.getTargetClass() != target) {
+            log.warn("Generated mapper [{}] does not map bean pair [{}] -> [{}], it will be skipped. Recompile the bean pair.",
+                    mapperClass.get(), source, target);
+            return;
+        }
+        addConverter(builder, new GeneratedBeanPairConverter(mapper));
+        log.info("Added generated mapper [{}] to bean mapper.", mapperClass.get());
+    }
+
+    private void addLogicSecuredChecks(BeanMapperBuilder builder, String basePackage, Set<Class<?>> beanClasses) {
+        applicationScanner.findLogicSecuredCheckClasses(basePackage).forEach(cls -> {
+            LogicSecuredCheck<?, ?> logicSecuredCheck = instantiateScannedClass(cls, "logic secured check", beanClasses);
+            if (logicSecuredCheck != null) {
+                builder.addLogicSecuredCheck(logicSecuredCheck);
+            }
+        });
+    }
+
+    /**
+     * Registers the beans of the given type with the builder, in order.
+     * @return the classes of the registered beans, which are skipped by the scan
+     */
+    private <T> Set<Class<?>> addBeans(Class<T> type, String label, Consumer<T> registration) {
+        Set<Class<?>> beanClasses = new HashSet<>();
+        applicationContext.getBeanProvider(type).orderedStream().forEach(bean -> {
+            registration.accept(bean);
+            beanClasses.add(ClassUtils.getUserClass(bean));
+            log.info("Added [{}] bean [{}] to bean mapper.", label, bean.getClass());
         });
+        return beanClasses;
     }
 
-    private void addCollectionHandlers(BeanMapperBuilder builder, String basePackage) {
-        collectionHandlerAppScanner.findCollectionHandlerClasses(basePackage).forEach(cls -> {
-            CollectionHandler<?> collectionHandler = instantiateClassAppContextOptional(cls, "collection handler");
+    private void addParallelCollectionHandlers(BeanMapperBuilder builder) {
+        BeanMapperProperties.Parallel parallel = props.getParallel();
+        if (parallel.getThreshold() <= 0) {
+            return;
+        }
+        SecurityContextPropagation propagation = applicationContext.getBeanProvider(SecurityContextPropagation.class).getIfAvailable();
+        ParallelCollectionMapping parallelMapping = new ParallelCollectionMapping(
+                applicationContext.getBean(PARALLEL_EXECUTOR_BEAN_NAME, ExecutorService.class),
+                parallel.getThreshold(),
+                parallel.effectiveParallelism(),
+                applicationContext.getBeanProvider(ManagedTypeDetector.class).getIfAvailable(() -> ManagedTypeDetector.NONE),
+                propagation != null ? propagation::decorate : UnaryOperator.identity());
+        builder.addCollectionHandler(new ParallelListCollectionHandler(parallelMapping));
+        builder.addCollectionHandler(new ParallelSetCollectionHandler(parallelMapping));
+        log.info("Lists and sets of at least {} elements will be mapped in parallel on the {} executor.",
+                parallel.getThreshold(), parallel.getExecutor());
+    }
+
+    private void addCollectionHandlers(BeanMapperBuilder builder, String basePackage, Set<Class<?>> beanClasses) {
+        applicationScanner.findCollectionHandlerClasses(basePackage).forEach(cls -> {
+            CollectionHandler<?> collectionHandler = instantiateScannedClass(cls, "collection handler", beanClasses);
             if (collectionHandler != null) {
                 builder.addCollectionHandler(collectionHandler);
             }
         });
     }
 
-    private void addCustomConverters(BeanMapperBuilder builder, String basePackage) {
-        beanConverterAppScanner.findBeanConverterClasses(basePackage).forEach(cls -> {
-            BeanConverter converter = instantiateClassAppContextOptional(cls,"bean converter");
+    private void addCustomConverters(BeanMapperBuilder builder, String basePackage, Set<Class<?>> beanClasses) {
+        applicationScanner.findBeanConverterClasses(basePackage).forEach(cls -> {
+            BeanConverter converter = instantiateScannedClass(cls, "bean converter", beanClasses);
             if (converter != null) {
-                builder.addConverter(converter);
+                addConverter(builder, converter);
             }
         });
     }
 
+    private void addConverter(BeanMapperBuilder builder, BeanConverter converter) {
+        builder.addConverter(ObservedBeanConverter.observeIfEnabled(converter, props, applicationContext.getBeanProvider(ObservationRegistry.class)));
+    }
+
+    private <T> T instantiateScannedClass(Class<T> cls, String label, Set<Class<?>> beanClasses) {
+        if (beanClasses.contains(cls)) {
+            log.debug("Skipping {} candidate class [{}], it has been added as bean.", label, cls);
+            return null;
+        }
+        return instantiateClassAppContextOptional(cls, label);
+    }
+
     private <T> T instantiateClassAppContextOptional(Class<T> cls, String label) {
 
         log.info("Found {} candidate class [{}], now trying to instantiate...", label, cls);
@@ -220,76 +625,165 @@ public class BeanMapperAutoConfig {
         return null;
     }
 
-    private void setUnproxy(BeanMapperBuilder builder) {
-        if (props.isUseHibernateUnproxy()) {
-            if (isHibernateOnClasspath()) {
-                builder.setBeanUnproxy(new HibernateAwareBeanUnproxy());
-                log.info("Set HibernateAwareUnproxy as bean unproxy mechanism.");
-            } else {
-                log.warn("use-hibernate-unproxy was set to true, but no Hibernate / Spring Data JPA was found on your classpath. Did you perhaps forget to include spring-boot-start-data-jpa in your project?");
-            }
+    @Configuration
+    @ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+    @ConditionalOnProperty(name = "beanmapper.metrics.enabled", havingValue = "true", matchIfMissing = true)
+    static class MetricsConfig {
 
-        } else {
-            log.info("use-hibernate-unproxy set to false, keeping default unproxy mechanism.");
+        /**
+         * If a {@link MeterRegistry} bean is found, records a timer per source/target pair for the mapping
+         * calls made through the {@link InstrumentedBeanMapper}. Skipped when the mapping calls are observed, as
+         * the meter observation handler then records a {@code beanmapper.mapping} timer for them already.
+         */
+        @Bean
+        @ConditionalOnBean(MeterRegistry.class)
+        @ConditionalOnMissingBean(BeanMapperMetrics.class)
+        @Conditional(NoMappingObservationCondition.class)
+        public BeanMapperMetrics beanMapperMetrics(MeterRegistry meterRegistry, BeanMapperProperties props) {
+            return new BeanMapperMetrics(meterRegistry, props.getMetrics().getMaxPairs());
+        }
+
+        /**
+         * Publishes the hits and misses of the {@link IdToEntityCache} as {@code beanmapper.id-to-entity.cache}
+         * counters, when the cache is enabled.
+         */
+        @Bean
+        public MeterBinder beanMapperIdToEntityCacheMetrics(ObjectProvider<IdToEntityCache> idToEntityCache) {
+            return registry -> idToEntityCache.ifAvailable(cache -> {
+                FunctionCounter.builder(ID_TO_ENTITY_CACHE_METRIC_NAME, cache, IdToEntityCache::getHits)
+                        .description("Entity lookups by id served from the cache")
+                        .tag("result", "hit")
+                        .register(registry);
+                FunctionCounter.builder(ID_TO_ENTITY_CACHE_METRIC_NAME, cache, IdToEntityCache::getMisses)
+                        .description("Entity lookups by id that were not cached")
+                        .tag("result", "miss")
+                        .register(registry);
+            });
         }
     }
 
-    private void customize(BeanMapperBuilder builder) {
-        if (builderCustomizer != null) {
-            log.info("Customizing BeanMapperBuilder...");
-            builderCustomizer.customize(builder);
+    @Configuration
+    @ConditionalOnExpression("${beanmapper.diagnostics.sample-rate:0} > 0 or '${beanmapper.diagnostics.slow-threshold:}' != ''")
+    static class DiagnosticsSamplingConfig {
+
+        /**
+         * Records the diagnostics of a sample of the mapping calls made through the {@link InstrumentedBeanMapper},
+         * as configured with {@code beanmapper.diagnostics.*}.
+         */
+        @Bean
+        @ConditionalOnMissingBean(DiagnosticsSampler.class)
+        public DiagnosticsSampler beanMapperDiagnosticsSampler(BeanMapperProperties props) {
+            BeanMapperProperties.Diagnostics diagnostics = props.getDiagnostics();
+            return new DiagnosticsSampler(diagnostics.getSampleRate(), diagnostics.getSlowThreshold(), diagnostics.getLevel(),
+                    diagnostics.getBufferSize());
         }
     }
 
     @Configuration
-    @ConditionalOnWebApplication
-    @ConditionalOnClass({ org.springframework.data.repository.core.EntityInformation.class })
-    static class MergedFormConfig implements WebMvcConfigurer {
+    @ConditionalOnProperty(name = "beanmapper.slow-mapping-threshold")
+    static class SlowMappingConfig {
+
+        /**
+         * Logs the mapping calls made through the {@link InstrumentedBeanMapper} that take longer than
+         * {@code beanmapper.slow-mapping-threshold}.
+         */
+        @Bean
+        @ConditionalOnMissingBean(SlowMappingDetector.class)
+        public SlowMappingDetector beanMapperSlowMappingDetector(BeanMapperProperties props,
+                ObjectProvider<SqlStatementCounter> sqlStatementCounter) {
+            SqlStatementCounter counter = sqlStatementCounter.getIfAvailable();
+            return new SlowMappingDetector(props.getSlowMappingThreshold(), counter != null ? counter::getCount : null);
+        }
+    }
 
-        private final Logger log = LoggerFactory.getLogger(MergedFormConfig.class);
-        private final JsonMapper jsonMapper;
-        private final BeanMapper beanMapper;
-        private final ApplicationContext applicationContext;
-        private final jakarta.persistence.EntityManager entityManager;
+    @Configuration
+    @ConditionalOnExpression("${beanmapper.parallel.threshold:0} > 0")
+    static class ParallelConfig {
 
-        public MergedFormConfig(@Autowired(required = false) final JsonMapper jsonMapper,
-                final BeanMapper beanMapper, final ApplicationContext applicationContext, @Autowired(required = false) final jakarta.persistence.EntityManager entityManager) {
-            this.jsonMapper = jsonMapper;
-            this.beanMapper = beanMapper;
-            this.applicationContext = applicationContext;
-            this.entityManager = entityManager;
+        /**
+         * Creates the executor the elements of large collections are mapped on, as configured with
+         * {@code beanmapper.parallel.executor}. It is shut down with the application context.
+         */
+        @Bean(name = PARALLEL_EXECUTOR_BEAN_NAME)
+        public ExecutorService beanMapperParallelExecutor(BeanMapperProperties props) {
+            BeanMapperProperties.Parallel parallel = props.getParallel();
+            return switch (parallel.getExecutor()) {
+                case FORK_JOIN -> new ForkJoinPool(parallel.effectiveParallelism());
+                case VIRTUAL -> Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("beanmapper-parallel-", 0).factory());
+            };
         }
+    }
+
+    @Configuration
+    @ConditionalOnProperty(name = "beanmapper.observation.enabled", havingValue = "true", matchIfMissing = true)
+    static class ObservationConfig {
 
         /**
-         * If a {@link JsonMapper} bean is found (Jackson is on the classpath), creates a {@link JacksonJsonHttpMessageConverter}
-         * and adds a {@link MergedFormMethodArgumentResolver} to the Spring MVC context.
+         * If an {@link ObservationRegistry} bean is found, observes the mapping calls made through the
+         * {@link InstrumentedBeanMapper}, so they show up in traces.
          */
-        @Override
-        public void addArgumentResolvers(@Nonnull List<HandlerMethodArgumentResolver> argumentResolvers) {
-            if (jsonMapper != null) {
-                log.info("Adding MergedFormArgumentResolver to MVC application.");
-                JacksonJsonHttpMessageConverter jacksonJsonHttpMessageConverter = new JacksonJsonHttpMessageConverter(jsonMapper);
-                argumentResolvers.add(new MergedFormMethodArgumentResolver(
-                        singletonList(new StructuredJsonMessageConverter(jacksonJsonHttpMessageConverter)),
-                        beanMapper,
-                        applicationContext,
-                        entityManager));
-            } else {
-                log.warn("No MergedFormArgumentResolver added to MVC application because no JsonMapper bean found!");
-            }
+        @Bean
+        @ConditionalOnBean(ObservationRegistry.class)
+        @ConditionalOnMissingBean(BeanMapperObservation.class)
+        public BeanMapperObservation beanMapperObservation(ObservationRegistry observationRegistry, BeanMapperProperties props) {
+            return new BeanMapperObservation(observationRegistry, props.getMetrics().getMaxPairs());
         }
     }
 
-    private boolean isSpringDataJpaOnClasspath() {
-        return ClassUtils.isPresent("jakarta.persistence.EntityManager", applicationContext.getClassLoader());
+    /**
+     * Matches when the {@link ObservationConfig} does not observe the mapping calls.
+     */
+    static class NoMappingObservationCondition extends AnyNestedCondition {
+
+        NoMappingObservationCondition() {
+            super(ConfigurationPhase.REGISTER_BEAN);
+        }
+
+        @ConditionalOnMissingBean(ObservationRegistry.class)
+        static class NoObservationRegistry {
+        }
+
+        @ConditionalOnProperty(name = "beanmapper.observation.enabled", havingValue = "false")
+        static class ObservationDisabled {
+        }
     }
 
-    private boolean isHibernateOnClasspath() {
-        return ClassUtils.isPresent("org.hibernate.proxy.HibernateProxy", applicationContext.getClassLoader());
+    @Configuration
+    @ConditionalOnClass(name = "org.springframework.boot.actuate.endpoint.annotation.Endpoint")
+    static class EndpointConfig {
+
+        /**
+         * Creates the {@code beanmapper} actuator endpoint, when it is enabled and exposed.
+         */
+        @Bean
+        @ConditionalOnMissingBean(BeanMapperEndpoint.class)
+        @ConditionalOnAvailableEndpoint(BeanMapperEndpoint.class)
+        public BeanMapperEndpoint beanMapperEndpoint(BeanMapperHandle beanMapperHandle, ObjectProvider<IdToEntityCache> idToEntityCache,
+                ObjectProvider<DiagnosticsSampler> diagnosticsSampler) {
+            return new BeanMapperEndpoint(beanMapperHandle, idToEntityCache.getIfAvailable(), diagnosticsSampler.getIfAvailable());
+        }
     }
 
-    private boolean isSpringSecurityOnClasspath() {
-        return ClassUtils.isPresent("org.springframework.security.authentication.AuthenticationManager", applicationContext.getClassLoader());
+    @Configuration
+    @ConditionalOnClass(name = "org.crac.Resource")
+    @ConditionalOnProperty(name = "beanmapper.crac.enabled", havingValue = "true", matchIfMissing = true)
+    static class CracConfig {
+
+        /**
+         * Registers a {@link BeanMapperCracResource}, which warms up the {@link BeanMapper} before a CRaC checkpoint.
+         * The mapping metadata is pre-computed by the {@link BeanMapperWarmUp} bean, or by a warm-up of its own when
+         * there is no such bean.
+         */
+        @Bean
+        @ConditionalOnMissingBean(BeanMapperCracResource.class)
+        public BeanMapperCracResource beanMapperCracResource(BeanMapperHandle beanMapperHandle, ObjectProvider<BeanMapperWarmUp> warmUp,
+                BeanMapperProperties props, BeanMapperAutoConfig autoConfig, ApplicationContext applicationContext) {
+            BeanMapperWarmUp metadataWarmUp = warmUp.getIfAvailable(
+                    () -> new BeanMapperWarmUp(beanMapperHandle, autoConfig::findStrictMappingPairs, applicationContext));
+            BeanMapperCracResource resource = new BeanMapperCracResource(beanMapperHandle, metadataWarmUp, props.getCrac().getIterations());
+            resource.register();
+            return resource;
+        }
     }
 
 }
@@ -2,7 +2,25 @@ package io.beanmapper.autoconfigure;
 
 import io.beanmapper.config.BeanMapperBuilder;
 
+import org.springframework.core.Ordered;
+
+/**
+ * Customizes the {@link BeanMapperBuilder} of the autoconfigured {@link io.beanmapper.BeanMapper}. The customizers
+ * are applied in order; customizers without an order run after the ones of the autoconfiguration.
+ */
 public interface BeanMapperBuilderCustomizer {
 
+    /** Order of the customizer adding the id-to-entity converters and the after-clear flusher for JPA. */
+    int JPA_ORDER = Ordered.HIGHEST_PRECEDENCE + 1000;
+
+    /** Order of the customizer adding the scanned collection handlers, converters, bean pairs and logic secured checks. */
+    int SCAN_ORDER = JPA_ORDER + 1000;
+
+    /** Order of the customizer setting the role secured check of Spring Security. */
+    int SECURITY_ORDER = SCAN_ORDER + 1000;
+
+    /** Order of the customizer setting the Hibernate unproxy mechanism. */
+    int HIBERNATE_ORDER = SECURITY_ORDER + 1000;
+
     void customize(BeanMapperBuilder builder);
 }
@@ -0,0 +1,130 @@
+package io.beanmapper.autoconfigure;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.Map;
+
+import io.beanmapper.BeanMapper;
+import io.beanmapper.config.BeanPair;
+import io.beanmapper.core.inspector.PropertyAccessor;
+import io.beanmapper.core.inspector.PropertyAccessors;
+
+import org.crac.Context;
+import org.crac.Core;
+import org.crac.Resource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeanUtils;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Warms up the {@link BeanMapper} before a CRaC checkpoint is taken, so a restored application maps at steady-state
+ * latency from its first request. The mapping metadata is pre-computed by the {@link BeanMapperWarmUp}. Next, every
+ * bean pair is mapped a number of times, so the JIT compiles the mapping paths into the checkpoint. The sources are
+ * filled with sample values for the properties that map onto a simple target property, ie a String, number, boolean
+ * or enum. Other properties are left empty, so no entities are looked up. The warm-up mappings are not flushed.
+ * <p>
+ * Nothing has to be re-bound after a restore: the {@link io.beanmapper.spring.flusher.JpaAfterClearFlusher} and the
+ * {@link io.beanmapper.spring.converter.IdToEntityBeanConverter} hold the shared {@code EntityManager} proxy and the
+ * application context, which look up the current persistence context and repositories on every call. The connection
+ * pool behind them is stopped and restarted by the lifecycle of the application context.
+ */
+public class BeanMapperCracResource implements Resource {
+
+    private static final Map<Class<?>, Object> SAMPLE_VALUES = Map.of(
+            String.class, "warm-up",
+            Boolean.class, Boolean.TRUE,
+            Integer.class, 1,
+            Long.class, 1L,
+            Short.class, (short) 1,
+            Double.class, 1.0d,
+            Float.class, 1.0f,
+            BigDecimal.class, BigDecimal.ONE,
+            BigInteger.class, BigInteger.ONE);
+
+    private final Logger log = LoggerFactory.getLogger(BeanMapperCracResource.class);
+    private final BeanMapperHandle beanMapper;
+    private final BeanMapperWarmUp warmUp;
+    private final int iterations;
+
+    BeanMapperCracResource(BeanMapperHandle beanMapper, BeanMapperWarmUp warmUp, int iterations) {
+        this.beanMapper = beanMapper;
+        this.warmUp = warmUp;
+        this.iterations = iterations;
+    }
+
+    /**
+     * Registers this resource with the global CRaC context. The context only holds a weak reference to it.
+     */
+    void register() {
+        Core.getGlobalContext().register(this);
+    }
+
+    @Override
+    public void beforeCheckpoint(Context<? extends Resource> context) {
+        log.info("Warming up BeanMapper before checkpoint...");
+        long startTime = System.nanoTime();
+        warmUp.awaitCompletion();
+        int warmedUpPairs = warmUpMappings();
+        log.info("BeanMapper warmed up [{}] bean pairs before checkpoint in [{}] ms.", warmedUpPairs,
+                Duration.ofNanos(System.nanoTime() - startTime).toMillis());
+    }
+
+    @Override
+    public void afterRestore(Context<? extends Resource> context) {
+        log.info("BeanMapper restored with warmed up mapping metadata.");
+    }
+
+    /**
+     * Maps every bean pair that has a source which can be instantiated.
+     * @return the number of bean pairs that were mapped
+     */
+    int warmUpMappings() {
+        BeanMapper warmUpMapper = beanMapper.get().wrap().setFlushEnabled(false).build();
+        int warmedUpPairs = 0;
+        for (BeanPair beanPair : beanMapper.get().getConfiguration().getBeanPairs()) {
+            Class<?> sourceClass = beanPair.getSourceClass();
+            Class<?> targetClass = beanPair.getTargetClass();
+            try {
+                Object source = createSample(sourceClass, targetClass);
+                for (int i = 0; i < iterations; i++) {
+                    warmUpMapper.map(source, targetClass);
+                }
+                warmedUpPairs++;
+            } catch (RuntimeException e) {
+                log.debug("Cannot warm up mapping [{}] -> [{}] before checkpoint.", sourceClass.getName(), targetClass.getName(), e);
+            }
+        }
+        return warmedUpPairs;
+    }
+
+    private Object createSample(Class<?> sourceClass, Class<?> targetClass) {
+        Object source = BeanUtils.instantiateClass(sourceClass);
+        for (PropertyAccessor sourceProperty : PropertyAccessors.getAll(sourceClass)) {
+            PropertyAccessor targetProperty = PropertyAccessors.findProperty(targetClass, sourceProperty.getName());
+            if (!sourceProperty.isWritable() || targetProperty == null || !isSimple(targetProperty.getType())) {
+                continue;
+            }
+            Object value = sampleValue(sourceProperty.getType());
+            if (value != null) {
+                sourceProperty.setValue(source, value);
+            }
+        }
+        return source;
+    }
+
+    private boolean isSimple(Class<?> type) {
+        Class<?> wrapperType = ClassUtils.resolvePrimitiveIfNecessary(type);
+        return SAMPLE_VALUES.containsKey(wrapperType) || type.isEnum();
+    }
+
+    private Object sampleValue(Class<?> type) {
+        if (type.isEnum()) {
+            Object[] constants = type.getEnumConstants();
+            return constants.length > 0 ? constants[0] : null;
+        }
+        return SAMPLE_VALUES.get(ClassUtils.resolvePrimitiveIfNecessary(type));
+    }
+
+}
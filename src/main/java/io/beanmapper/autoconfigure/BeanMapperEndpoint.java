@@ -0,0 +1,198 @@
+package io.beanmapper.autoconfigure;
+
+import java.lang.reflect.Field;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.Map;
+
+import io.beanmapper.BeanMapper;
+import io.beanmapper.config.Configuration;
+import io.beanmapper.core.BeanMatch;
+import io.beanmapper.core.BeanMatchStore;
+import io.beanmapper.core.converter.BeanConverterStore;
+import io.beanmapper.core.unproxy.BeanUnproxy;
+import io.beanmapper.core.unproxy.SkippingBeanUnproxy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Actuator endpoint that shows what the {@link BeanMapperAutoConfig} registered in the {@link BeanMapper}:
+ * package prefixes, converters, collection handlers, logic secured checks, bean pairs and the unproxy
+ * mechanism. It also shows the size of the caches BeanMapper fills at runtime: the bean matches (the
+ * analysed source/target pairs and their property nodes) and the converters chosen per class pair. When the
+ * {@link IdToEntityCache} is enabled, its hits and misses are shown as well. When diagnostics sampling is enabled,
+ * the calls recorded by the {@link DiagnosticsSampler} are shown at {@code /beanmapper/diagnostics}.
+ * <p>
+ * BeanMapper does not expose its caches, so their sizes are read reflectively. When that is not possible,
+ * ie after a BeanMapper upgrade, the cache sizes are reported as -1.
+ */
+@Endpoint(id = "beanmapper")
+public class BeanMapperEndpoint {
+
+    private static final int UNAVAILABLE = -1;
+    static final String DIAGNOSTICS_SECTION = "diagnostics";
+
+    private final Logger log = LoggerFactory.getLogger(BeanMapperEndpoint.class);
+    private final BeanMapperHandle beanMapper;
+    private final IdToEntityCache idToEntityCache;
+    private final DiagnosticsSampler diagnosticsSampler;
+
+    public BeanMapperEndpoint(BeanMapper beanMapper) {
+        this(beanMapper, null);
+    }
+
+    public BeanMapperEndpoint(BeanMapper beanMapper, IdToEntityCache idToEntityCache) {
+        this(beanMapper, idToEntityCache, null);
+    }
+
+    public BeanMapperEndpoint(BeanMapper beanMapper, IdToEntityCache idToEntityCache, DiagnosticsSampler diagnosticsSampler) {
+        this(BeanMapperHandle.of(beanMapper), idToEntityCache, diagnosticsSampler);
+    }
+
+    BeanMapperEndpoint(BeanMapperHandle beanMapper, IdToEntityCache idToEntityCache, DiagnosticsSampler diagnosticsSampler) {
+        this.beanMapper = beanMapper;
+        this.idToEntityCache = idToEntityCache;
+        this.diagnosticsSampler = diagnosticsSampler;
+    }
+
+    @ReadOperation
+    public BeanMapperDescriptor beanMapper() {
+        Configuration configuration = beanMapper.get().getConfiguration();
+        return new BeanMapperDescriptor(
+                configuration.getPackagePrefixes(),
+                configuration.getBeanConverters().stream()
+                        .flatMap(BeanConverterIndex::unwrap)
+                        .map(converter -> ObservedBeanConverter.unwrap(converter).getClass().getName())
+                        .toList(),
+                configuration.getCollectionHandlers().stream()
+                        .map(handler -> new CollectionHandlerDescriptor(handler.getClass().getName(), handler.getType().getName()))
+                        .toList(),
+                configuration.getLogicSecuredChecks().keySet().stream().map(Class::getName).sorted().toList(),
+                configuration.getBeanPairs().stream()
+                        .map(beanPair -> new BeanPairDescriptor(beanPair.getSourceClass().getName(), beanPair.getTargetClass().getName(),
+                                beanPair.isSourceStrict(), beanPair.isTargetStrict()))
+                        .toList(),
+                getUnproxyClassName(configuration.getBeanUnproxy()),
+                configuration.getRoleSecuredCheck() != null ? configuration.getRoleSecuredCheck().getClass().getName() : null,
+                getCacheStatistics(configuration),
+                idToEntityCache != null
+                        ? new IdToEntityCacheStatistics(idToEntityCache.getHits(), idToEntityCache.getMisses(), idToEntityCache.getMaxSize())
+                        : null);
+    }
+
+    /**
+     * Dumps the calls recorded by the {@link DiagnosticsSampler}.
+     * @param section must be {@code diagnostics}
+     * @return the recorded calls, or {@code null} (not found) for another section or when sampling is disabled
+     */
+    @ReadOperation
+    public DiagnosticsDescriptor diagnostics(@Selector String section) {
+        if (!DIAGNOSTICS_SECTION.equals(section) || diagnosticsSampler == null) {
+            return null;
+        }
+        return new DiagnosticsDescriptor(diagnosticsSampler.getRecorded(), diagnosticsSampler.getBufferSize(),
+                diagnosticsSampler.getSamples());
+    }
+
+    private String getUnproxyClassName(BeanUnproxy beanUnproxy) {
+        if (beanUnproxy instanceof SkippingBeanUnproxy) {
+            Object delegate = readField(beanUnproxy, "delegate");
+            if (delegate != null) {
+                return delegate.getClass().getName();
+            }
+        }
+        return beanUnproxy.getClass().getName();
+    }
+
+    private CacheStatistics getCacheStatistics(Configuration configuration) {
+        int beanMatches = UNAVAILABLE;
+        int propertyNodes = UNAVAILABLE;
+        Map<?, Map<?, BeanMatch>> beanMatchStore = readField(configuration.getBeanMatchStore(), "store");
+        if (beanMatchStore != null) {
+            try {
+                List<BeanMatch> matches = beanMatchStore.values().stream().flatMap(targets -> targets.values().stream()).toList();
+                beanMatches = matches.size();
+                propertyNodes = matches.stream()
+                        .mapToInt(match -> match.getSourceNodes().size() + match.getTargetNodes().size() + match.getAliases().size())
+                        .sum();
+            } catch (ConcurrentModificationException e) {
+                log.debug("BeanMatchStore was modified while reading it, reporting its size as unavailable.");
+                beanMatches = UNAVAILABLE;
+                propertyNodes = UNAVAILABLE;
+            }
+        }
+        return new CacheStatistics(beanMatches, propertyNodes, getConverterCacheSize(configuration.getBeanConverterStore()));
+    }
+
+    private int getConverterCacheSize(BeanConverterStore beanConverterStore) {
+        // BeanConverterStore synchronizes its own methods on the instance, so hold that lock while reading
+        synchronized (beanConverterStore) {
+            Map<?, Map<?, ?>> converters = readField(beanConverterStore, "beanConverterMap");
+            return converters != null ? converters.values().stream().mapToInt(Map::size).sum() : UNAVAILABLE;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T readField(Object target, String name) {
+        Field field = ReflectionUtils.findField(target.getClass(), name);
+        if (field == null) {
+            log.debug("Field [{}] not found in [{}].", name, target.getClass().getName());
+            return null;
+        }
+        try {
+            ReflectionUtils.makeAccessible(field);
+            return (T) ReflectionUtils.getField(field, target);
+        } catch (RuntimeException e) {
+            log.debug("Cannot read field [{}] of [{}].", name, target.getClass().getName(), e);
+            return null;
+        }
+    }
+
+    /**
+     * Configuration and cache statistics of the {@link BeanMapper}.
+     */
+    public record BeanMapperDescriptor(List<String> packagePrefixes, List<String> beanConverters,
+            List<CollectionHandlerDescriptor> collectionHandlers, List<String> logicSecuredChecks,
+            List<BeanPairDescriptor> beanPairs, String beanUnproxy, String roleSecuredCheck, CacheStatistics caches,
+            IdToEntityCacheStatistics idToEntityCache) {
+    }
+
+    public record CollectionHandlerDescriptor(String className, String type) {
+    }
+
+    public record BeanPairDescriptor(String source, String target, boolean sourceStrict, boolean targetStrict) {
+    }
+
+    /**
+     * Sizes of the caches BeanMapper fills at runtime, -1 when unavailable.
+     * @param beanMatches the number of analysed source/target pairs
+     * @param propertyNodes the number of property nodes held by those bean matches
+     * @param converterChoices the number of class pairs for which the converter has been looked up
+     */
+    public record CacheStatistics(int beanMatches, int propertyNodes, int converterChoices) {
+    }
+
+    /**
+     * Counters of the {@link IdToEntityCache}, {@code null} when the cache is disabled.
+     * @param hits the number of entity lookups served from the cache
+     * @param misses the number of entity lookups that were not cached
+     * @param maxSize the maximum number of entities cached per transaction or request
+     */
+    public record IdToEntityCacheStatistics(long hits, long misses, int maxSize) {
+    }
+
+    /**
+     * Calls recorded by the {@link DiagnosticsSampler}.
+     * @param recorded the number of calls recorded since startup
+     * @param bufferSize the number of recorded calls kept
+     * @param samples the kept calls, oldest first
+     */
+    public record DiagnosticsDescriptor(long recorded, int bufferSize, List<DiagnosticsSampler.Sample> samples) {
+    }
+
+}
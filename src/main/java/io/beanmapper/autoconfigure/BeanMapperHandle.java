@@ -0,0 +1,75 @@
+package io.beanmapper.autoconfigure;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import io.beanmapper.BeanMapper;
+
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * Handle to the {@link BeanMapper} bean. Inject this instead of the {@link BeanMapper} when it is built in the
+ * background ({@code beanmapper.bootstrap=background}), so the initialization of your bean does not wait for it.
+ * Only {@link #get()} blocks, and only when it is called before the {@link BeanMapper} has been built.
+ */
+public class BeanMapperHandle {
+
+    private final ObjectProvider<BeanMapper> beanMapperProvider;
+    private final CompletableFuture<BeanMapper> beanMapper = new CompletableFuture<>();
+
+    BeanMapperHandle(ObjectProvider<BeanMapper> beanMapperProvider) {
+        this.beanMapperProvider = beanMapperProvider;
+    }
+
+    /**
+     * @return a handle to a {@link BeanMapper} that has already been built
+     */
+    static BeanMapperHandle of(BeanMapper beanMapper) {
+        BeanMapperHandle handle = new BeanMapperHandle(null);
+        handle.complete(beanMapper);
+        return handle;
+    }
+
+    /**
+     * Returns the {@link BeanMapper}, waiting for it to be built when necessary.
+     * @return the bean mapper
+     */
+    public BeanMapper get() {
+        if (beanMapper.isDone()) {
+            return beanMapper.join();
+        }
+        BeanMapper result = beanMapperProvider.getObject();
+        beanMapper.complete(result);
+        return result;
+    }
+
+    /**
+     * @return the {@link BeanMapper}, or empty when it has not been built yet
+     */
+    public Optional<BeanMapper> getIfAvailable() {
+        return isAvailable() ? Optional.of(beanMapper.join()) : Optional.empty();
+    }
+
+    /**
+     * @return true when the {@link BeanMapper} has been built
+     */
+    public boolean isAvailable() {
+        return beanMapper.isDone() && !beanMapper.isCompletedExceptionally();
+    }
+
+    /**
+     * @return a stage that completes when the {@link BeanMapper} has been built by the autoconfiguration
+     */
+    public CompletionStage<BeanMapper> whenAvailable() {
+        return beanMapper.minimalCompletionStage();
+    }
+
+    void complete(BeanMapper builtBeanMapper) {
+        beanMapper.complete(builtBeanMapper);
+    }
+
+    void completeExceptionally(Throwable failure) {
+        beanMapper.completeExceptionally(failure);
+    }
+}
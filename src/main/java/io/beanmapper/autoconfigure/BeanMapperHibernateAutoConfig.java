@@ -0,0 +1,77 @@
+package io.beanmapper.autoconfigure;
+
+import static org.springframework.beans.BeanUtils.instantiateClass;
+
+import io.beanmapper.spring.unproxy.HibernateAwareBeanUnproxy;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Sets the {@link HibernateAwareBeanUnproxy} as unproxy mechanism of the {@link io.beanmapper.BeanMapper} of the
+ * {@link BeanMapperAutoConfig}, unless {@code beanmapper.use-hibernate-unproxy} is false, and counts the SQL
+ * statements of slow mappings. Only loaded when Hibernate is on the classpath.
+ */
+@Configuration
+@ConditionalOnClass(name = "org.hibernate.proxy.HibernateProxy")
+public class BeanMapperHibernateAutoConfig {
+
+    private final Logger log = LoggerFactory.getLogger(BeanMapperHibernateAutoConfig.class);
+
+    @Bean
+    @Order(BeanMapperBuilderCustomizer.HIBERNATE_ORDER)
+    @ConditionalOnProperty(name = "beanmapper.use-hibernate-unproxy", havingValue = "true", matchIfMissing = true)
+    public BeanMapperBuilderCustomizer beanMapperHibernateUnproxyCustomizer() {
+        return builder -> {
+            builder.setBeanUnproxy(new HibernateAwareBeanUnproxy());
+            log.info("Set HibernateAwareUnproxy as bean unproxy mechanism.");
+        };
+    }
+
+    @Configuration
+    @ConditionalOnClass(name = { "org.hibernate.resource.jdbc.spi.StatementInspector",
+            "org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer" })
+    @ConditionalOnProperty(name = "beanmapper.slow-mapping-threshold")
+    static class SqlStatementCountConfig {
+
+        /**
+         * Counts the SQL statements, so the {@link SlowMappingDetector} can log the statements a slow mapping
+         * executed.
+         */
+        @Bean
+        SqlStatementCounter beanMapperSqlStatementCounter() {
+            return new SqlStatementCounter();
+        }
+
+        /**
+         * Registers the {@link SqlStatementCounter} as Hibernate statement inspector, in front of the
+         * inspector the application configured, if any.
+         */
+        @Bean
+        HibernatePropertiesCustomizer beanMapperSqlStatementCounterCustomizer(SqlStatementCounter sqlStatementCounter,
+                ApplicationContext applicationContext) {
+            return properties -> {
+                Object inspector = properties.get(AvailableSettings.STATEMENT_INSPECTOR);
+                if (inspector instanceof String className) {
+                    inspector = ClassUtils.resolveClassName(className, applicationContext.getClassLoader());
+                }
+                if (inspector instanceof Class<?> inspectorClass) {
+                    inspector = instantiateClass(inspectorClass);
+                }
+                sqlStatementCounter.setDelegate((StatementInspector) inspector);
+                properties.put(AvailableSettings.STATEMENT_INSPECTOR, sqlStatementCounter);
+            };
+        }
+    }
+
+}
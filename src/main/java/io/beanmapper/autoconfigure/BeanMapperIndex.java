@@ -0,0 +1,136 @@
+package io.beanmapper.autoconfigure;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.Collection;
+import java.util.Enumeration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compile time index of the classes the {@link ApplicationScanner} is interested in. The index is
+ * written by the {@link BeanMapperIndexProcessor} to {@value #INDEX_LOCATION} and consists of
+ * entries in the form {@code <class name>=<kind>[,<kind>]}. All index files found on the classpath
+ * are merged.
+ */
+final class BeanMapperIndex {
+
+    static final String INDEX_LOCATION = "META-INF/beanmapper.index";
+
+    static final String APPLICATION = "application";
+    static final String BEAN_PAIR = "bean-pair";
+    static final String BEAN_CONVERTER = "bean-converter";
+    static final String COLLECTION_HANDLER = "collection-handler";
+    static final String LOGIC_SECURED_CHECK = "logic-secured-check";
+    static final String STRICT_MAPPING = "strict-mapping";
+
+    private static final Logger log = LoggerFactory.getLogger(BeanMapperIndex.class);
+
+    private final Properties entries;
+
+    BeanMapperIndex(Properties entries) {
+        this.entries = entries;
+    }
+
+    /**
+     * Loads and merges all index files available to the class loader.
+     * @param classLoader the class loader to look up the index files with
+     * @return the merged index, or empty if no index file is present
+     */
+    static Optional<BeanMapperIndex> load(ClassLoader classLoader) {
+        try {
+            Enumeration<URL> urls = classLoader.getResources(INDEX_LOCATION);
+            if (!urls.hasMoreElements()) {
+                return Optional.empty();
+            }
+            Properties entries = new Properties();
+            while (urls.hasMoreElements()) {
+                URL url = urls.nextElement();
+                log.debug("Reading BeanMapper index [{}]", url);
+                try (InputStream in = url.openStream()) {
+                    Properties urlEntries = new Properties();
+                    urlEntries.load(in);
+                    urlEntries.forEach((className, kinds) -> entries.merge(className, kinds,
+                            (existing, added) -> existing + "," + added));
+                }
+            }
+            return Optional.of(new BeanMapperIndex(entries));
+        } catch (IOException e) {
+            log.warn("Unable to read BeanMapper index [{}], falling back to classpath scanning.", INDEX_LOCATION, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns the names of all indexed classes of the given kind.
+     * @param kind the kind of class, ie {@link #BEAN_CONVERTER}
+     * @return the class names
+     */
+    Set<String> getClassNames(String kind) {
+        return getClassNames(kind, null);
+    }
+
+    /**
+     * Returns the names of all indexed classes of the given kind that reside in the base package or
+     * one of its sub-packages.
+     * @param kind the kind of class, ie {@link #BEAN_CONVERTER}
+     * @param basePackage the base package, or {@code null} to return all classes
+     * @return the class names
+     */
+    Set<String> getClassNames(String kind, String basePackage) {
+        Set<String> classNames = new TreeSet<>();
+        for (String className : entries.stringPropertyNames()) {
+            if (isInPackage(className, basePackage) && hasKind(className, kind)) {
+                classNames.add(className);
+            }
+        }
+        return classNames;
+    }
+
+    /**
+     * Returns whether the index has entries of any kind in the base package or one of its sub-packages.
+     * @param basePackage the base package, or {@code null} for all packages
+     * @return true if the package is covered by the index
+     */
+    boolean covers(String basePackage) {
+        for (String className : entries.stringPropertyNames()) {
+            if (isInPackage(className, basePackage)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Formats the entries as the contents of an index file.
+     * @param entries the kinds per class name
+     * @return the contents of the index file
+     */
+    static String format(Map<String, ? extends Collection<String>> entries) {
+        StringBuilder builder = new StringBuilder();
+        new TreeMap<>(entries).forEach((className, kinds) ->
+                builder.append(className).append('=').append(String.join(",", new TreeSet<>(kinds))).append('\n'));
+        return builder.toString();
+    }
+
+    private boolean hasKind(String className, String kind) {
+        for (String candidate : entries.getProperty(className).split(",")) {
+            if (candidate.trim().equals(kind)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isInPackage(String className, String basePackage) {
+        return basePackage == null || basePackage.isEmpty() || className.startsWith(basePackage + ".");
+    }
+}
@@ -0,0 +1,198 @@
+package io.beanmapper.autoconfigure;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Annotation processor that writes the {@link BeanMapperIndex} at compile time, so the
+ * {@link ApplicationScanner} does not have to walk the classpath at startup. Indexes classes
+ * annotated with {@code @SpringBootApplication}, {@link BeanMapToClass} or {@link BeanMapFromClass}
+ * and concrete implementations of {@code BeanConverter}, {@code CollectionHandler} and
+ * {@code LogicSecuredCheck}. Classes whose name ends with the strict source or target suffix are
+ * indexed as well. The suffixes default to {@code Form} and {@code Result}, and can be changed with the
+ * {@value #STRICT_SOURCE_SUFFIX_OPTION} and {@value #STRICT_TARGET_SUFFIX_OPTION} processor options.
+ * <p>
+ * The processor is registered through {@code META-INF/services}, so it is picked up automatically
+ * when the starter is on the compile classpath.
+ */
+public class BeanMapperIndexProcessor extends AbstractProcessor {
+
+    private static final String SPRING_BOOT_APPLICATION = "org.springframework.boot.autoconfigure.SpringBootApplication";
+    private static final String BEAN_CONVERTER = "io.beanmapper.core.converter.BeanConverter";
+    private static final String COLLECTION_HANDLER = "io.beanmapper.core.collections.CollectionHandler";
+    private static final String LOGIC_SECURED_CHECK = "io.beanmapper.annotations.LogicSecuredCheck";
+
+    static final String STRICT_SOURCE_SUFFIX_OPTION = "beanmapper.strictSourceSuffix";
+    static final String STRICT_TARGET_SUFFIX_OPTION = "beanmapper.strictTargetSuffix";
+
+    private final Map<String, Set<String>> entries = new TreeMap<>();
+    private final Set<String> processedTypes = new HashSet<>();
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return Set.of("*");
+    }
+
+    @Override
+    public Set<String> getSupportedOptions() {
+        return Set.of(STRICT_SOURCE_SUFFIX_OPTION, STRICT_TARGET_SUFFIX_OPTION);
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getRootElements()) {
+            index(element);
+        }
+        if (roundEnv.processingOver()) {
+            writeIndex();
+        }
+        return false;
+    }
+
+    private void index(Element element) {
+        if (!(element instanceof TypeElement type)) {
+            return;
+        }
+        if (type.getKind() == ElementKind.CLASS || type.getKind() == ElementKind.RECORD) {
+            indexType(type);
+        }
+        for (Element enclosed : type.getEnclosedElements()) {
+            index(enclosed);
+        }
+    }
+
+    private void indexType(TypeElement type) {
+        processedTypes.add(processingEnv.getElementUtils().getBinaryName(type).toString());
+        if (hasAnnotation(type, SPRING_BOOT_APPLICATION)) {
+            addEntry(type, BeanMapperIndex.APPLICATION);
+        }
+        if (hasAnnotation(type, BeanMapToClass.class.getName()) || hasAnnotation(type, BeanMapFromClass.class.getName())) {
+            addEntry(type, BeanMapperIndex.BEAN_PAIR);
+        }
+        if (!isIndependentAndConcrete(type)) {
+            return;
+        }
+        if (isAssignable(type, BEAN_CONVERTER)) {
+            addEntry(type, BeanMapperIndex.BEAN_CONVERTER);
+        }
+        if (isAssignable(type, COLLECTION_HANDLER)) {
+            addEntry(type, BeanMapperIndex.COLLECTION_HANDLER);
+        }
+        if (isAssignable(type, LOGIC_SECURED_CHECK)) {
+            addEntry(type, BeanMapperIndex.LOGIC_SECURED_CHECK);
+        }
+        String simpleName = type.getSimpleName().toString();
+        if (simpleName.endsWith(getOption(STRICT_SOURCE_SUFFIX_OPTION, "Form"))
+                || simpleName.endsWith(getOption(STRICT_TARGET_SUFFIX_OPTION, "Result"))) {
+            addEntry(type, BeanMapperIndex.STRICT_MAPPING);
+        }
+    }
+
+    private String getOption(String name, String defaultValue) {
+        return processingEnv.getOptions().getOrDefault(name, defaultValue);
+    }
+
+    private boolean isIndependentAndConcrete(TypeElement type) {
+        if (type.getModifiers().contains(Modifier.ABSTRACT)) {
+            return false;
+        }
+        return type.getNestingKind() == NestingKind.TOP_LEVEL
+                || (type.getNestingKind() == NestingKind.MEMBER && type.getModifiers().contains(Modifier.STATIC));
+    }
+
+    private boolean hasAnnotation(TypeElement type, String annotationName) {
+        for (AnnotationMirror annotation : type.getAnnotationMirrors()) {
+            TypeElement annotationType = (TypeElement) annotation.getAnnotationType().asElement();
+            if (annotationType.getQualifiedName().contentEquals(annotationName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isAssignable(TypeElement type, String superTypeName) {
+        TypeElement superType = processingEnv.getElementUtils().getTypeElement(superTypeName);
+        if (superType == null) {
+            return false;
+        }
+        TypeMirror erasedType = processingEnv.getTypeUtils().erasure(type.asType());
+        TypeMirror erasedSuperType = processingEnv.getTypeUtils().erasure(superType.asType());
+        return processingEnv.getTypeUtils().isAssignable(erasedType, erasedSuperType);
+    }
+
+    private void addEntry(TypeElement type, String kind) {
+        String className = processingEnv.getElementUtils().getBinaryName(type).toString();
+        entries.computeIfAbsent(className, k -> new TreeSet<>()).add(kind);
+    }
+
+    private void writeIndex() {
+        mergePreviousIndex();
+        if (entries.isEmpty()) {
+            return;
+        }
+        try {
+            FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", BeanMapperIndex.INDEX_LOCATION);
+            try (OutputStream out = file.openOutputStream(); Writer writer = new OutputStreamWriter(out, StandardCharsets.ISO_8859_1)) {
+                writer.write(BeanMapperIndex.format(entries));
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Unable to write BeanMapper index: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Keeps the entries of a previous index for classes that were not part of this (incremental)
+     * compilation and still exist.
+     */
+    private void mergePreviousIndex() {
+        Properties previous = new Properties();
+        try {
+            FileObject file = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", BeanMapperIndex.INDEX_LOCATION);
+            try (InputStream in = file.openInputStream()) {
+                previous.load(in);
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            return;
+        }
+        for (String className : previous.stringPropertyNames()) {
+            if (processedTypes.contains(className)
+                    || processingEnv.getElementUtils().getTypeElement(className.replace('$', '.')) == null) {
+                continue;
+            }
+            Set<String> kinds = new TreeSet<>();
+            for (String kind : previous.getProperty(className).split(",")) {
+                kinds.add(kind.trim());
+            }
+            entries.put(className, kinds);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package io.beanmapper.autoconfigure;
+
+import io.beanmapper.BeanMapper;
+import io.beanmapper.spring.converter.IdToEntityBeanConverter;
+import io.beanmapper.spring.flusher.JpaAfterClearFlusher;
+import io.micrometer.observation.ObservationRegistry;
+import jakarta.persistence.EntityManager;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Contributes the Spring Data JPA support to the {@link BeanMapper} of the {@link BeanMapperAutoConfig}: the
+ * id-to-entity converters, the after-clear flusher, and the release of streamed entities and the transaction they
+ * are streamed in. Only loaded when JPA is on the classpath.
+ */
+@Configuration
+@ConditionalOnClass(name = "jakarta.persistence.EntityManager")
+public class BeanMapperJpaAutoConfig {
+
+    private final Logger log = LoggerFactory.getLogger(BeanMapperJpaAutoConfig.class);
+
+    /**
+     * Adds the id-to-entity converters and, when an {@link EntityManager} bean is found, the
+     * {@link JpaAfterClearFlusher} to the builder.
+     * @return BeanMapperBuilderCustomizer
+     */
+    @Bean
+    @Order(BeanMapperBuilderCustomizer.JPA_ORDER)
+    public BeanMapperBuilderCustomizer beanMapperJpaCustomizer(ApplicationContext applicationContext, BeanMapperProperties props,
+            ObjectProvider<IdToEntityCache> idToEntityCache, ObjectProvider<ObservationRegistry> observationRegistry,
+            ObjectProvider<EntityManager> entityManager) {
+        return builder -> {
+            IdToEntityCache cache = idToEntityCache.getIfAvailable();
+            if (props.getIdToEntity().isBatched()) {
+                builder.addConverter(ObservedBeanConverter.observeIfEnabled(
+                        new BatchedIdToEntityBeanConverter(applicationContext, cache), props, observationRegistry));
+            }
+            builder.addConverter(ObservedBeanConverter.observeIfEnabled(cache != null
+                    ? new CachingIdToEntityBeanConverter(applicationContext, cache)
+                    : new IdToEntityBeanConverter(applicationContext), props, observationRegistry));
+
+            EntityManager manager = entityManager.getIfAvailable();
+            if (manager != null) {
+                builder.addAfterClearFlusher(new JpaAfterClearFlusher(manager));
+            } else {
+                log.warn("No EntityManager bean has been configured within your application. BeanMapper's afterClearFlusher can not be activated.");
+            }
+        };
+    }
+
+    /**
+     * Keeps mappings touching JPA-managed types sequential, when large collections are mapped in parallel.
+     * @return ManagedTypeDetector
+     */
+    @Bean
+    @ConditionalOnExpression("${beanmapper.parallel.threshold:0} > 0")
+    ManagedTypeDetector beanMapperManagedTypeDetector(ApplicationContext applicationContext) {
+        return ManagedTypeDetector.forJpa(applicationContext);
+    }
+
+    /**
+     * Releases the entities streamed by the {@link StreamingBeanMapper} from the current {@link EntityManager},
+     * as configured with {@code beanmapper.streaming.release}.
+     */
+    @Bean
+    @ConditionalOnMissingBean(PersistenceContextRelease.class)
+    public PersistenceContextRelease beanMapperPersistenceContextRelease(ObjectProvider<EntityManager> entityManager,
+            BeanMapperProperties props) {
+        BeanMapperProperties.Streaming streaming = props.getStreaming();
+        if (streaming.getRelease() == BeanMapperProperties.Streaming.Release.NONE) {
+            return PersistenceContextRelease.NONE;
+        }
+        return new EntityManagerRelease(entityManager, streaming.getRelease(), streaming.getClearInterval());
+    }
+
+    @Configuration
+    @ConditionalOnClass(name = "org.springframework.transaction.support.TransactionTemplate")
+    @ConditionalOnProperty(name = "beanmapper.streaming.transactional", havingValue = "true", matchIfMissing = true)
+    static class StreamingTransactionConfig {
+
+        /**
+         * Consumes mapped streams within a read-only transaction, when a {@link PlatformTransactionManager} is present.
+         */
+        @Bean
+        @ConditionalOnMissingBean(StreamingScope.class)
+        public StreamingScope beanMapperStreamingScope(ObjectProvider<PlatformTransactionManager> transactionManager) {
+            return streaming -> {
+                PlatformTransactionManager manager = transactionManager.getIfUnique();
+                if (manager == null) {
+                    streaming.run();
+                    return;
+                }
+                TransactionTemplate transactionTemplate = new TransactionTemplate(manager);
+                transactionTemplate.setReadOnly(true);
+                transactionTemplate.executeWithoutResult(status -> streaming.run());
+            };
+        }
+    }
+
+    @Configuration
+    @ConditionalOnClass(name = "org.springframework.transaction.support.TransactionSynchronizationManager")
+    @ConditionalOnProperty(name = "beanmapper.id-to-entity.cache.enabled", havingValue = "true")
+    static class IdToEntityCacheConfig {
+
+        /**
+         * Creates the cache the id-to-entity converters use to look up every entity only once per
+         * transaction or request.
+         */
+        @Bean
+        @ConditionalOnMissingBean(IdToEntityCache.class)
+        public IdToEntityCache idToEntityCache(BeanMapperProperties props) {
+            return new IdToEntityCache(props.getIdToEntity().getCache().getMaxSize());
+        }
+    }
+
+}
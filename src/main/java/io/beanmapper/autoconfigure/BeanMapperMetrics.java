@@ -0,0 +1,86 @@
+package io.beanmapper.autoconfigure;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.Clock;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Records a {@value #METRIC_NAME} timer for every mapping call made through the {@link InstrumentedBeanMapper}.
+ * The timer is tagged with the source class, the target class and whether a collection or a single object
+ * was mapped. To bound the number of timers, only the first {@code maxPairs} source/target pairs get their
+ * own timer. All calls for other pairs are recorded with the source and target tags set to {@value #OTHER}.
+ * <p>
+ * Percentiles and histograms can be enabled the regular way, ie with
+ * {@code management.metrics.distribution.percentiles-histogram.beanmapper.map=true}.
+ */
+public class BeanMapperMetrics implements BeanMappingInterceptor {
+
+    static final String METRIC_NAME = "beanmapper.map";
+    static final String OTHER = "OTHER";
+    static final String UNKNOWN = "UNKNOWN";
+
+    private final Logger log = LoggerFactory.getLogger(BeanMapperMetrics.class);
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+    private final int maxPairs;
+    private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<Boolean, Timer> overflowTimers = new ConcurrentHashMap<>();
+
+    public BeanMapperMetrics(MeterRegistry meterRegistry, int maxPairs) {
+        this.meterRegistry = meterRegistry;
+        this.clock = meterRegistry.config().clock();
+        this.maxPairs = maxPairs;
+    }
+
+    @Override
+    public Object intercept(BeanMappingInvocation invocation) {
+        Timer timer = getTimer(new TimerKey(invocation.getSourceClass(), invocation.getTargetClass(), invocation.isCollection()));
+        long startTime = clock.monotonicTime();
+        try {
+            return invocation.proceed();
+        } finally {
+            timer.record(clock.monotonicTime() - startTime, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Timer getTimer(TimerKey key) {
+        Timer timer = timers.get(key);
+        if (timer != null) {
+            return timer;
+        }
+        synchronized (timers) {
+            if (timers.size() < maxPairs) {
+                return timers.computeIfAbsent(key, k -> createTimer(tagValue(k.sourceClass()), tagValue(k.targetClass()), k.collection()));
+            }
+        }
+        return overflowTimers.computeIfAbsent(key.collection(), collection -> {
+            log.warn("More than [{}] source/target pairs have been mapped, the timings of new pairs are recorded with the [{}] tags. "
+                    + "Raise beanmapper.metrics.max-pairs to record them separately.", maxPairs, OTHER);
+            return createTimer(OTHER, OTHER, collection);
+        });
+    }
+
+    private Timer createTimer(String source, String target, boolean collection) {
+        return Timer.builder(METRIC_NAME)
+                .description("Time spent mapping beans with BeanMapper")
+                .tag("source", source)
+                .tag("target", target)
+                .tag("type", collection ? "collection" : "single")
+                .register(meterRegistry);
+    }
+
+    private static String tagValue(Class<?> cls) {
+        return cls != null ? cls.getName() : UNKNOWN;
+    }
+
+    private record TimerKey(Class<?> sourceClass, Class<?> targetClass, boolean collection) {
+    }
+
+}
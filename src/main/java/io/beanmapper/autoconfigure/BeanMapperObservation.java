@@ -0,0 +1,81 @@
+package io.beanmapper.autoconfigure;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Makes every mapping call made through the {@link InstrumentedBeanMapper} an {@link Observation} named
+ * {@code beanmapper.mapping}, so the time spent mapping shows up as a span in traces. The observation has
+ * the {@code source} and {@code target} class and the {@code type} ({@code single} or {@code collection}) as
+ * low cardinality key values. As these end up as tags of the timer a meter observation handler records, only the
+ * first {@code maxPairs} source/target pairs get their class names. All calls for other pairs are observed with
+ * the source and target key values set to {@value BeanMapperMetrics#OTHER}.
+ */
+public class BeanMapperObservation implements BeanMappingInterceptor {
+
+    static final String OBSERVATION_NAME = "beanmapper.mapping";
+
+    private final Logger log = LoggerFactory.getLogger(BeanMapperObservation.class);
+    private final ObservationRegistry observationRegistry;
+    private final int maxPairs;
+    private final Set<PairKey> pairs = ConcurrentHashMap.newKeySet();
+    private boolean overflowed;
+
+    public BeanMapperObservation(ObservationRegistry observationRegistry, int maxPairs) {
+        this.observationRegistry = observationRegistry;
+        this.maxPairs = maxPairs;
+    }
+
+    @Override
+    public Object intercept(BeanMappingInvocation invocation) {
+        if (observationRegistry.isNoop()) {
+            return invocation.proceed();
+        }
+        Class<?> sourceClass = invocation.getSourceClass();
+        Class<?> targetClass = invocation.getTargetClass();
+        boolean tagged = isTagged(new PairKey(sourceClass, targetClass));
+        return Observation.createNotStarted(OBSERVATION_NAME, observationRegistry)
+                .contextualName("map " + simpleName(sourceClass) + " to " + simpleName(targetClass))
+                .lowCardinalityKeyValue("source", tagged ? className(sourceClass) : BeanMapperMetrics.OTHER)
+                .lowCardinalityKeyValue("target", tagged ? className(targetClass) : BeanMapperMetrics.OTHER)
+                .lowCardinalityKeyValue("type", invocation.isCollection() ? "collection" : "single")
+                .observe((Supplier<Object>) invocation::proceed);
+    }
+
+    private boolean isTagged(PairKey key) {
+        if (pairs.contains(key)) {
+            return true;
+        }
+        synchronized (pairs) {
+            if (pairs.size() < maxPairs) {
+                pairs.add(key);
+                return true;
+            }
+            if (!overflowed) {
+                overflowed = true;
+                log.warn("More than [{}] source/target pairs have been mapped, the observations of new pairs have the [{}] key values. "
+                        + "Raise beanmapper.metrics.max-pairs to observe them separately.", maxPairs, BeanMapperMetrics.OTHER);
+            }
+        }
+        return false;
+    }
+
+    static String className(Class<?> cls) {
+        return cls != null ? cls.getName() : BeanMapperMetrics.UNKNOWN;
+    }
+
+    static String simpleName(Class<?> cls) {
+        return cls != null ? cls.getSimpleName() : BeanMapperMetrics.UNKNOWN;
+    }
+
+    private record PairKey(Class<?> sourceClass, Class<?> targetClass) {
+    }
+
+}
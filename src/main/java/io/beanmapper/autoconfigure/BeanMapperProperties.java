@@ -1,8 +1,11 @@
 package io.beanmapper.autoconfigure;
 
+import java.time.Duration;
+
 import io.beanmapper.utils.diagnostics.DiagnosticsDetailLevel;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
 
 /**
  * Properties for the {@link BeanMapperAutoConfig}
@@ -23,6 +26,13 @@ public class BeanMapperProperties {
      */
     private boolean useHibernateUnproxy = true;
 
+    /**
+     * Use the META-INF/beanmapper.index written by the BeanMapperIndexProcessor at compile time
+     * instead of scanning the classpath, when such an index is present. Off by default, because the
+     * classes of jars compiled without the processor are not found in the packages the index covers.
+     */
+    private boolean useIndex = false;
+
     private boolean applyStrictMappingConvention = true;
 
     private boolean applySecuredProperties = true;
@@ -33,6 +43,42 @@ public class BeanMapperProperties {
 
     private DiagnosticsDetailLevel diagnosticsLevel = DiagnosticsDetailLevel.DISABLED;
 
+    /**
+     * How the BeanMapper bean is built: on the thread refreshing the application context (default) or in the
+     * background on the bootstrap executor (background).
+     */
+    private Bootstrap bootstrap = Bootstrap.DEFAULT;
+
+    /**
+     * Log a warning for every mapping call made through the InstrumentedBeanMapper that takes longer
+     * than this. Not set by default.
+     */
+    private Duration slowMappingThreshold;
+
+    private final Scan scan = new Scan();
+
+    private final ConverterIndex converterIndex = new ConverterIndex();
+
+    private final GeneratedMappers generatedMappers = new GeneratedMappers();
+
+    private final Warmup warmup = new Warmup();
+
+    private final Metrics metrics = new Metrics();
+
+    private final IdToEntity idToEntity = new IdToEntity();
+
+    private final Streaming streaming = new Streaming();
+
+    private final Parallel parallel = new Parallel();
+
+    private final Diagnostics diagnostics = new Diagnostics();
+
+    private final Observation observation = new Observation();
+
+    private final MergedForm mergedForm = new MergedForm();
+
+    private final Crac crac = new Crac();
+
     public boolean isUseHibernateUnproxy() {
         return useHibernateUnproxy;
     }
@@ -49,6 +95,14 @@ public class BeanMapperProperties {
         this.packagePrefix = basePackageName;
     }
 
+    public boolean isUseIndex() {
+        return useIndex;
+    }
+
+    public void setUseIndex(boolean useIndex) {
+        this.useIndex = useIndex;
+    }
+
     public boolean getApplyStrictMappingConvention() {
         return applyStrictMappingConvention;
     }
@@ -88,4 +142,478 @@ public class BeanMapperProperties {
     public void setDiagnosticsDetailLevel(DiagnosticsDetailLevel diagnosticsLevel) {
         this.diagnosticsLevel = diagnosticsLevel;
     }
+
+    public Bootstrap getBootstrap() {
+        return bootstrap;
+    }
+
+    public void setBootstrap(Bootstrap bootstrap) {
+        this.bootstrap = bootstrap;
+    }
+
+    public Duration getSlowMappingThreshold() {
+        return slowMappingThreshold;
+    }
+
+    public void setSlowMappingThreshold(Duration slowMappingThreshold) {
+        this.slowMappingThreshold = slowMappingThreshold;
+    }
+
+    public Scan getScan() {
+        return scan;
+    }
+
+    public ConverterIndex getConverterIndex() {
+        return converterIndex;
+    }
+
+    public GeneratedMappers getGeneratedMappers() {
+        return generatedMappers;
+    }
+
+    public Warmup getWarmup() {
+        return warmup;
+    }
+
+    public Metrics getMetrics() {
+        return metrics;
+    }
+
+    public IdToEntity getIdToEntity() {
+        return idToEntity;
+    }
+
+    public Streaming getStreaming() {
+        return streaming;
+    }
+
+    public Parallel getParallel() {
+        return parallel;
+    }
+
+    public Diagnostics getDiagnostics() {
+        return diagnostics;
+    }
+
+    public Observation getObservation() {
+        return observation;
+    }
+
+    public MergedForm getMergedForm() {
+        return mergedForm;
+    }
+
+    public Crac getCrac() {
+        return crac;
+    }
+
+    public enum Bootstrap {
+        DEFAULT,
+        BACKGROUND
+    }
+
+    public static class Scan {
+
+        /**
+         * Scan the package prefix (or read the beanmapper index) for converters, collection handlers, logic secured
+         * checks and bean pairs. When disabled, only the BeanConverter, CollectionHandler and LogicSecuredCheck
+         * beans of the application context are registered.
+         */
+        private boolean enabled = true;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+    }
+
+    public static class ConverterIndex {
+
+        /**
+         * Look up the converter for a source/target class pair among the custom converters only once, also
+         * when none of them matches, instead of asking every converter on every conversion.
+         */
+        private boolean enabled = false;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+    }
+
+    public static class GeneratedMappers {
+
+        /**
+         * Register the mappers generated at compile time for the bean pairs of @BeanMapToClass and
+         * @BeanMapFromClass as converters, instead of mapping these pairs reflectively.
+         */
+        private boolean enabled = true;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+    }
+
+    public static class Warmup {
+
+        /**
+         * Pre-compute the mapping metadata of the bean pairs and the classes matching the strict
+         * source and target suffixes during startup. The application refuses traffic until the
+         * warm-up is finished.
+         */
+        private boolean enabled = false;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+    }
+
+    public static class Crac {
+
+        /**
+         * Warm up the BeanMapper before a CRaC checkpoint is taken, when org.crac is on the classpath.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Number of times every bean pair is mapped before a checkpoint, so the JIT compiles the mapping paths.
+         */
+        private int iterations = 10000;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getIterations() {
+            return iterations;
+        }
+
+        public void setIterations(int iterations) {
+            this.iterations = iterations;
+        }
+    }
+
+    public static class Streaming {
+
+        /**
+         * Write a MappedStream returned by a controller within a read-only transaction, when a
+         * PlatformTransactionManager is present.
+         */
+        private boolean transactional = true;
+
+        /**
+         * How the streamed entities are released from the EntityManager: not at all (none), by detaching
+         * every mapped entity (detach) or by clearing the EntityManager every clear-interval elements (clear).
+         */
+        private Release release = Release.NONE;
+
+        /**
+         * Number of elements after which the EntityManager is cleared, when release is clear. Must be at least 1.
+         */
+        private int clearInterval = 500;
+
+        public boolean isTransactional() {
+            return transactional;
+        }
+
+        public void setTransactional(boolean transactional) {
+            this.transactional = transactional;
+        }
+
+        public Release getRelease() {
+            return release;
+        }
+
+        public void setRelease(Release release) {
+            this.release = release;
+        }
+
+        public int getClearInterval() {
+            return clearInterval;
+        }
+
+        public void setClearInterval(int clearInterval) {
+            this.clearInterval = clearInterval;
+        }
+
+        public enum Release {
+            NONE,
+            DETACH,
+            CLEAR
+        }
+    }
+
+    public static class MergedForm {
+
+        /**
+         * Read the body of a merged form in a single pass, recording the property names present while
+         * the form is read, instead of parsing the body a second time to collect them.
+         */
+        private boolean streaming = true;
+
+        /**
+         * Maximum size of the body of a merged form of a WebFlux application, which is collected in memory.
+         */
+        private DataSize maxInMemorySize = DataSize.ofKilobytes(256);
+
+        public boolean isStreaming() {
+            return streaming;
+        }
+
+        public void setStreaming(boolean streaming) {
+            this.streaming = streaming;
+        }
+
+        public DataSize getMaxInMemorySize() {
+            return maxInMemorySize;
+        }
+
+        public void setMaxInMemorySize(DataSize maxInMemorySize) {
+            this.maxInMemorySize = maxInMemorySize;
+        }
+    }
+
+    public static class Observation {
+
+        /**
+         * Observe the mapping calls made through the InstrumentedBeanMapper, when an ObservationRegistry
+         * bean is present.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Observe the conversions of the converters the autoconfiguration registers as well: the
+         * id-to-entity converters and the scanned converters.
+         */
+        private boolean converters = false;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public boolean isConverters() {
+            return converters;
+        }
+
+        public void setConverters(boolean converters) {
+            this.converters = converters;
+        }
+    }
+
+    public static class Diagnostics {
+
+        /**
+         * Record the diagnostics of 1 in this many mapping calls made through the InstrumentedBeanMapper.
+         * 0 disables sampling by rate.
+         */
+        private int sampleRate = 0;
+
+        /**
+         * Record the mapping calls that take longer than this, and the diagnostics of the next call for the
+         * same source/target pair. Not set by default.
+         */
+        private Duration slowThreshold;
+
+        /**
+         * Diagnostics level the sampled calls are made with.
+         */
+        private DiagnosticsDetailLevel level = DiagnosticsDetailLevel.TREE_COMPLETE;
+
+        /**
+         * Number of recorded calls kept for the beanmapper actuator endpoint.
+         */
+        private int bufferSize = 100;
+
+        public int getSampleRate() {
+            return sampleRate;
+        }
+
+        public void setSampleRate(int sampleRate) {
+            this.sampleRate = sampleRate;
+        }
+
+        public Duration getSlowThreshold() {
+            return slowThreshold;
+        }
+
+        public void setSlowThreshold(Duration slowThreshold) {
+            this.slowThreshold = slowThreshold;
+        }
+
+        public DiagnosticsDetailLevel getLevel() {
+            return level;
+        }
+
+        public void setLevel(DiagnosticsDetailLevel level) {
+            this.level = level;
+        }
+
+        public int getBufferSize() {
+            return bufferSize;
+        }
+
+        public void setBufferSize(int bufferSize) {
+            this.bufferSize = bufferSize;
+        }
+    }
+
+    public static class Parallel {
+
+        /**
+         * Minimum number of elements from which lists and sets are mapped in parallel. 0 disables
+         * parallel mapping.
+         */
+        private int threshold = 0;
+
+        /**
+         * Executor the elements are mapped on: a bounded fork-join pool (fork-join) or a virtual
+         * thread per task (virtual).
+         */
+        private Executor executor = Executor.FORK_JOIN;
+
+        /**
+         * Number of threads a collection is split across. 0 uses the number of available processors.
+         */
+        private int parallelism = 0;
+
+        public int getThreshold() {
+            return threshold;
+        }
+
+        public void setThreshold(int threshold) {
+            this.threshold = threshold;
+        }
+
+        public Executor getExecutor() {
+            return executor;
+        }
+
+        public void setExecutor(Executor executor) {
+            this.executor = executor;
+        }
+
+        public int getParallelism() {
+            return parallelism;
+        }
+
+        public void setParallelism(int parallelism) {
+            this.parallelism = parallelism;
+        }
+
+        int effectiveParallelism() {
+            return parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        }
+
+        public enum Executor {
+            FORK_JOIN,
+            VIRTUAL
+        }
+    }
+
+    public static class IdToEntity {
+
+        /**
+         * Resolve all ids of a collection property with a single findAllById query, instead of a
+         * findById query per id. The converter is asked for every collection property, as BeanMapper does not
+         * tell the converters the element types, so it is only registered when enabled.
+         */
+        private boolean batched = false;
+
+        private final Cache cache = new Cache();
+
+        public boolean isBatched() {
+            return batched;
+        }
+
+        public void setBatched(boolean batched) {
+            this.batched = batched;
+        }
+
+        public Cache getCache() {
+            return cache;
+        }
+
+        public static class Cache {
+
+            /**
+             * Memoize the entities looked up by id for the current transaction or, outside a transaction,
+             * the current request.
+             */
+            private boolean enabled = false;
+
+            /**
+             * Maximum number of entities cached per transaction or request.
+             */
+            private int maxSize = 1000;
+
+            public boolean isEnabled() {
+                return enabled;
+            }
+
+            public void setEnabled(boolean enabled) {
+                this.enabled = enabled;
+            }
+
+            public int getMaxSize() {
+                return maxSize;
+            }
+
+            public void setMaxSize(int maxSize) {
+                this.maxSize = maxSize;
+            }
+        }
+    }
+
+    public static class Metrics {
+
+        /**
+         * Record a beanmapper.map timer for the mapping calls made through the InstrumentedBeanMapper,
+         * when a MeterRegistry bean is present and the mapping calls are not observed.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Maximum number of source/target pairs that get their own timer and observation key values.
+         * Other pairs are recorded with the OTHER tags.
+         */
+        private int maxPairs = 100;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getMaxPairs() {
+            return maxPairs;
+        }
+
+        public void setMaxPairs(int maxPairs) {
+            this.maxPairs = maxPairs;
+        }
+    }
 }
@@ -0,0 +1,45 @@
+package io.beanmapper.autoconfigure;
+
+import java.util.Collection;
+
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.ReflectionHints;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+/**
+ * {@link RuntimeHintsRegistrar} for the {@link BeanMapperAutoConfig}. Registers the {@link BeanMapperIndex}
+ * as a resource. The hints for the application classes are registered by the {@link BeanMapperAotProcessor},
+ * which knows the package prefix and strict suffixes of the application.
+ */
+class BeanMapperRuntimeHints implements RuntimeHintsRegistrar {
+
+    private final BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        hints.resources().registerPattern(BeanMapperIndex.INDEX_LOCATION);
+        hints.reflection().registerType(BeanMapToClass.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+        hints.reflection().registerType(BeanMapFromClass.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+    }
+
+    /**
+     * Registers the hints to instantiate converters, collection handlers and logic secured checks
+     * through their no-arg or {@code ApplicationContext} constructor.
+     */
+    void registerInstantiatedTypes(ReflectionHints hints, Collection<Class<?>> types) {
+        types.forEach(type -> hints.registerType(type, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS));
+    }
+
+    /**
+     * Registers the hints BeanMapper needs to read and write the properties of mapped classes, including
+     * the classes of their (nested) properties.
+     */
+    void registerMappedTypes(ReflectionHints hints, Collection<Class<?>> types) {
+        types.forEach(type -> {
+            bindingRegistrar.registerReflectionHints(hints, type);
+            hints.registerType(type, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.ACCESS_DECLARED_FIELDS);
+        });
+    }
+}
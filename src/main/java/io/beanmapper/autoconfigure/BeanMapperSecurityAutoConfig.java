@@ -0,0 +1,35 @@
+package io.beanmapper.autoconfigure;
+
+import io.beanmapper.spring.security.SpringRoleSecuredCheck;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+
+/**
+ * Contributes the Spring Security support to the {@link BeanMapperAutoConfig}: the logic secured checks processing
+ * {@code @BeanLogicSecured}, the {@link SpringRoleSecuredCheck} processing {@code @BeanRoleSecured}, and the propagation of the security context to the threads of the parallel
+ * and asynchronous mappings. Only loaded when Spring Security is on the classpath.
+ */
+@Configuration
+@ConditionalOnClass(name = "org.springframework.security.authentication.AuthenticationManager")
+public class BeanMapperSecurityAutoConfig {
+
+    @Bean
+    @Order(BeanMapperBuilderCustomizer.SECURITY_ORDER)
+    @ConditionalOnProperty(name = "beanmapper.apply-secured-properties", havingValue = "true", matchIfMissing = true)
+    public BeanMapperBuilderCustomizer beanMapperSecurityCustomizer(BeanMapperAutoConfig autoConfig) {
+        return builder -> {
+            autoConfig.addLogicSecuredChecks(builder);
+            builder.setSecuredPropertyHandler(new SpringRoleSecuredCheck());
+        };
+    }
+
+    @Bean
+    SecurityContextPropagation beanMapperSecurityContextPropagation() {
+        return new SecurityContextPropagation();
+    }
+
+}
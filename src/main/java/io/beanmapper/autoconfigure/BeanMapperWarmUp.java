@@ -0,0 +1,130 @@
+package io.beanmapper.autoconfigure;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import io.beanmapper.BeanMapper;
+import io.beanmapper.config.BeanPair;
+import io.beanmapper.config.Configuration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ApplicationListener;
+
+/**
+ * Pre-computes the mapping metadata of the {@link BeanMapper} during startup, so the first requests do not
+ * pay for the reflective analysis of their source/target pairs. The bean matches of the bean pairs, of the pairs
+ * of the classes following the strict mapping convention and of their nested property pairs are registered on a
+ * single background thread, because the BeanMatchStore of BeanMapper is not thread-safe.
+ * <p>
+ * The warm-up starts when all singletons have been instantiated and does not hold up the startup. When Spring
+ * Boot announces {@link ReadinessState#ACCEPTING_TRAFFIC} before the warm-up is finished, the application is
+ * put back into the {@link ReadinessState#REFUSING_TRAFFIC} state, and is announced as accepting traffic once
+ * the warm-up is finished. Both are published while holding the same lock, so a warm-up finishing at the same time
+ * cannot announce {@link ReadinessState#ACCEPTING_TRAFFIC} before the {@link ReadinessState#REFUSING_TRAFFIC} is out.
+ */
+public class BeanMapperWarmUp implements SmartInitializingSingleton, ApplicationListener<AvailabilityChangeEvent<ReadinessState>> {
+
+    private final Logger log = LoggerFactory.getLogger(BeanMapperWarmUp.class);
+    private final BeanMapperHandle beanMapper;
+    private final Supplier<? extends Collection<BeanPair>> strictMappingPairs;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private CompletableFuture<Duration> warmUp;
+    private boolean finished;
+    private boolean readinessDeferred;
+
+    BeanMapperWarmUp(BeanMapperHandle beanMapper, Supplier<? extends Collection<BeanPair>> strictMappingPairs,
+            ApplicationEventPublisher eventPublisher) {
+        this.beanMapper = beanMapper;
+        this.strictMappingPairs = strictMappingPairs;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        start();
+    }
+
+    /**
+     * Replaces an {@link ReadinessState#ACCEPTING_TRAFFIC} announced by another component while the warm-up is
+     * still running by {@link ReadinessState#REFUSING_TRAFFIC}.
+     */
+    @Override
+    public void onApplicationEvent(AvailabilityChangeEvent<ReadinessState> event) {
+        if (event.getState() != ReadinessState.ACCEPTING_TRAFFIC || event.getSource() == this) {
+            return;
+        }
+        synchronized (this) {
+            if (finished) {
+                return;
+            }
+            readinessDeferred = true;
+            log.info("BeanMapper warm-up is not finished yet, refusing traffic until it is.");
+            AvailabilityChangeEvent.publish(eventPublisher, this, ReadinessState.REFUSING_TRAFFIC);
+        }
+    }
+
+    synchronized CompletableFuture<Duration> start() {
+        if (warmUp == null) {
+            log.info("Starting BeanMapper warm-up...");
+            long startTime = System.nanoTime();
+            warmUp = CompletableFuture.runAsync(this::warmUp, runnable -> {
+                        Thread thread = new Thread(runnable, "beanmapper-warmup");
+                        thread.setDaemon(true);
+                        thread.start();
+                    })
+                    .handle((result, e) -> {
+                        Duration duration = Duration.ofNanos(System.nanoTime() - startTime);
+                        if (e != null) {
+                            log.warn("BeanMapper warm-up failed after [{}] ms, mapping metadata will be computed on first use.", duration.toMillis(), e);
+                        } else {
+                            log.info("BeanMapper warm-up finished in [{}] ms.", duration.toMillis());
+                        }
+                        finish();
+                        return duration;
+                    });
+        }
+        return warmUp;
+    }
+
+    private synchronized void finish() {
+        finished = true;
+        if (readinessDeferred) {
+            AvailabilityChangeEvent.publish(eventPublisher, this, ReadinessState.ACCEPTING_TRAFFIC);
+        }
+    }
+
+    /**
+     * Blocks until the warm-up is finished.
+     * @return the duration of the warm-up
+     */
+    public Duration awaitCompletion() {
+        return start().join();
+    }
+
+    /**
+     * @return the duration of the warm-up, or empty if it is not finished yet
+     */
+    public Optional<Duration> getDuration() {
+        return warmUp != null && warmUp.isDone() ? Optional.of(warmUp.join()) : Optional.empty();
+    }
+
+    private void warmUp() {
+        Configuration configuration = beanMapper.get().getConfiguration();
+        Set<List<Class<?>>> visited = new HashSet<>();
+        configuration.getBeanPairs().forEach(beanPair -> BeanMatchWarmUp.warmUp(configuration, beanPair.getSourceClass(), beanPair.getTargetClass(), visited));
+        strictMappingPairs.get().forEach(beanPair -> BeanMatchWarmUp.warmUp(configuration, beanPair.getSourceClass(), beanPair.getTargetClass(), visited));
+        log.debug("Warmed up [{}] bean matches.", visited.size());
+    }
+}
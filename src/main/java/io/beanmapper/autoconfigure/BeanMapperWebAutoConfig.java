@@ -0,0 +1,198 @@
+package io.beanmapper.autoconfigure;
+
+import static java.util.Collections.singletonList;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.beanmapper.BeanMapper;
+import io.beanmapper.spring.web.MergedFormMethodArgumentResolver;
+import io.beanmapper.spring.web.converter.StructuredJsonMessageConverter;
+import jakarta.annotation.Nonnull;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.webmvc.autoconfigure.WebMvcAutoConfiguration;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.JacksonJsonHttpMessageConverter;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.HandlerMethodReturnValueHandler;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+import org.springframework.web.reactive.result.method.annotation.ArgumentResolverConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Contributes the web support of the {@link BeanMapperAutoConfig}. When a {@link JsonMapper} bean is found (Jackson
+ * is on the classpath), a {@link MergedFormMethodArgumentResolver} will be added to the Spring MVC context, or a
+ * {@link ReactiveMergedFormArgumentResolver} to the WebFlux context, and a returned {@link MappedStream} is written
+ * as JSON array by Spring MVC. Only loaded in web applications.
+ * <p>
+ * Bulk merged forms are merged through the {@link InstrumentedBeanMapper}. Merged forms are merged by the
+ * {@code MergePair} of beanmapper-spring, which maps with the {@link BeanMapper} itself, so those merges are not
+ * intercepted by the {@link BeanMappingInterceptor}s.
+ */
+@Configuration
+@ConditionalOnWebApplication
+@AutoConfigureAfter(WebMvcAutoConfiguration.class)
+public class BeanMapperWebAutoConfig {
+
+    static final String MERGED_FORM_SCHEDULER_BEAN_NAME = "beanMapperMergedFormScheduler";
+
+    @Configuration
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    static class StreamingMvcConfig {
+
+        private final Logger log = LoggerFactory.getLogger(StreamingMvcConfig.class);
+
+        /**
+         * If a {@link JsonMapper} bean is found, puts a {@link MappedStreamReturnValueHandler} in front of the other
+         * return value handlers, because the handler for {@code @ResponseBody} methods would otherwise serialize
+         * the {@link MappedStream} itself.
+         */
+        @Bean
+        public SmartInitializingSingleton mappedStreamReturnValueHandlerRegistrar(ObjectProvider<RequestMappingHandlerAdapter> adapters,
+                ObjectProvider<JsonMapper> jsonMapper) {
+            return () -> {
+                JsonMapper mapper = jsonMapper.getIfAvailable();
+                if (mapper == null) {
+                    log.warn("No MappedStreamReturnValueHandler added to MVC application because no JsonMapper bean found!");
+                    return;
+                }
+                MappedStreamReturnValueHandler handler = new MappedStreamReturnValueHandler(mapper);
+                adapters.forEach(adapter -> {
+                    List<HandlerMethodReturnValueHandler> handlers = new ArrayList<>();
+                    handlers.add(handler);
+                    if (adapter.getReturnValueHandlers() != null) {
+                        handlers.addAll(adapter.getReturnValueHandlers());
+                    }
+                    adapter.setReturnValueHandlers(handlers);
+                });
+            };
+        }
+    }
+
+    @Configuration
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    @ConditionalOnClass({ org.springframework.data.repository.core.EntityInformation.class })
+    static class MergedFormConfig implements WebMvcConfigurer {
+
+        private final Logger log = LoggerFactory.getLogger(MergedFormConfig.class);
+        private final JsonMapper jsonMapper;
+        private final BeanMapperHandle beanMapperHandle;
+        private final InstrumentedBeanMapper instrumentedBeanMapper;
+        private final ApplicationContext applicationContext;
+        private final jakarta.persistence.EntityManager entityManager;
+        private final BeanMapperProperties props;
+        private List<HttpMessageConverter<?>> messageConverters;
+
+        public MergedFormConfig(@Autowired(required = false) final JsonMapper jsonMapper,
+                final BeanMapperHandle beanMapperHandle, final InstrumentedBeanMapper instrumentedBeanMapper, final ApplicationContext applicationContext,
+                @Autowired(required = false) final jakarta.persistence.EntityManager entityManager, final BeanMapperProperties props) {
+            this.jsonMapper = jsonMapper;
+            this.beanMapperHandle = beanMapperHandle;
+            this.instrumentedBeanMapper = instrumentedBeanMapper;
+            this.applicationContext = applicationContext;
+            this.entityManager = entityManager;
+            this.props = props;
+        }
+
+        /**
+         * If a {@link JsonMapper} bean is found (Jackson is on the classpath), adds a {@link MergedFormMethodArgumentResolver}
+         * and a {@link BulkMergedFormMethodArgumentResolver} to the Spring MVC context. The message converter reading the
+         * merged forms is created once and shared by all resolvers. The {@link MergedFormMethodArgumentResolver} needs
+         * the {@link BeanMapper} itself, so it is created on the first request.
+         */
+        @Override
+        public void addArgumentResolvers(@Nonnull List<HandlerMethodArgumentResolver> argumentResolvers) {
+            if (jsonMapper != null) {
+                log.info("Adding MergedFormArgumentResolver and BulkMergedFormMethodArgumentResolver to MVC application.");
+                argumentResolvers.add(new LazyMergedFormMethodArgumentResolver(() -> new MergedFormMethodArgumentResolver(
+                        getMessageConverters(),
+                        beanMapperHandle.get(),
+                        applicationContext,
+                        entityManager)));
+                argumentResolvers.add(new BulkMergedFormMethodArgumentResolver(jsonMapper, instrumentedBeanMapper, applicationContext));
+            } else {
+                log.warn("No MergedFormArgumentResolver and BulkMergedFormMethodArgumentResolver added to MVC application because no JsonMapper bean found!");
+            }
+        }
+
+        private synchronized List<HttpMessageConverter<?>> getMessageConverters() {
+            if (messageConverters == null) {
+                HttpMessageConverter<?> messageConverter = props.getMergedForm().isStreaming()
+                        ? new StreamingStructuredJsonMessageConverter(jsonMapper)
+                        : new StructuredJsonMessageConverter(new JacksonJsonHttpMessageConverter(jsonMapper));
+                messageConverters = singletonList(messageConverter);
+            }
+            return messageConverters;
+        }
+    }
+
+    @Configuration
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+    @ConditionalOnClass(name = { "org.springframework.data.repository.core.EntityInformation", "jakarta.persistence.EntityManager" })
+    static class ReactiveMergedFormConfig implements WebFluxConfigurer {
+
+        private final Logger log = LoggerFactory.getLogger(ReactiveMergedFormConfig.class);
+        private final ObjectProvider<JsonMapper> jsonMapper;
+        private final BeanMapperHandle beanMapperHandle;
+        private final ApplicationContext applicationContext;
+        private final ObjectProvider<jakarta.persistence.EntityManager> entityManager;
+        private final ObjectProvider<Scheduler> scheduler;
+        private final ObjectProvider<PlatformTransactionManager> transactionManager;
+        private final BeanMapperProperties props;
+
+        public ReactiveMergedFormConfig(ObjectProvider<JsonMapper> jsonMapper, BeanMapperHandle beanMapperHandle, ApplicationContext applicationContext,
+                ObjectProvider<jakarta.persistence.EntityManager> entityManager,
+                @Qualifier(MERGED_FORM_SCHEDULER_BEAN_NAME) ObjectProvider<Scheduler> scheduler,
+                ObjectProvider<PlatformTransactionManager> transactionManager, BeanMapperProperties props) {
+            this.jsonMapper = jsonMapper;
+            this.beanMapperHandle = beanMapperHandle;
+            this.applicationContext = applicationContext;
+            this.entityManager = entityManager;
+            this.scheduler = scheduler;
+            this.transactionManager = transactionManager;
+            this.props = props;
+        }
+
+        /**
+         * If a {@link JsonMapper} bean is found (Jackson is on the classpath), adds a {@link ReactiveMergedFormArgumentResolver}
+         * to the WebFlux context. The entities are looked up on the {@code beanMapperMergedFormScheduler} bean, or on the
+         * bounded elastic scheduler of Reactor when there is no such bean, in a read-only transaction of the transaction
+         * manager, if there is one.
+         */
+        @Override
+        public void configureArgumentResolvers(@Nonnull ArgumentResolverConfigurer configurer) {
+            JsonMapper mapper = jsonMapper.getIfAvailable();
+            if (mapper != null) {
+                log.info("Adding ReactiveMergedFormArgumentResolver to WebFlux application.");
+                configurer.addCustomResolver(new ReactiveMergedFormArgumentResolver(
+                        mapper,
+                        beanMapperHandle,
+                        applicationContext,
+                        entityManager.getIfAvailable(),
+                        scheduler.getIfAvailable(Schedulers::boundedElastic),
+                        transactionManager.getIfUnique(),
+                        (int) props.getMergedForm().getMaxInMemorySize().toBytes()));
+            } else {
+                log.warn("No ReactiveMergedFormArgumentResolver added to WebFlux application because no JsonMapper bean found!");
+            }
+        }
+    }
+
+}
@@ -0,0 +1,19 @@
+package io.beanmapper.autoconfigure;
+
+/**
+ * Callback around the mapping calls made through the {@link InstrumentedBeanMapper}. All beans of this type
+ * are picked up by the autoconfiguration and applied in their {@link org.springframework.core.annotation.Order order}.
+ * An interceptor must call {@link BeanMappingInvocation#proceed()} to continue with the next interceptor and,
+ * eventually, the actual mapping.
+ */
+@FunctionalInterface
+public interface BeanMappingInterceptor {
+
+    /**
+     * Intercepts a mapping call.
+     * @param invocation the mapping call, including the source and target class
+     * @return the result of {@link BeanMappingInvocation#proceed()}
+     */
+    Object intercept(BeanMappingInvocation invocation);
+
+}
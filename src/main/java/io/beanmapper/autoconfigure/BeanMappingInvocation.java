@@ -0,0 +1,94 @@
+package io.beanmapper.autoconfigure;
+
+import java.util.List;
+import java.util.function.Function;
+
+import io.beanmapper.BeanMapper;
+
+/**
+ * A single mapping call made through the {@link InstrumentedBeanMapper}, as passed to the
+ * {@link BeanMappingInterceptor}s.
+ */
+public final class BeanMappingInvocation {
+
+    private final Object source;
+    private final Class<?> sourceClass;
+    private final Class<?> targetClass;
+    private final boolean collection;
+    private final List<BeanMappingInterceptor> interceptors;
+    private final Function<BeanMapper, ?> mapping;
+
+    private BeanMapper beanMapper;
+    private int position;
+
+    BeanMappingInvocation(Object source, Class<?> sourceClass, Class<?> targetClass, boolean collection,
+            List<BeanMappingInterceptor> interceptors, BeanMapper beanMapper, Function<BeanMapper, ?> mapping) {
+        this.source = source;
+        this.sourceClass = sourceClass;
+        this.targetClass = targetClass;
+        this.collection = collection;
+        this.interceptors = interceptors;
+        this.beanMapper = beanMapper;
+        this.mapping = mapping;
+    }
+
+    /**
+     * @return the object, collection, array or map being mapped, {@code null} when the source is null
+     */
+    public Object getSource() {
+        return source;
+    }
+
+    /**
+     * @return the (unproxied) class of the source, or of the first element when a collection is mapped.
+     * {@code null} when the source is null or an empty collection.
+     */
+    public Class<?> getSourceClass() {
+        return sourceClass;
+    }
+
+    /**
+     * @return the class of the target, or of the target elements when a collection is mapped. {@code null}
+     * when the target class cannot be determined up front.
+     */
+    public Class<?> getTargetClass() {
+        return targetClass;
+    }
+
+    /**
+     * @return true when a collection, array or map is mapped, false for a single object
+     */
+    public boolean isCollection() {
+        return collection;
+    }
+
+    /**
+     * @return the bean mapper the mapping will be made with
+     */
+    public BeanMapper getBeanMapper() {
+        return beanMapper;
+    }
+
+    /**
+     * Continues with the next interceptor or, when all interceptors have been applied, runs the mapping.
+     * @return the result of the mapping
+     */
+    public Object proceed() {
+        if (position < interceptors.size()) {
+            return interceptors.get(position++).intercept(this);
+        }
+        return mapping.apply(beanMapper);
+    }
+
+    /**
+     * Continues like {@link #proceed()}, but makes the mapping with another bean mapper, ie one created with
+     * {@link BeanMapper#wrap(io.beanmapper.utils.diagnostics.DiagnosticsDetailLevel)}.
+     * @param beanMapper the bean mapper to make the mapping with
+     * @return the result of the mapping
+     */
+    public Object proceed(BeanMapper beanMapper) {
+        this.beanMapper = beanMapper;
+        return proceed();
+    }
+
+}
@@ -0,0 +1,101 @@
+package io.beanmapper.autoconfigure;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import io.beanmapper.config.BeanPair;
+import io.beanmapper.config.Configuration;
+import io.beanmapper.core.BeanMatch;
+import io.beanmapper.core.BeanProperty;
+import io.beanmapper.core.collections.CollectionHandler;
+import io.beanmapper.core.converter.collections.BeanCollectionInstructions;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Registers the bean match of a source/target pair and of its nested property pairs, including the element pairs
+ * of collection properties, in the BeanMatchStore of a {@link Configuration}, and looks up the converters of the
+ * other property pairs. Used by the {@link BeanMapperWarmUp} and by the {@link ParallelCollectionMapping}, to analyse the pairs on a single thread.
+ */
+final class BeanMatchWarmUp {
+
+    private static final Logger log = LoggerFactory.getLogger(BeanMatchWarmUp.class);
+
+    private BeanMatchWarmUp() {
+    }
+
+    /**
+     * Warms up the bean match of the pair and its nested property pairs, unless the pair was visited before.
+     * @param configuration the configuration holding the BeanMatchStore
+     * @param sourceClass the source class of the pair
+     * @param targetClass the target class of the pair
+     * @param visited the pairs visited so far, which is updated
+     */
+    static void warmUp(Configuration configuration, Class<?> sourceClass, Class<?> targetClass, Set<List<Class<?>>> visited) {
+        if (!visited.add(List.of(sourceClass, targetClass))) {
+            return;
+        }
+        BeanMatch beanMatch;
+        try {
+            beanMatch = configuration.getBeanMatchStore().getBeanMatch(new BeanPair(sourceClass, targetClass));
+        } catch (RuntimeException e) {
+            log.debug("Cannot warm up bean match [{}] -> [{}].", sourceClass.getName(), targetClass.getName(), e);
+            return;
+        }
+        for (Map.Entry<String, BeanProperty> sourceNode : beanMatch.getSourceNodes().entrySet()) {
+            BeanProperty targetNode = beanMatch.getTargetNodes().get(sourceNode.getKey());
+            if (targetNode == null) {
+                continue;
+            }
+            Class<?> sourceElementClass = getCollectionElementClass(configuration, sourceNode.getValue());
+            Class<?> targetElementClass = getCollectionElementClass(configuration, targetNode);
+            if (sourceElementClass != null && targetElementClass != null) {
+                warmUpProperty(configuration, sourceElementClass, targetElementClass, visited);
+            }
+            warmUpProperty(configuration, sourceNode.getValue().getBeanClass(), targetNode.getBeanClass(), visited);
+        }
+    }
+
+    private static void warmUpProperty(Configuration configuration, Class<?> sourceClass, Class<?> targetClass, Set<List<Class<?>>> visited) {
+        if (sourceClass == null || targetClass == null || sourceClass.equals(targetClass)) {
+            return;
+        }
+        if (isMappedClass(configuration, sourceClass) && isMappedClass(configuration, targetClass)) {
+            warmUp(configuration, sourceClass, targetClass, visited);
+        } else {
+            configuration.getBeanConverter(sourceClass, targetClass);
+        }
+    }
+
+    /**
+     * @return the element class of a collection property, from the collection instructions the BeanMatchStore sets on
+     * target properties, or derived from the generic type like the BeanMatchStore does; null when the property is not
+     * a collection
+     */
+    private static Class<?> getCollectionElementClass(Configuration configuration, BeanProperty property) {
+        BeanCollectionInstructions instructions = property.getCollectionInstructions();
+        if (instructions != null && instructions.getCollectionElementType() != null
+                && !instructions.getCollectionElementType().isEmpty()) {
+            return instructions.getCollectionElementType().getType();
+        }
+        if (property.getBeanClass() == null) {
+            return null;
+        }
+        CollectionHandler<?> collectionHandler = configuration.getCollectionHandlerStore()
+                .getCollectionHandlerFor(property.getBeanClass(), configuration.getBeanUnproxy());
+        return collectionHandler == null ? null : property.getGenericClassOfField(collectionHandler.getGenericParameterIndex());
+    }
+
+    /**
+     * @return whether the class is in one of the package prefixes of the configuration, ie is mapped property by
+     * property rather than converted
+     */
+    static boolean isMappedClass(Configuration configuration, Class<?> cls) {
+        if (cls.isPrimitive() || cls.isArray() || cls.isEnum()) {
+            return false;
+        }
+        return configuration.getPackagePrefixes().stream().anyMatch(prefix -> cls.getName().startsWith(prefix + "."));
+    }
+}
@@ -0,0 +1,327 @@
+package io.beanmapper.autoconfigure;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+
+/**
+ * Annotation processor that generates a {@link GeneratedBeanPairMapper} for the bean pairs of {@link BeanMapToClass}
+ * and {@link BeanMapFromClass}. The mapper copies the properties with plain getter and setter calls, which saves
+ * the reflective lookups and calls of the BeanMapper. It is only generated for a pair the BeanMapper would map by
+ * simply copying every value:
+ * <ul>
+ * <li>both classes are public, non-generic classes, the target has a public no-arg constructor</li>
+ * <li>the properties are read and written through public getters and setters, there are no public fields</li>
+ * <li>a property has the same simple type on both sides: a primitive, wrapper, {@code String}, {@code BigDecimal},
+ * {@code BigInteger}, {@code UUID} or {@code java.time} value</li>
+ * <li>the classes and their members are not annotated with BeanMapper annotations, like {@code @BeanProperty}</li>
+ * </ul>
+ * Every other pair is mapped reflectively, as before. Generating the mappers can be switched off with the
+ * {@value #GENERATE_MAPPERS_OPTION} processor option.
+ * <p>
+ * The processor is registered through {@code META-INF/services}, next to the {@link BeanMapperIndexProcessor}.
+ */
+public class BeanPairMapperProcessor extends AbstractProcessor {
+
+    private static final String BEAN_MAPPER_ANNOTATIONS_PACKAGE = "io.beanmapper.annotations.";
+    private static final Set<String> SIMPLE_TYPES = Set.of(
+            "java.lang.String", "java.lang.Boolean", "java.lang.Character", "java.lang.Byte", "java.lang.Short",
+            "java.lang.Integer", "java.lang.Long", "java.lang.Float", "java.lang.Double",
+            "java.math.BigDecimal", "java.math.BigInteger", "java.util.UUID",
+            "java.time.Instant", "java.time.LocalDate", "java.time.LocalDateTime", "java.time.LocalTime",
+            "java.time.OffsetDateTime", "java.time.ZonedDateTime", "java.time.Duration", "java.time.Period",
+            "java.time.Year", "java.time.YearMonth");
+
+    static final String GENERATE_MAPPERS_OPTION = "beanmapper.generateMappers";
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return Set.of(BeanMapToClass.class.getName(), BeanMapFromClass.class.getName());
+    }
+
+    @Override
+    public Set<String> getSupportedOptions() {
+        return Set.of(GENERATE_MAPPERS_OPTION);
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if ("false".equalsIgnoreCase(processingEnv.getOptions().get(GENERATE_MAPPERS_OPTION))) {
+            return false;
+        }
+        for (TypeElement annotation : annotations) {
+            for (TypeElement type : ElementFilter.typesIn(roundEnv.getElementsAnnotatedWith(annotation))) {
+                generate(type);
+            }
+        }
+        return false;
+    }
+
+    private void generate(TypeElement beanPairType) {
+        TypeElement targetType = getClassValue(beanPairType, BeanMapToClass.class.getName(), "target");
+        TypeElement sourceType = getClassValue(beanPairType, BeanMapFromClass.class.getName(), "source");
+        TypeElement source = targetType != null ? beanPairType : sourceType;
+        TypeElement target = targetType != null ? targetType : beanPairType;
+        if (source == null || target == null) {
+            return;
+        }
+        Map<String, Property> properties = new LinkedHashMap<>();
+        String reason = findUnsupported(source, target, properties);
+        if (reason != null) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                    "BeanMapper maps [" + source.getQualifiedName() + "] to [" + target.getQualifiedName() + "] reflectively, "
+                            + reason + ".", beanPairType);
+            return;
+        }
+        write(beanPairType, source, target, properties);
+    }
+
+    /**
+     * Collects the properties of the pair.
+     * @return the reason the pair cannot be generated, or null if it can
+     */
+    private String findUnsupported(TypeElement source, TypeElement target, Map<String, Property> properties) {
+        for (TypeElement type : List.of(source, target)) {
+            String reason = findUnsupportedClass(type);
+            if (reason != null) {
+                return reason;
+            }
+        }
+        if (ElementFilter.constructorsIn(target.getEnclosedElements()).stream()
+                .noneMatch(constructor -> constructor.getModifiers().contains(Modifier.PUBLIC) && constructor.getParameters().isEmpty())) {
+            return "the target has no public no-arg constructor";
+        }
+        Map<String, ExecutableElement> getters = findAccessors(source, true);
+        Map<String, ExecutableElement> targetGetters = findAccessors(target, true);
+        Map<String, ExecutableElement> setters = findAccessors(target, false);
+        if (getters == null || targetGetters == null || setters == null) {
+            return "a property has more than one getter or setter";
+        }
+        for (Map.Entry<String, ExecutableElement> getter : getters.entrySet()) {
+            String name = getter.getKey();
+            TypeMirror type = getter.getValue().getReturnType();
+            ExecutableElement setter = setters.get(name);
+            if (setter == null && !targetGetters.containsKey(name)) {
+                continue;
+            }
+            if (setter == null) {
+                return "property [" + name + "] cannot be written";
+            }
+            if (!isSimpleType(type)) {
+                return "property [" + name + "] of type [" + type + "] is not a simple value";
+            }
+            if (!processingEnv.getTypeUtils().isSameType(type, setter.getParameters().get(0).asType())) {
+                return "property [" + name + "] has another type in the target";
+            }
+            properties.put(name, new Property(getter.getValue().getSimpleName().toString(), setter.getSimpleName().toString(), type));
+        }
+        return null;
+    }
+
+    private String findUnsupportedClass(TypeElement type) {
+        if (type.getKind() != ElementKind.CLASS || !type.getTypeParameters().isEmpty()) {
+            return "[" + type.getQualifiedName() + "] is not a non-generic class";
+        }
+        for (Element element = type; element instanceof TypeElement enclosing; element = element.getEnclosingElement()) {
+            if (!enclosing.getModifiers().contains(Modifier.PUBLIC)
+                    || (enclosing.getNestingKind() == NestingKind.MEMBER && !enclosing.getModifiers().contains(Modifier.STATIC))
+                    || (enclosing.getNestingKind() != NestingKind.TOP_LEVEL && enclosing.getNestingKind() != NestingKind.MEMBER)) {
+                return "[" + type.getQualifiedName() + "] is not public";
+            }
+        }
+        for (TypeElement current = type; current != null; current = getSuperclass(current)) {
+            if (hasBeanMapperAnnotation(current) || current.getEnclosedElements().stream().anyMatch(this::hasBeanMapperAnnotation)) {
+                return "[" + current.getQualifiedName() + "] has BeanMapper annotations";
+            }
+        }
+        if (ElementFilter.fieldsIn(processingEnv.getElementUtils().getAllMembers(type)).stream()
+                .anyMatch(field -> field.getModifiers().contains(Modifier.PUBLIC) && !field.getModifiers().contains(Modifier.STATIC))) {
+            return "[" + type.getQualifiedName() + "] has public fields";
+        }
+        return null;
+    }
+
+    private TypeElement getSuperclass(TypeElement type) {
+        TypeMirror superclass = type.getSuperclass();
+        if (superclass.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+        TypeElement superType = (TypeElement) ((DeclaredType) superclass).asElement();
+        return superType.getQualifiedName().contentEquals(Object.class.getName()) ? null : superType;
+    }
+
+    private boolean hasBeanMapperAnnotation(Element element) {
+        for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+            TypeElement annotationType = (TypeElement) annotation.getAnnotationType().asElement();
+            if (annotationType.getQualifiedName().toString().startsWith(BEAN_MAPPER_ANNOTATIONS_PACKAGE)) {
+                return true;
+            }
+        }
+        return element instanceof ExecutableElement method && method.getParameters().stream().anyMatch(this::hasBeanMapperAnnotation);
+    }
+
+    /**
+     * Finds the public getters or setters of the class and its superclasses, by property name.
+     * @return the accessors, or null if a property has more than one
+     */
+    private Map<String, ExecutableElement> findAccessors(TypeElement type, boolean getters) {
+        Map<String, ExecutableElement> accessors = new LinkedHashMap<>();
+        for (ExecutableElement method : ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(type))) {
+            TypeElement declaringType = (TypeElement) method.getEnclosingElement();
+            if (declaringType.getQualifiedName().contentEquals(Object.class.getName())
+                    || !method.getModifiers().contains(Modifier.PUBLIC) || method.getModifiers().contains(Modifier.STATIC)) {
+                continue;
+            }
+            String name = getters ? getGetterPropertyName(method) : getSetterPropertyName(method);
+            if (name != null && accessors.put(name, method) != null) {
+                return null;
+            }
+        }
+        return accessors;
+    }
+
+    private String getGetterPropertyName(ExecutableElement method) {
+        String name = method.getSimpleName().toString();
+        if (!method.getParameters().isEmpty() || method.getReturnType().getKind() == TypeKind.VOID) {
+            return null;
+        }
+        if (name.startsWith("get") && name.length() > 3) {
+            return decapitalize(name.substring(3));
+        }
+        if (name.startsWith("is") && name.length() > 2 && method.getReturnType().getKind() == TypeKind.BOOLEAN) {
+            return decapitalize(name.substring(2));
+        }
+        return null;
+    }
+
+    private String getSetterPropertyName(ExecutableElement method) {
+        String name = method.getSimpleName().toString();
+        if (method.getParameters().size() != 1 || !name.startsWith("set") || name.length() <= 3) {
+            return null;
+        }
+        return decapitalize(name.substring(3));
+    }
+
+    private static String decapitalize(String name) {
+        if (name.length() > 1 && Character.isUpperCase(name.charAt(0)) && Character.isUpperCase(name.charAt(1))) {
+            return name;
+        }
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private boolean isSimpleType(TypeMirror type) {
+        if (type.getKind().isPrimitive()) {
+            return true;
+        }
+        return type.getKind() == TypeKind.DECLARED
+                && SIMPLE_TYPES.contains(((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName().toString());
+    }
+
+    /**
+     * @return the name of a simple type, without the type annotations {@link TypeMirror#toString()} includes
+     */
+    private static String getTypeName(TypeMirror type) {
+        if (type.getKind().isPrimitive()) {
+            return type.getKind().name().toLowerCase(Locale.ROOT);
+        }
+        return ((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName().toString();
+    }
+
+    private TypeElement getClassValue(TypeElement type, String annotationName, String attribute) {
+        for (AnnotationMirror annotation : type.getAnnotationMirrors()) {
+            TypeElement annotationType = (TypeElement) annotation.getAnnotationType().asElement();
+            if (!annotationType.getQualifiedName().contentEquals(annotationName)) {
+                continue;
+            }
+            for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> value : annotation.getElementValues().entrySet()) {
+                if (value.getKey().getSimpleName().contentEquals(attribute) && value.getValue().getValue() instanceof DeclaredType declaredType) {
+                    return (TypeElement) declaredType.asElement();
+                }
+            }
+        }
+        return null;
+    }
+
+    private void write(TypeElement beanPairType, TypeElement source, TypeElement target, Map<String, Property> properties) {
+        PackageElement packageElement = processingEnv.getElementUtils().getPackageOf(beanPairType);
+        String packageName = packageElement.getQualifiedName().toString();
+        String binaryName = processingEnv.getElementUtils().getBinaryName(beanPairType).toString();
+        String className = GeneratedBeanPairMapper.getClassName(binaryName);
+        String simpleName = packageName.isEmpty() ? className : className.substring(packageName.length() + 1);
+        String sourceName = source.getQualifiedName().toString();
+        String targetName = target.getQualifiedName().toString();
+
+        Set<String> propertyTypes = new LinkedHashSet<>();
+        properties.values().forEach(property -> propertyTypes.add(getTypeName(property.type()) + ".class"));
+
+        StringBuilder code = new StringBuilder();
+        code.append("// Generated by ").append(BeanPairMapperProcessor.class.getName()).append(", do not edit.\n");
+        if (!packageName.isEmpty()) {
+            code.append("package ").append(packageName).append(";\n");
+        }
+        code.append("\n")
+                .append("public final class ").append(simpleName).append(" extends ").append(GeneratedBeanPairMapper.class.getName())
+                .append("<").append(sourceName).append(", ").append(targetName).append("> {\n\n")
+                .append("    public ").append(simpleName).append("() {\n")
+                .append("        super(").append(sourceName).append(".class, ").append(targetName).append(".class, java.util.List.of(")
+                .append(String.join(", ", propertyTypes)).append("));\n")
+                .append("    }\n\n")
+                .append("    @Override\n")
+                .append("    public ").append(targetName).append(" newTarget() {\n")
+                .append("        return new ").append(targetName).append("();\n")
+                .append("    }\n\n")
+                .append("    @Override\n")
+                .append("    public void map(").append(sourceName).append(" source, ").append(targetName)
+                .append(" target, io.beanmapper.config.Configuration configuration) {\n");
+        properties.values().forEach(property -> {
+            code.append("        target.").append(property.setter()).append("(");
+            if (property.type().getKind().isPrimitive()) {
+                code.append("source.").append(property.getter()).append("()");
+            } else {
+                code.append("value(source.").append(property.getter()).append("(), ").append(getTypeName(property.type()))
+                        .append(".class, configuration)");
+            }
+            code.append(");\n");
+        });
+        code.append("    }\n\n")
+                .append("}\n");
+
+        try (Writer writer = processingEnv.getFiler().createSourceFile(className, beanPairType).openWriter()) {
+            writer.write(code.toString());
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Unable to write BeanMapper mapper [" + className + "]: " + e.getMessage(), beanPairType);
+        }
+    }
+
+    private record Property(String getter, String setter, TypeMirror type) {
+    }
+}
@@ -0,0 +1,36 @@
+package io.beanmapper.autoconfigure;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a {@code List<Entity>} parameter of a controller method as the result of merging a JSON array of
+ * partial forms onto the entities they refer to. Every form must contain the id of its entity. The entities are
+ * loaded with a single query and only the properties present in a form are merged onto its entity, like
+ * {@link io.beanmapper.spring.web.MergedForm} with {@code patch = true} does for a single entity.
+ * <pre>
+ * &#64;PatchMapping
+ * public List&lt;CustomerResult&gt; update(&#64;BulkMergedForm(CustomerForm.class) List&lt;Customer&gt; customers) {
+ *     return beanMapper.map(customerRepository.saveAll(customers), CustomerResult.class);
+ * }
+ * </pre>
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface BulkMergedForm {
+
+    /**
+     * @return the class of the forms in the JSON array
+     */
+    Class<?> value();
+
+    /**
+     * @return the property of the form holding the id of its entity. It is never merged onto the entity.
+     */
+    String id() default "id";
+
+}
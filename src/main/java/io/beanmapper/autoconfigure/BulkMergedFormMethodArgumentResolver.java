@@ -0,0 +1,250 @@
+package io.beanmapper.autoconfigure;
+
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import io.beanmapper.core.inspector.PropertyAccessor;
+import io.beanmapper.core.inspector.PropertyAccessors;
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.servlet.http.HttpServletRequest;
+
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.Conventions;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.core.EntityInformation;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.ObjectError;
+import org.springframework.validation.annotation.ValidationAnnotationUtils;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.WebDataBinder;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Resolves a {@link BulkMergedForm} parameter. The JSON array in the request body is read in a single pass, recording
+ * the property names present in every form. When the parameter is annotated with {@code @Valid} or {@code @Validated},
+ * the forms are validated, and the errors are thrown as {@link MethodArgumentNotValidException} unless the parameter
+ * is followed by a {@link BindingResult} or {@link Errors} parameter. The entities the forms refer to are then loaded with a single
+ * {@link CrudRepository#findAllById(Iterable)} query and every form is merged onto its entity, merging only the
+ * properties present in the form. The entities are returned in the order of the forms. Every form is merged through
+ * the {@link InstrumentedBeanMapper}, so the merges are intercepted like any other mapping call.
+ * <p>
+ * The merged entities are updated when the transaction they are saved in is flushed, so with JDBC batching enabled
+ * ({@code spring.jpa.properties.hibernate.jdbc.batch_size}) a bulk update costs one select and a few batched updates.
+ */
+public class BulkMergedFormMethodArgumentResolver implements HandlerMethodArgumentResolver {
+
+    private final JsonMapper jsonMapper;
+    private final InstrumentedBeanMapper beanMapper;
+    private final Repositories repositories;
+
+    public BulkMergedFormMethodArgumentResolver(JsonMapper jsonMapper, InstrumentedBeanMapper beanMapper, ApplicationContext applicationContext) {
+        this(jsonMapper, beanMapper, new Repositories(applicationContext));
+    }
+
+    BulkMergedFormMethodArgumentResolver(JsonMapper jsonMapper, InstrumentedBeanMapper beanMapper, Repositories repositories) {
+        this.jsonMapper = jsonMapper;
+        this.beanMapper = beanMapper;
+        this.repositories = repositories;
+    }
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(BulkMergedForm.class);
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer, NativeWebRequest webRequest,
+            WebDataBinderFactory binderFactory) throws Exception {
+        BulkMergedForm annotation = parameter.getParameterAnnotation(BulkMergedForm.class);
+        Class<?> entityClass = getEntityClass(parameter);
+        PropertyAccessor idProperty = getIdProperty(annotation);
+        HttpInputMessage inputMessage = new ServletServerHttpRequest(webRequest.getNativeRequest(HttpServletRequest.class));
+        List<PartialForm> forms = readForms(inputMessage, annotation.value());
+        BindingResult bindingResult = validate(forms, parameter, webRequest, binderFactory);
+        if (bindingResult != null) {
+            if (bindingResult.hasErrors() && isBindExceptionRequired(parameter)) {
+                throw new MethodArgumentNotValidException(parameter, bindingResult);
+            }
+            if (mavContainer != null) {
+                mavContainer.addAttribute(BindingResult.MODEL_KEY_PREFIX + bindingResult.getObjectName(), bindingResult);
+            }
+        }
+        return merge(forms, entityClass, idProperty, inputMessage);
+    }
+
+    private Class<?> getEntityClass(MethodParameter parameter) {
+        if (!parameter.getParameterType().isAssignableFrom(List.class)) {
+            throw new IllegalStateException("@BulkMergedForm parameter " + parameter + " must be a List of entities");
+        }
+        Class<?> entityClass = ResolvableType.forMethodParameter(parameter).asCollection().resolveGeneric(0);
+        if (entityClass == null || !repositories.hasRepositoryFor(entityClass)) {
+            throw new IllegalStateException("No repository found for the entities of @BulkMergedForm parameter " + parameter);
+        }
+        return entityClass;
+    }
+
+    private PropertyAccessor getIdProperty(BulkMergedForm annotation) {
+        PropertyAccessor idProperty = PropertyAccessors.findProperty(annotation.value(), annotation.id());
+        if (idProperty == null || !idProperty.isReadable()) {
+            throw new IllegalStateException(annotation.value().getName() + " has no readable id property " + annotation.id());
+        }
+        return idProperty;
+    }
+
+    private List<PartialForm> readForms(HttpInputMessage inputMessage, Class<?> formClass) throws IOException {
+        try (JsonParser parser = StreamingStructuredJsonMessageConverter.createParser(jsonMapper, inputMessage)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new HttpMessageNotReadableException("Expected a JSON array of " + formClass.getSimpleName(), inputMessage);
+            }
+            int arrayDepth = parser.streamReadContext().getNestingDepth();
+            // every form is followed by the next one or the end of the array
+            ObjectReader formReader = jsonMapper.readerFor(formClass).without(DeserializationFeature.FAIL_ON_TRAILING_TOKENS);
+            List<PartialForm> forms = new ArrayList<>();
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                Set<String> propertyNames = new HashSet<>();
+                Object form = formReader.readValue(new PropertyNameRecordingParser(parser, propertyNames, arrayDepth));
+                if (form == null) {
+                    throw new HttpMessageNotReadableException("Form " + forms.size() + " of the JSON array is null", inputMessage);
+                }
+                forms.add(new PartialForm(form, propertyNames));
+            }
+            return forms;
+        } catch (JacksonException e) {
+            throw new HttpMessageNotReadableException("JSON parse error: " + e.getOriginalMessage(), e, inputMessage);
+        }
+    }
+
+    /**
+     * Validates every form, collecting the errors of all forms in one binding result of the list of forms, with the
+     * index of the form in front of the field names.
+     * @return the binding result, or {@code null} when the parameter is not validated
+     */
+    private BindingResult validate(List<PartialForm> forms, MethodParameter parameter, NativeWebRequest webRequest,
+            WebDataBinderFactory binderFactory) throws Exception {
+        Object[] validationHints = getValidationHints(parameter);
+        if (binderFactory == null || validationHints == null) {
+            return null;
+        }
+        String name = Conventions.getVariableNameForParameter(parameter);
+        BindingResult bindingResult = new BeanPropertyBindingResult(forms.stream().map(PartialForm::form).toList(), name);
+        for (int i = 0; i < forms.size(); i++) {
+            WebDataBinder binder = binderFactory.createBinder(webRequest, forms.get(i).form(), name + "[" + i + "]");
+            binder.validate(validationHints);
+            for (ObjectError error : binder.getBindingResult().getAllErrors()) {
+                String field = error instanceof FieldError fieldError ? "[" + i + "]." + fieldError.getField() : "[" + i + "]";
+                Object rejectedValue = error instanceof FieldError fieldError ? fieldError.getRejectedValue() : forms.get(i).form();
+                bindingResult.addError(new FieldError(name, field, rejectedValue, false, error.getCodes(), error.getArguments(),
+                        error.getDefaultMessage()));
+            }
+        }
+        return bindingResult;
+    }
+
+    private static Object[] getValidationHints(MethodParameter parameter) {
+        for (Annotation annotation : parameter.getParameterAnnotations()) {
+            Object[] validationHints = ValidationAnnotationUtils.determineValidationHints(annotation);
+            if (validationHints != null) {
+                return validationHints;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Like the argument resolvers of Spring MVC, the errors are only thrown when no {@link Errors} parameter follows.
+     */
+    private static boolean isBindExceptionRequired(MethodParameter parameter) {
+        int index = parameter.getParameterIndex();
+        Class<?>[] parameterTypes = parameter.getExecutable().getParameterTypes();
+        return parameterTypes.length <= index + 1 || !Errors.class.isAssignableFrom(parameterTypes[index + 1]);
+    }
+
+    private List<Object> merge(List<PartialForm> forms, Class<?> entityClass, PropertyAccessor idProperty,
+            HttpInputMessage inputMessage) {
+        EntityInformation<Object, Object> entityInformation = getEntityInformation(entityClass);
+        List<Object> ids = new ArrayList<>(forms.size());
+        Set<Object> distinctIds = new HashSet<>();
+        for (int i = 0; i < forms.size(); i++) {
+            Object id = idProperty.getValue(forms.get(i).form());
+            if (id == null) {
+                throw new HttpMessageNotReadableException("Form " + i + " of the JSON array has no " + idProperty.getName(), inputMessage);
+            }
+            id = DefaultConversionService.getSharedInstance().convert(id, entityInformation.getIdType());
+            if (!distinctIds.add(id)) {
+                throw new HttpMessageNotReadableException("Form " + i + " of the JSON array has the " + idProperty.getName()
+                        + " of an earlier form: " + id, inputMessage);
+            }
+            ids.add(id);
+        }
+        Map<Object, Object> entitiesById = findAllById(ids, entityClass, entityInformation);
+        Map<Set<String>, InstrumentedBeanMapper> beanMappers = new HashMap<>();
+        List<Object> entities = new ArrayList<>(forms.size());
+        for (int i = 0; i < forms.size(); i++) {
+            Object entity = entitiesById.get(ids.get(i));
+            Set<String> propertyNames = forms.get(i).propertyNames();
+            propertyNames.remove(idProperty.getName());
+            if (!propertyNames.isEmpty()) {
+                // forms of a bulk update mostly contain the same properties, so they share the BeanMapper
+                beanMappers.computeIfAbsent(propertyNames, names -> beanMapper.withBeanMapper(beanMapper.wrap()
+                                .downsizeSource(new ArrayList<>(names))
+                                .setFlushEnabled(false)
+                                .build()))
+                        .map(forms.get(i).form(), entity);
+            }
+            entities.add(entity);
+        }
+        return entities;
+    }
+
+    @SuppressWarnings("unchecked")
+    private EntityInformation<Object, Object> getEntityInformation(Class<?> entityClass) {
+        return (EntityInformation<Object, Object>) repositories.getEntityInformationFor(entityClass);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Object, Object> findAllById(List<Object> ids, Class<?> entityClass, EntityInformation<Object, Object> entityInformation) {
+        CrudRepository<Object, Object> repository = (CrudRepository<Object, Object>) repositories.getRepositoryFor(entityClass)
+                .orElseThrow(() -> new EntityNotFoundException("No repository found for " + entityClass.getName()));
+        Set<Object> missingIds = new LinkedHashSet<>(ids);
+        Map<Object, Object> entitiesById = new HashMap<>();
+        for (Object entity : repository.findAllById(new ArrayList<>(missingIds))) {
+            Object id = entityInformation.getId(entity);
+            entitiesById.put(id, entity);
+            missingIds.remove(id);
+        }
+        if (!missingIds.isEmpty()) {
+            throw new EntityNotFoundException("Unable to find " + entityClass.getName() + " with ids " + missingIds);
+        }
+        return entitiesById;
+    }
+
+    private record PartialForm(Object form, Set<String> propertyNames) {
+    }
+
+}
@@ -0,0 +1,36 @@
+package io.beanmapper.autoconfigure;
+
+import io.beanmapper.BeanMapper;
+import io.beanmapper.core.BeanPropertyMatch;
+import io.beanmapper.spring.converter.IdToEntityBeanConverter;
+
+import org.springframework.context.ApplicationContext;
+
+/**
+ * {@link IdToEntityBeanConverter} that looks up the entities in the {@link IdToEntityCache} first, so an id
+ * that is referenced several times within one transaction or request is only queried once.
+ */
+public class CachingIdToEntityBeanConverter extends IdToEntityBeanConverter {
+
+    private final IdToEntityCache cache;
+
+    public CachingIdToEntityBeanConverter(ApplicationContext applicationContext, IdToEntityCache cache) {
+        super(applicationContext);
+        this.cache = cache;
+    }
+
+    @Override
+    public <S, T> T convert(BeanMapper beanMapper, S source, Class<T> targetClass, BeanPropertyMatch beanPropertyMatch) {
+        if (source == null) {
+            return null;
+        }
+        Object cached = cache.get(targetClass, source);
+        if (cached != null) {
+            return targetClass.cast(cached);
+        }
+        T entity = super.convert(beanMapper, source, targetClass, beanPropertyMatch);
+        cache.put(targetClass, source, entity);
+        return entity;
+    }
+
+}
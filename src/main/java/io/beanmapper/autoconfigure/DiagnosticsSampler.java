@@ -0,0 +1,172 @@
+package io.beanmapper.autoconfigure;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.beanmapper.BeanMapper;
+import io.beanmapper.config.DiagnosticsConfiguration;
+import io.beanmapper.utils.diagnostics.DiagnosticsDetailLevel;
+import io.beanmapper.utils.diagnostics.tree.DiagnosticsNode;
+
+/**
+ * Records BeanMapper's diagnostics for a sample of the mapping calls made through the
+ * {@link InstrumentedBeanMapper}, so diagnostics can stay enabled under production load. Every
+ * {@code sampleRate}th call is made with a {@link BeanMapper} wrapped with the diagnostics level, and its
+ * diagnostics tree is recorded. Calls that take longer than the slow threshold are recorded without a tree,
+ * because they ran without diagnostics, and the next call for the same source/target pair is sampled.
+ * <p>
+ * The samples are kept in a fixed-size {@link RingBuffer}, so the memory used is bounded. They hold the class
+ * names of the diagnostics tree only, never the mapped objects.
+ */
+public class DiagnosticsSampler implements BeanMappingInterceptor {
+
+    private final long sampleRate;
+    private final long slowThresholdNanos;
+    private final DiagnosticsDetailLevel level;
+    private final RingBuffer<Sample> samples;
+    private final AtomicLong calls = new AtomicLong();
+    private final Map<PairKey, Boolean> slowPairs = new ConcurrentHashMap<>();
+
+    /**
+     * @param sampleRate sample 1 in this many calls, 0 to only sample slow pairs
+     * @param slowThreshold the duration above which a call is slow, {@code null} to not detect slow calls
+     * @param level the diagnostics level the sampled calls are made with
+     * @param bufferSize the number of samples kept
+     */
+    public DiagnosticsSampler(int sampleRate, Duration slowThreshold, DiagnosticsDetailLevel level, int bufferSize) {
+        if (!level.isEnabled()) {
+            throw new IllegalArgumentException("Diagnostics level " + level + " does not record diagnostics");
+        }
+        this.sampleRate = sampleRate;
+        this.slowThresholdNanos = slowThreshold != null ? slowThreshold.toNanos() : Long.MAX_VALUE;
+        this.level = level;
+        this.samples = new RingBuffer<>(bufferSize);
+    }
+
+    @Override
+    public Object intercept(BeanMappingInvocation invocation) {
+        PairKey pair = new PairKey(invocation.getSourceClass(), invocation.getTargetClass(), invocation.isCollection());
+        Reason reason = sampleReason(pair);
+        if (reason != null) {
+            return sample(invocation, pair, reason);
+        }
+        long startTime = System.nanoTime();
+        Object result = invocation.proceed();
+        long duration = System.nanoTime() - startTime;
+        if (duration > slowThresholdNanos) {
+            slowPairs.put(pair, Boolean.TRUE);
+            samples.add(new Sample(Instant.now(), pair, duration, Reason.SLOW, null));
+        }
+        return result;
+    }
+
+    /**
+     * @return the recorded samples, oldest first
+     */
+    public List<Sample> getSamples() {
+        return samples.snapshot();
+    }
+
+    /**
+     * @return the number of samples recorded since startup, including the ones no longer kept
+     */
+    public long getRecorded() {
+        return samples.getAdded();
+    }
+
+    public int getBufferSize() {
+        return samples.getCapacity();
+    }
+
+    private Reason sampleReason(PairKey pair) {
+        if (!slowPairs.isEmpty() && slowPairs.remove(pair) != null) {
+            return Reason.SLOW_PAIR;
+        }
+        if (sampleRate > 0 && calls.getAndIncrement() % sampleRate == 0) {
+            return Reason.RATE;
+        }
+        return null;
+    }
+
+    private Object sample(BeanMappingInvocation invocation, PairKey pair, Reason reason) {
+        BeanMapper diagnosticsMapper = invocation.getBeanMapper().wrap(level).build();
+        long startTime = System.nanoTime();
+        try {
+            return invocation.proceed(diagnosticsMapper);
+        } finally {
+            long duration = System.nanoTime() - startTime;
+            samples.add(new Sample(Instant.now(), pair, duration, reason, describe(diagnosticsMapper)));
+        }
+    }
+
+    /**
+     * Describes the mappings made by the diagnostics mapper, which are the children of the placeholder node
+     * BeanMapper creates for a wrapped mapper.
+     */
+    private static List<Node> describe(BeanMapper diagnosticsMapper) {
+        if (diagnosticsMapper.getConfiguration() instanceof DiagnosticsConfiguration configuration) {
+            return configuration.getBeanMapperDiagnostics()
+                    .map(root -> root.getDiagnostics().stream().<Node>map(DiagnosticsSampler::describe).toList())
+                    .orElse(List.of());
+        }
+        return List.of();
+    }
+
+    private static Node describe(DiagnosticsNode<?, ?> node) {
+        return new Node(node.getClass().getSimpleName(), className(node.getSourceClass()), className(node.getTargetClass()),
+                node.getDiagnostics().stream().<Node>map(DiagnosticsSampler::describe).toList());
+    }
+
+    private static String className(Class<?> cls) {
+        return cls != null ? cls.getName() : null;
+    }
+
+    /**
+     * Why a call was recorded.
+     */
+    public enum Reason {
+        /** One in {@code sampleRate} calls. */
+        RATE,
+        /** The call took longer than the slow threshold; it ran without diagnostics. */
+        SLOW,
+        /** The first call for a pair after a slow call for that pair. */
+        SLOW_PAIR
+    }
+
+    /**
+     * A recorded mapping call.
+     * @param timestamp when the call finished
+     * @param source the (unproxied) source class, {@code null} when unknown
+     * @param target the target class, {@code null} when unknown
+     * @param collection whether a collection was mapped
+     * @param durationNanos the duration of the call, including the diagnostics overhead for sampled calls
+     * @param reason why the call was recorded
+     * @param diagnostics the diagnostics trees of the mappings made, {@code null} for slow calls
+     */
+    public record Sample(Instant timestamp, String source, String target, boolean collection, long durationNanos,
+            Reason reason, List<Node> diagnostics) {
+
+        Sample(Instant timestamp, PairKey pair, long durationNanos, Reason reason, List<Node> diagnostics) {
+            this(timestamp, className(pair.sourceClass()), className(pair.targetClass()), pair.collection(), durationNanos,
+                    reason, diagnostics);
+        }
+    }
+
+    /**
+     * A node of BeanMapper's diagnostics tree.
+     * @param type the kind of node, ie MappingDiagnosticsNode or ConversionDiagnosticsNode
+     * @param source the source class
+     * @param target the target class
+     * @param children the mappings and conversions made for this node
+     */
+    public record Node(String type, String source, String target, List<Node> children) {
+    }
+
+    private record PairKey(Class<?> sourceClass, Class<?> targetClass, boolean collection) {
+    }
+
+}
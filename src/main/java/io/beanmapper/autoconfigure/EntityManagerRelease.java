@@ -0,0 +1,47 @@
+package io.beanmapper.autoconfigure;
+
+import jakarta.persistence.EntityManager;
+
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * Releases the streamed entities from the {@link EntityManager} bound to the current thread, by detaching every
+ * mapped entity or by clearing the whole persistence context every {@code clearInterval} elements.
+ */
+class EntityManagerRelease implements PersistenceContextRelease {
+
+    private final ObjectProvider<EntityManager> entityManager;
+    private final BeanMapperProperties.Streaming.Release mode;
+    private final int clearInterval;
+
+    EntityManagerRelease(ObjectProvider<EntityManager> entityManager, BeanMapperProperties.Streaming.Release mode, int clearInterval) {
+        if (mode == BeanMapperProperties.Streaming.Release.CLEAR && clearInterval < 1) {
+            throw new IllegalArgumentException("beanmapper.streaming.clear-interval must be at least 1, but was " + clearInterval);
+        }
+        this.entityManager = entityManager;
+        this.mode = mode;
+        this.clearInterval = clearInterval;
+    }
+
+    @Override
+    public void afterElement(Object source, long count) {
+        EntityManager em = entityManager.getIfAvailable();
+        if (em == null) {
+            return;
+        }
+        if (mode == BeanMapperProperties.Streaming.Release.DETACH) {
+            detach(em, source);
+        } else if (mode == BeanMapperProperties.Streaming.Release.CLEAR && count % clearInterval == 0) {
+            em.clear();
+        }
+    }
+
+    private void detach(EntityManager em, Object source) {
+        try {
+            em.detach(source);
+        } catch (IllegalArgumentException e) {
+            // not an entity, nothing to release
+        }
+    }
+
+}
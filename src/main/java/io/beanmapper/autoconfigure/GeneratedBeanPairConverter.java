@@ -0,0 +1,103 @@
+package io.beanmapper.autoconfigure;
+
+import java.util.List;
+
+import io.beanmapper.BeanMapper;
+import io.beanmapper.config.Configuration;
+import io.beanmapper.core.BeanPropertyMatch;
+import io.beanmapper.core.constructor.BeanInitializer;
+import io.beanmapper.core.constructor.DefaultBeanInitializer;
+import io.beanmapper.core.converter.BeanConverter;
+
+/**
+ * Converts the source of a bean pair to its target with the {@link GeneratedBeanPairMapper} of the pair, instead of
+ * the reflective mapping of the {@link BeanMapper}. Like the reflective mapping, a nested target that already exists
+ * is updated rather than replaced, and a null source becomes the default value of the target class.
+ * <p>
+ * The generated mapper copies the property values as they are, which is what the default converters of the
+ * {@link BeanMapper} do for properties of the same type. The pair is mapped reflectively when another converter
+ * matches one of the property types, or when the mapping downsizes the source or target.
+ * <p>
+ * The {@link BeanMapper} only asks its converters for nested properties and for the elements of collections, so a
+ * direct call to {@code map(source, targetClass)} still maps the pair reflectively.
+ */
+final class GeneratedBeanPairConverter implements BeanConverter {
+
+    private static final String DEFAULT_CONVERTER_PACKAGE = "io.beanmapper.core.converter.";
+
+    private final GeneratedBeanPairMapper<Object, Object> mapper;
+    private volatile Boolean propertyTypeConverted;
+
+    @SuppressWarnings("unchecked")
+    GeneratedBeanPairConverter(GeneratedBeanPairMapper<?, ?> mapper) {
+        this.mapper = (GeneratedBeanPairMapper<Object, Object>) mapper;
+    }
+
+    GeneratedBeanPairMapper<?, ?> getMapper() {
+        return mapper;
+    }
+
+    @Override
+    public boolean match(Class<?> sourceClass, Class<?> targetClass) {
+        return sourceClass == mapper.getSourceClass() && targetClass == mapper.getTargetClass();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <S, T> T convert(BeanMapper beanMapper, S source, Class<T> targetClass, BeanPropertyMatch beanPropertyMatch) {
+        Configuration configuration = beanMapper.getConfiguration();
+        if (source == null) {
+            return configuration.getDefaultValueForClass(targetClass);
+        }
+        Object target = beanPropertyMatch != null ? beanPropertyMatch.getTargetObject() : null;
+        if (isMappedReflectively(configuration)) {
+            BeanMapper reflectiveMapper = beanMapper.wrap().setConverterChoosable(false).build();
+            return target != null ? (T) reflectiveMapper.map(source, target) : reflectiveMapper.map(source, targetClass);
+        }
+        if (target == null) {
+            target = newTarget(configuration);
+        }
+        mapper.map(source, target, configuration);
+        return (T) target;
+    }
+
+    private boolean isMappedReflectively(Configuration configuration) {
+        return isNotEmpty(configuration.getDownsizeSource())
+                || isNotEmpty(configuration.getDownsizeTarget())
+                || isPropertyTypeConverted(configuration);
+    }
+
+    private static boolean isNotEmpty(List<String> properties) {
+        return properties != null && !properties.isEmpty();
+    }
+
+    /**
+     * Determines on first use whether a converter other than the default converters matches one of the property
+     * types, ie would convert a value the generated mapper copies as it is.
+     */
+    private boolean isPropertyTypeConverted(Configuration configuration) {
+        Boolean converted = propertyTypeConverted;
+        if (converted == null) {
+            converted = configuration.getBeanConverters().stream()
+                    .flatMap(BeanConverterIndex::unwrap)
+                    .filter(converter -> !converter.getClass().getName().startsWith(DEFAULT_CONVERTER_PACKAGE))
+                    .anyMatch(converter -> mapper.getPropertyTypes().stream().anyMatch(type -> converter.match(type, type)));
+            propertyTypeConverted = converted;
+        }
+        return converted;
+    }
+
+    private Object newTarget(Configuration configuration) {
+        BeanInitializer beanInitializer = configuration.getBeanInitializer();
+        if (beanInitializer.getClass() == DefaultBeanInitializer.class) {
+            return mapper.newTarget();
+        }
+        return beanInitializer.instantiate(mapper.getTargetClass(), null);
+    }
+
+    @Override
+    public String toString() {
+        return "GeneratedBeanPairConverter[" + mapper.getClass().getName() + "]";
+    }
+
+}
@@ -0,0 +1,93 @@
+package io.beanmapper.autoconfigure;
+
+import java.util.List;
+import java.util.Optional;
+
+import io.beanmapper.config.Configuration;
+
+import org.springframework.util.ClassUtils;
+
+/**
+ * Base class of the mappers the {@link BeanPairMapperProcessor} generates for the bean pairs of {@link BeanMapToClass}
+ * and {@link BeanMapFromClass}. A generated mapper copies the properties of the source to the target with plain
+ * getter and setter calls. It is registered as converter of the pair by the {@link BeanMapperAutoConfig}, through a
+ * {@link GeneratedBeanPairConverter}. Not meant to be extended by hand.
+ * @param <S> the source class of the pair
+ * @param <T> the target class of the pair
+ */
+public abstract class GeneratedBeanPairMapper<S, T> {
+
+    static final String CLASS_NAME_SUFFIX = "_BeanPairMapper";
+
+    private final Class<S> sourceClass;
+    private final Class<T> targetClass;
+    private final List<Class<?>> propertyTypes;
+
+    protected GeneratedBeanPairMapper(Class<S> sourceClass, Class<T> targetClass, List<Class<?>> propertyTypes) {
+        this.sourceClass = sourceClass;
+        this.targetClass = targetClass;
+        this.propertyTypes = propertyTypes;
+    }
+
+    public Class<S> getSourceClass() {
+        return sourceClass;
+    }
+
+    public Class<T> getTargetClass() {
+        return targetClass;
+    }
+
+    /**
+     * @return the types of the copied properties, which are the same on the source and the target
+     */
+    public List<Class<?>> getPropertyTypes() {
+        return propertyTypes;
+    }
+
+    /**
+     * @return a new target, created with its public no-arg constructor
+     */
+    public abstract T newTarget();
+
+    /**
+     * Copies the properties of the source to the target.
+     * @param source the source to read
+     * @param target the target to write
+     * @param configuration the configuration of the mapping, which holds the default values
+     */
+    public abstract void map(S source, T target, Configuration configuration);
+
+    /**
+     * Returns the value to write for a property value, which is the value itself unless it is null. For null, the
+     * BeanMapper writes null for strings and numbers, which pass its default converters, and the default value of
+     * the class for the other types.
+     */
+    protected static <V> V value(V value, Class<V> type, Configuration configuration) {
+        if (value != null || type == String.class || Number.class.isAssignableFrom(type)) {
+            return value;
+        }
+        return configuration.getDefaultValueForClass(type);
+    }
+
+    /**
+     * @return the name of the mapper generated for the class annotated with {@link BeanMapToClass} or
+     * {@link BeanMapFromClass}, in the package of that class
+     */
+    static String getClassName(String beanPairClassName) {
+        return beanPairClassName.replace('$', '_') + CLASS_NAME_SUFFIX;
+    }
+
+    /**
+     * @return the mapper generated for the class annotated with {@link BeanMapToClass} or {@link BeanMapFromClass},
+     * if the {@link BeanPairMapperProcessor} generated one
+     */
+    static Optional<Class<?>> findClass(Class<?> beanPairClass) {
+        String className = getClassName(beanPairClass.getName());
+        ClassLoader classLoader = beanPairClass.getClassLoader();
+        if (!ClassUtils.isPresent(className, classLoader)) {
+            return Optional.empty();
+        }
+        return Optional.of(ClassUtils.resolveClassName(className, classLoader));
+    }
+
+}
@@ -0,0 +1,160 @@
+package io.beanmapper.autoconfigure;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * Memoizes the entities the id-to-entity converters looked up, so an id that is referenced by several forms
+ * is only queried once. The entities are cached for the current transaction and the cache is dropped when the
+ * transaction completes. An inner transaction, which has its own persistence context, starts with an empty cache
+ * and the cache of the outer transaction is restored when it is resumed. Outside a transaction, the entities are
+ * cached for the current web request. Lookups made outside both, or within a transaction scope without an actual
+ * transaction, are not cached.
+ * <p>
+ * Every transaction or request holds at most {@code maxSize} entities, the least recently used ones are
+ * evicted first.
+ */
+public class IdToEntityCache {
+
+    private static final boolean WEB_PRESENT = ClassUtils.isPresent(
+            "org.springframework.web.context.request.RequestContextHolder", IdToEntityCache.class.getClassLoader());
+
+    private final int maxSize;
+    private final String requestAttributeName = IdToEntityCache.class.getName() + "@" + Integer.toHexString(System.identityHashCode(this));
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public IdToEntityCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns the cached entity.
+     * @param entityClass the class of the entity
+     * @param id the id of the entity
+     * @return the entity, or {@code null} when it is not cached or there is no transaction or request to cache it for
+     */
+    public Object get(Class<?> entityClass, Object id) {
+        Entries entries = currentEntries();
+        if (entries == null) {
+            return null;
+        }
+        Object entity;
+        synchronized (entries) {
+            entity = entries.get(new EntityKey(entityClass, id));
+        }
+        (entity != null ? hits : misses).increment();
+        return entity;
+    }
+
+    /**
+     * Caches the entity for the current transaction or request, if any.
+     * @param entityClass the class of the entity
+     * @param id the id of the entity
+     * @param entity the entity
+     */
+    public void put(Class<?> entityClass, Object id, Object entity) {
+        Entries entries = currentEntries();
+        if (entries != null && entity != null) {
+            synchronized (entries) {
+                entries.put(new EntityKey(entityClass, id), entity);
+            }
+        }
+    }
+
+    /**
+     * @return the number of lookups that were served from the cache
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of lookups that had to be queried, while a transaction or request was active
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    private Entries currentEntries() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            return TransactionSynchronizationManager.isActualTransactionActive() ? transactionEntries() : null;
+        }
+        return WEB_PRESENT ? RequestScope.entries(requestAttributeName, maxSize) : null;
+    }
+
+    private Entries transactionEntries() {
+        Entries entries = (Entries) TransactionSynchronizationManager.getResource(this);
+        if (entries == null) {
+            Entries newEntries = new Entries(maxSize);
+            TransactionSynchronizationManager.bindResource(this, newEntries);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void suspend() {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(IdToEntityCache.this);
+                }
+
+                @Override
+                public void resume() {
+                    TransactionSynchronizationManager.bindResource(IdToEntityCache.this, newEntries);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(IdToEntityCache.this);
+                }
+            });
+            entries = newEntries;
+        }
+        return entries;
+    }
+
+    /**
+     * Separate class, so spring-web is only loaded when it is present.
+     */
+    private static class RequestScope {
+
+        static Entries entries(String attributeName, int maxSize) {
+            RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+            if (attributes == null) {
+                return null;
+            }
+            Entries entries = (Entries) attributes.getAttribute(attributeName, RequestAttributes.SCOPE_REQUEST);
+            if (entries == null) {
+                entries = new Entries(maxSize);
+                attributes.setAttribute(attributeName, entries, RequestAttributes.SCOPE_REQUEST);
+            }
+            return entries;
+        }
+    }
+
+    private static class Entries extends LinkedHashMap<EntityKey, Object> {
+
+        private final int maxSize;
+
+        Entries(int maxSize) {
+            super(16, 0.75f, true);
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<EntityKey, Object> eldest) {
+            return size() > maxSize;
+        }
+    }
+
+    private record EntityKey(Class<?> entityClass, Object id) {
+    }
+
+}
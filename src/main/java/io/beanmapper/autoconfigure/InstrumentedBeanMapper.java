@@ -0,0 +1,144 @@
+package io.beanmapper.autoconfigure;
+
+import java.lang.reflect.ParameterizedType;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.function.Function;
+
+import io.beanmapper.BeanMapper;
+import io.beanmapper.config.BeanMapperBuilder;
+import io.beanmapper.config.Configuration;
+import io.beanmapper.utils.diagnostics.DiagnosticsDetailLevel;
+
+/**
+ * Facade over a {@link BeanMapper} that runs every mapping call through the registered
+ * {@link BeanMappingInterceptor}s, ie to record metrics. {@link BeanMapper} is a final class and cannot be
+ * decorated, so inject this bean instead of the {@link BeanMapper} where mapping calls must be intercepted.
+ * It offers the same {@code map} methods.
+ * <p>
+ * Mappers created with {@link #wrap()} are plain {@link BeanMapper}s. Use {@link #withBeanMapper(BeanMapper)}
+ * to intercept their calls as well.
+ * <p>
+ * The bean created by the {@link BeanMapperAutoConfig} resolves the {@link BeanMapper} on first use, so it does not
+ * wait for a {@link BeanMapper} that is built in the background.
+ */
+public final class InstrumentedBeanMapper {
+
+    private final BeanMapperHandle beanMapper;
+    private final List<BeanMappingInterceptor> interceptors;
+
+    public InstrumentedBeanMapper(BeanMapper beanMapper, List<BeanMappingInterceptor> interceptors) {
+        this(BeanMapperHandle.of(beanMapper), interceptors);
+    }
+
+    InstrumentedBeanMapper(BeanMapperHandle beanMapper, List<BeanMappingInterceptor> interceptors) {
+        this.beanMapper = beanMapper;
+        this.interceptors = List.copyOf(interceptors);
+    }
+
+    /**
+     * Returns a facade over another {@link BeanMapper}, ie one created with {@link #wrap()}, that uses
+     * the same interceptors.
+     * @param beanMapper the bean mapper to delegate to
+     * @return the facade
+     */
+    public InstrumentedBeanMapper withBeanMapper(BeanMapper beanMapper) {
+        return new InstrumentedBeanMapper(beanMapper, interceptors);
+    }
+
+    public <S, T> T map(S source) {
+        Configuration configuration = getConfiguration();
+        Class<?> targetClass = configuration.getTargetClass() != null ? configuration.getTargetClass()
+                : configuration.getTarget() != null ? configuration.getTarget().getClass() : null;
+        return invoke(source, getSourceClass(source), targetClass, false, mapper -> mapper.map(source));
+    }
+
+    public <S, T> T map(S source, T target) {
+        return invoke(source, getSourceClass(source), target != null ? target.getClass() : null, false, mapper -> mapper.map(source, target));
+    }
+
+    public <S, T> Optional<T> map(Optional<S> source, Class<T> targetClass) {
+        return invoke(source.orElse(null), getSourceClass(source.orElse(null)), targetClass, false, mapper -> mapper.map(source, targetClass));
+    }
+
+    public <S, P extends ParameterizedType> Object map(S source, P targetType) {
+        return invoke(source, getSourceClass(source), (Class<?>) targetType.getRawType(), false, mapper -> mapper.map(source, targetType));
+    }
+
+    public <S, T> T map(S source, Class<T> targetClass) {
+        return invoke(source, getSourceClass(source), targetClass, false, mapper -> mapper.map(source, targetClass));
+    }
+
+    public <S, T> T[] map(S[] sources, Class<T> targetClass) {
+        Class<?> sourceClass = sources != null ? sources.getClass().getComponentType() : null;
+        return invoke(sources, sourceClass, targetClass, true, mapper -> mapper.map(sources, targetClass));
+    }
+
+    public <S, T> Collection<T> map(Collection<S> sources, Class<T> targetClass) {
+        return invoke(sources, getElementClass(sources), targetClass, true, mapper -> mapper.map(sources, targetClass));
+    }
+
+    public <S, T> List<T> map(List<S> sources, Class<T> targetClass) {
+        return invoke(sources, getElementClass(sources), targetClass, true, mapper -> mapper.map(sources, targetClass));
+    }
+
+    public <S, T> Set<T> map(Set<S> sources, Class<T> targetClass) {
+        return invoke(sources, getElementClass(sources), targetClass, true, mapper -> mapper.map(sources, targetClass));
+    }
+
+    public <S, T> Queue<T> map(Queue<S> sources, Class<T> targetClass) {
+        return invoke(sources, getElementClass(sources), targetClass, true, mapper -> mapper.map(sources, targetClass));
+    }
+
+    public <K, S, T> Map<K, T> map(Map<K, S> sources, Class<T> targetClass) {
+        return invoke(sources, getElementClass(sources != null ? sources.values() : null), targetClass, true, mapper -> mapper.map(sources, targetClass));
+    }
+
+    public BeanMapperBuilder wrap() {
+        return getBeanMapper().wrap();
+    }
+
+    public BeanMapperBuilder wrap(DiagnosticsDetailLevel diagnosticsDetailLevel) {
+        return getBeanMapper().wrap(diagnosticsDetailLevel);
+    }
+
+    public Configuration getConfiguration() {
+        return getBeanMapper().getConfiguration();
+    }
+
+    /**
+     * @return the bean mapper the mapping calls are delegated to
+     */
+    public BeanMapper getBeanMapper() {
+        return beanMapper.get();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <R> R invoke(Object source, Class<?> sourceClass, Class<?> targetClass, boolean collection, Function<BeanMapper, R> mapping) {
+        if (interceptors.isEmpty()) {
+            return mapping.apply(getBeanMapper());
+        }
+        return (R) new BeanMappingInvocation(source, sourceClass, targetClass, collection, interceptors, getBeanMapper(), mapping).proceed();
+    }
+
+    private Class<?> getElementClass(Collection<?> sources) {
+        if (sources == null || interceptors.isEmpty()) {
+            return null;
+        }
+        Iterator<?> iterator = sources.iterator();
+        return iterator.hasNext() ? getSourceClass(iterator.next()) : null;
+    }
+
+    private Class<?> getSourceClass(Object source) {
+        if (source == null || interceptors.isEmpty()) {
+            return null;
+        }
+        return getConfiguration().getBeanUnproxy().unproxy(source.getClass());
+    }
+
+}
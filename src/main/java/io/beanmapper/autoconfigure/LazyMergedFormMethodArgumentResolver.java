@@ -0,0 +1,43 @@
+package io.beanmapper.autoconfigure;
+
+import java.util.function.Supplier;
+
+import io.beanmapper.spring.web.MergedForm;
+import io.beanmapper.spring.web.MergedFormMethodArgumentResolver;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.util.function.SingletonSupplier;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+/**
+ * Creates the {@link MergedFormMethodArgumentResolver} when the first {@link MergedForm} parameter is resolved. The
+ * resolver needs the {@link io.beanmapper.BeanMapper} itself, which may still be built in the background while Spring
+ * MVC is configured.
+ */
+final class LazyMergedFormMethodArgumentResolver implements HandlerMethodArgumentResolver {
+
+    private final SingletonSupplier<MergedFormMethodArgumentResolver> delegate;
+
+    LazyMergedFormMethodArgumentResolver(Supplier<MergedFormMethodArgumentResolver> delegate) {
+        this.delegate = SingletonSupplier.of(delegate);
+    }
+
+    MergedFormMethodArgumentResolver getDelegate() {
+        return delegate.obtain();
+    }
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(MergedForm.class);
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer, NativeWebRequest webRequest,
+            WebDataBinderFactory binderFactory) throws Exception {
+        return getDelegate().resolveArgument(parameter, mavContainer, webRequest, binderFactory);
+    }
+
+}
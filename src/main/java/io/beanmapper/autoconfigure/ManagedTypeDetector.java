@@ -0,0 +1,139 @@
+package io.beanmapper.autoconfigure;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationContext;
+
+/**
+ * Determines whether mapping a source class to a target class touches JPA-managed types, by walking the fields
+ * of both classes, their element types and the classes of those fields. Mapping such types involves the
+ * {@link jakarta.persistence.EntityManager} of the current thread, ie to lazy load associations or look up
+ * entities by id, so it must not be spread over other threads. The results are cached per class pair.
+ */
+class ManagedTypeDetector {
+
+    static final ManagedTypeDetector NONE = new ManagedTypeDetector(type -> false);
+
+    private static final Set<String> MANAGED_TYPE_ANNOTATIONS = Set.of(
+            "jakarta.persistence.Entity", "jakarta.persistence.Embeddable", "jakarta.persistence.MappedSuperclass");
+
+    private final Predicate<Class<?>> managedType;
+    private final Map<ClassPair, Boolean> results = new ConcurrentHashMap<>();
+
+    ManagedTypeDetector(Predicate<Class<?>> managedType) {
+        this.managedType = managedType;
+    }
+
+    /**
+     * Detects the classes annotated as JPA entity, embeddable or mapped superclass, and the managed types of the
+     * {@link EntityManagerFactory} beans. The factories are only looked up when the first pair is detected.
+     * @param applicationContext the application context holding the entity manager factories
+     * @return the detector
+     */
+    static ManagedTypeDetector forJpa(ApplicationContext applicationContext) {
+        return new ManagedTypeDetector(new JpaManagedTypes(applicationContext.getBeanProvider(EntityManagerFactory.class)));
+    }
+
+    boolean touchesManagedTypes(Class<?> sourceClass, Class<?> targetClass) {
+        return results.computeIfAbsent(new ClassPair(sourceClass, targetClass), pair -> {
+            Set<Class<?>> visited = new HashSet<>();
+            return touchesManagedType(sourceClass, visited) || touchesManagedType(targetClass, visited);
+        });
+    }
+
+    private boolean touchesManagedType(Class<?> cls, Set<Class<?>> visited) {
+        if (cls == null || cls.isPrimitive() || cls.isEnum() || isJavaType(cls) || !visited.add(cls)) {
+            return false;
+        }
+        if (cls.isArray()) {
+            return touchesManagedType(cls.getComponentType(), visited);
+        }
+        if (managedType.test(cls)) {
+            return true;
+        }
+        for (Class<?> current = cls; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                if (touchesManagedType(field.getGenericType(), visited)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean touchesManagedType(Type type, Set<Class<?>> visited) {
+        if (type instanceof Class<?> cls) {
+            return touchesManagedType(cls, visited);
+        }
+        if (type instanceof ParameterizedType parameterizedType) {
+            for (Type argument : parameterizedType.getActualTypeArguments()) {
+                if (touchesManagedType(argument, visited)) {
+                    return true;
+                }
+            }
+            return touchesManagedType(parameterizedType.getRawType(), visited);
+        }
+        return false;
+    }
+
+    /**
+     * Checks the annotations by name, so JPA does not have to be present.
+     * @param cls the class to check
+     * @return true when the class is annotated as JPA entity, embeddable or mapped superclass
+     */
+    static boolean hasManagedTypeAnnotation(Class<?> cls) {
+        for (Annotation annotation : cls.getAnnotations()) {
+            if (MANAGED_TYPE_ANNOTATIONS.contains(annotation.annotationType().getName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static boolean isJavaType(Class<?> cls) {
+        String name = cls.getName();
+        return name.startsWith("java.") || name.startsWith("javax.") || name.startsWith("jdk.");
+    }
+
+    private static class JpaManagedTypes implements Predicate<Class<?>> {
+
+        private final ObjectProvider<EntityManagerFactory> entityManagerFactories;
+        private volatile Set<Class<?>> metamodelTypes;
+
+        JpaManagedTypes(ObjectProvider<EntityManagerFactory> entityManagerFactories) {
+            this.entityManagerFactories = entityManagerFactories;
+        }
+
+        @Override
+        public boolean test(Class<?> cls) {
+            return hasManagedTypeAnnotation(cls) || getMetamodelTypes().contains(cls);
+        }
+
+        private Set<Class<?>> getMetamodelTypes() {
+            Set<Class<?>> types = metamodelTypes;
+            if (types == null) {
+                Set<Class<?>> collected = new HashSet<>();
+                entityManagerFactories.orderedStream().forEach(entityManagerFactory ->
+                        entityManagerFactory.getMetamodel().getManagedTypes().forEach(type -> collected.add(type.getJavaType())));
+                types = Set.copyOf(collected);
+                metamodelTypes = types;
+            }
+            return types;
+        }
+    }
+
+    private record ClassPair(Class<?> sourceClass, Class<?> targetClass) {
+    }
+
+}
@@ -0,0 +1,59 @@
+package io.beanmapper.autoconfigure;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Stream of elements that are mapped lazily, one at a time, while the stream is consumed. Created by the
+ * {@link StreamingBeanMapper}. Return it from a Spring MVC controller method to write the mapped elements
+ * to the response as a JSON array, without holding the whole result in memory.
+ * <p>
+ * A mapped stream is sequential and can be consumed only once.
+ * @param <T> the type of the mapped elements
+ */
+public final class MappedStream<T> {
+
+    private final Supplier<? extends Stream<?>> sources;
+    private final Function<Object, T> mapping;
+    private final PersistenceContextRelease release;
+    private final StreamingScope scope;
+
+    MappedStream(Supplier<? extends Stream<?>> sources, Function<Object, T> mapping, PersistenceContextRelease release,
+            StreamingScope scope) {
+        this.sources = sources;
+        this.mapping = mapping;
+        this.release = release;
+        this.scope = scope;
+    }
+
+    /**
+     * Opens the source and returns the stream of mapped elements. The caller is responsible for closing the
+     * stream, which closes the source as well, and for keeping a transaction open when the source needs one.
+     * @return the mapped elements
+     */
+    public Stream<T> stream() {
+        Stream<?> source = sources.get();
+        long[] count = new long[1];
+        return source.sequential().map(element -> {
+            T target = mapping.apply(element);
+            release.afterElement(element, ++count[0]);
+            return target;
+        });
+    }
+
+    /**
+     * Opens the source and passes every mapped element to the action, within the {@link StreamingScope}.
+     * The source is closed afterwards.
+     * @param action the action to perform on every mapped element
+     */
+    public void forEach(Consumer<? super T> action) {
+        scope.execute(() -> {
+            try (Stream<T> stream = stream()) {
+                stream.forEach(action);
+            }
+        });
+    }
+
+}
@@ -0,0 +1,58 @@
+package io.beanmapper.autoconfigure;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+import jakarta.servlet.http.HttpServletResponse;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.json.JsonMapper;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
+import org.springframework.web.accept.HeaderContentNegotiationStrategy;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodReturnValueHandler;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+/**
+ * Writes a {@link MappedStream} returned by a controller method to the response as a JSON array. Every element
+ * is mapped and serialized before the next one is read, so the response is written without holding the whole
+ * result in memory. Requests that do not accept JSON are answered with 406 Not Acceptable.
+ */
+public class MappedStreamReturnValueHandler implements HandlerMethodReturnValueHandler {
+
+    private final JsonMapper jsonMapper;
+    private final HeaderContentNegotiationStrategy contentNegotiationStrategy = new HeaderContentNegotiationStrategy();
+
+    public MappedStreamReturnValueHandler(JsonMapper jsonMapper) {
+        this.jsonMapper = jsonMapper;
+    }
+
+    @Override
+    public boolean supportsReturnType(MethodParameter returnType) {
+        return MappedStream.class.isAssignableFrom(returnType.getParameterType());
+    }
+
+    @Override
+    public void handleReturnValue(Object returnValue, MethodParameter returnType, ModelAndViewContainer mavContainer,
+            NativeWebRequest webRequest) throws IOException, HttpMediaTypeNotAcceptableException {
+        List<MediaType> acceptedMediaTypes = contentNegotiationStrategy.resolveMediaTypes(webRequest);
+        if (acceptedMediaTypes.stream().noneMatch(MediaType.APPLICATION_JSON::isCompatibleWith)) {
+            throw new HttpMediaTypeNotAcceptableException(List.of(MediaType.APPLICATION_JSON));
+        }
+        mavContainer.setRequestHandled(true);
+        HttpServletResponse response = webRequest.getNativeResponse(HttpServletResponse.class);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        OutputStream outputStream = response.getOutputStream();
+        try (JsonGenerator generator = jsonMapper.createGenerator(outputStream)) {
+            generator.writeStartArray();
+            if (returnValue != null) {
+                ((MappedStream<?>) returnValue).forEach(element -> jsonMapper.writeValue(generator, element));
+            }
+            generator.writeEndArray();
+        }
+    }
+
+}
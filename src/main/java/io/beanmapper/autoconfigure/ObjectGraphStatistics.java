@@ -0,0 +1,117 @@
+package io.beanmapper.autoconfigure;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.Hibernate;
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.proxy.HibernateProxy;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Size of the object graph a mapping produced: its nesting depth, the number of objects and the number of
+ * collection, map and array elements in it. The graph is walked through the fields of the objects, without
+ * calling their getters, and the walk does not descend into JPA-managed objects, Hibernate proxies, uninitialized
+ * Hibernate collections or other Hibernate types, so it never triggers lazy loading. It stops after
+ * {@code maxObjects} objects.
+ * @param depth the deepest nesting level, 1 for an object without nested objects
+ * @param objects the number of beans and containers visited
+ * @param elements the number of collection, map and array elements visited
+ * @param truncated whether the walk stopped at {@code maxObjects}
+ */
+record ObjectGraphStatistics(int depth, int objects, long elements, boolean truncated) {
+
+    private static final boolean HIBERNATE_PRESENT = ClassUtils.isPresent(
+            "org.hibernate.Hibernate", ObjectGraphStatistics.class.getClassLoader());
+
+    static ObjectGraphStatistics of(Object root, int maxObjects) {
+        Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        Deque<Entry> pending = new ArrayDeque<>();
+        pending.push(new Entry(root, 1));
+        int depth = 0;
+        long elements = 0;
+        while (!pending.isEmpty()) {
+            Entry entry = pending.pop();
+            Object value = entry.value();
+            if (value == null || isLeaf(value) || !visited.add(value)) {
+                continue;
+            }
+            if (visited.size() > maxObjects) {
+                return new ObjectGraphStatistics(depth, maxObjects, elements, true);
+            }
+            if (value instanceof Collection<?> collection) {
+                elements += collection.size();
+                collection.forEach(element -> pending.push(new Entry(element, entry.depth())));
+            } else if (value instanceof Map<?, ?> map) {
+                elements += map.size();
+                map.values().forEach(element -> pending.push(new Entry(element, entry.depth())));
+            } else if (value instanceof Object[] array) {
+                elements += array.length;
+                for (Object element : array) {
+                    pending.push(new Entry(element, entry.depth()));
+                }
+            } else {
+                depth = Math.max(depth, entry.depth());
+                if (!ManagedTypeDetector.hasManagedTypeAnnotation(value.getClass())) {
+                    pushFields(value, entry.depth() + 1, pending);
+                }
+            }
+        }
+        return new ObjectGraphStatistics(depth, visited.size(), elements, false);
+    }
+
+    private static void pushFields(Object value, int depth, Deque<Entry> pending) {
+        for (Class<?> cls = value.getClass(); cls != null && cls != Object.class; cls = cls.getSuperclass()) {
+            for (Field field : cls.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers()) || field.getType().isPrimitive()) {
+                    continue;
+                }
+                try {
+                    field.setAccessible(true);
+                    pending.push(new Entry(field.get(value), depth));
+                } catch (RuntimeException | IllegalAccessException e) {
+                    // Fields of classes in closed modules cannot be read, these are skipped
+                }
+            }
+        }
+    }
+
+    /**
+     * Values that are neither beans nor containers, ie strings, numbers, dates and primitive arrays, and the
+     * values that must not be walked into.
+     */
+    private static boolean isLeaf(Object value) {
+        if (HIBERNATE_PRESENT && HibernateTypes.isLeaf(value)) {
+            return true;
+        }
+        if (value instanceof Collection<?> || value instanceof Map<?, ?> || value instanceof Object[]) {
+            return false;
+        }
+        Class<?> cls = value.getClass();
+        return cls.isEnum() || cls.isArray() || ManagedTypeDetector.isJavaType(cls);
+    }
+
+    private record Entry(Object value, int depth) {
+    }
+
+    /**
+     * Separate class, so Hibernate is only loaded when it is present.
+     */
+    private static class HibernateTypes {
+
+        static boolean isLeaf(Object value) {
+            if (value instanceof PersistentCollection<?> collection) {
+                return !Hibernate.isInitialized(collection);
+            }
+            return value instanceof HibernateProxy || value.getClass().getName().startsWith("org.hibernate.");
+        }
+    }
+
+}
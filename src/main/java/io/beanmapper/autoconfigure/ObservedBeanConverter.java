@@ -0,0 +1,63 @@
+package io.beanmapper.autoconfigure;
+
+import io.beanmapper.BeanMapper;
+import io.beanmapper.core.BeanPropertyMatch;
+import io.beanmapper.core.converter.BeanConverter;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * Makes every conversion of the delegate an {@link Observation} named {@code beanmapper.conversion}, nested in
+ * the observation of the mapping call, with the converter and target class as low cardinality key values.
+ */
+class ObservedBeanConverter implements BeanConverter {
+
+    static final String OBSERVATION_NAME = "beanmapper.conversion";
+
+    private final BeanConverter delegate;
+    private final ObservationRegistry observationRegistry;
+
+    ObservedBeanConverter(BeanConverter delegate, ObservationRegistry observationRegistry) {
+        this.delegate = delegate;
+        this.observationRegistry = observationRegistry;
+    }
+
+    @Override
+    public <S, T> T convert(BeanMapper beanMapper, S source, Class<T> targetClass, BeanPropertyMatch beanPropertyMatch) {
+        if (observationRegistry.isNoop()) {
+            return delegate.convert(beanMapper, source, targetClass, beanPropertyMatch);
+        }
+        return Observation.createNotStarted(OBSERVATION_NAME, observationRegistry)
+                .contextualName("convert with " + delegate.getClass().getSimpleName())
+                .lowCardinalityKeyValue("converter", delegate.getClass().getName())
+                .lowCardinalityKeyValue("target", BeanMapperObservation.className(targetClass))
+                .observe(() -> delegate.convert(beanMapper, source, targetClass, beanPropertyMatch));
+    }
+
+    @Override
+    public boolean match(Class<?> sourceClass, Class<?> targetClass) {
+        return delegate.match(sourceClass, targetClass);
+    }
+
+    BeanConverter getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * Observes the conversions of the converter, when {@code beanmapper.observation.converters} is enabled and an
+     * {@link ObservationRegistry} bean is found.
+     */
+    static BeanConverter observeIfEnabled(BeanConverter converter, BeanMapperProperties props,
+            ObjectProvider<ObservationRegistry> observationRegistry) {
+        BeanMapperProperties.Observation observation = props.getObservation();
+        ObservationRegistry registry = observation.isEnabled() && observation.isConverters() ? observationRegistry.getIfAvailable() : null;
+        return registry != null ? new ObservedBeanConverter(converter, registry) : converter;
+    }
+
+    static BeanConverter unwrap(BeanConverter converter) {
+        return converter instanceof ObservedBeanConverter observed ? observed.getDelegate() : converter;
+    }
+
+}
@@ -0,0 +1,45 @@
+package io.beanmapper.autoconfigure;
+
+import java.util.Collection;
+
+import io.beanmapper.BeanMapper;
+import io.beanmapper.core.collections.AbstractCollectionHandler;
+
+/**
+ * Collection handler that maps the elements of large collections in parallel, using the
+ * {@link ParallelCollectionMapping}. The concrete subclasses must extend this class with the raw collection
+ * type as type argument, because BeanMapper determines the handled type from it.
+ * @param <C> the collection type
+ */
+abstract class ParallelCollectionHandler<C extends Collection> extends AbstractCollectionHandler<C> {
+
+    private final ParallelCollectionMapping parallelMapping;
+
+    ParallelCollectionHandler(ParallelCollectionMapping parallelMapping) {
+        this.parallelMapping = parallelMapping;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public C copy(BeanMapper beanMapper, Class targetClass, C sources, C target) {
+        if (parallelMapping.shouldMapInParallel(beanMapper, sources, targetClass)) {
+            target.addAll(parallelMapping.map(beanMapper, sources, targetClass, source -> mapItem(beanMapper, targetClass, source)));
+        } else {
+            for (Object source : sources) {
+                target.add(mapItem(beanMapper, targetClass, source));
+            }
+        }
+        return target;
+    }
+
+    @Override
+    public int size(C collection) {
+        return collection.size();
+    }
+
+    @Override
+    protected void clear(C collection) {
+        collection.clear();
+    }
+
+}
@@ -0,0 +1,129 @@
+package io.beanmapper.autoconfigure;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+import io.beanmapper.BeanMapper;
+import io.beanmapper.config.Configuration;
+import io.beanmapper.core.unproxy.BeanUnproxy;
+
+/**
+ * Maps the elements of large collections in parallel, for the {@link ParallelListCollectionHandler} and
+ * {@link ParallelSetCollectionHandler}. Collections smaller than the threshold, and collections of which the
+ * mapping of any element class touches JPA-managed types, are mapped sequentially on the calling thread.
+ * <p>
+ * The BeanMatchStore of BeanMapper is not thread-safe, so the pairs are analysed on the calling thread before
+ * the other threads use them: the bean matches of every element class and its nested property pairs are
+ * registered, and the first element of every class is mapped on the calling thread. The remaining elements are
+ * split in one chunk per thread, and the results are returned in the order of the source.
+ */
+class ParallelCollectionMapping {
+
+    private final ExecutorService executor;
+    private final int threshold;
+    private final int parallelism;
+    private final ManagedTypeDetector managedTypeDetector;
+    private final UnaryOperator<Runnable> taskDecorator;
+
+    ParallelCollectionMapping(ExecutorService executor, int threshold, int parallelism, ManagedTypeDetector managedTypeDetector,
+            UnaryOperator<Runnable> taskDecorator) {
+        this.executor = executor;
+        this.threshold = threshold;
+        this.parallelism = parallelism;
+        this.managedTypeDetector = managedTypeDetector;
+        this.taskDecorator = taskDecorator;
+    }
+
+    boolean shouldMapInParallel(BeanMapper beanMapper, Collection<?> sources, Class<?> targetClass) {
+        if (sources.size() < threshold || parallelism < 2) {
+            return false;
+        }
+        Set<Class<?>> sourceClasses = getSourceClasses(beanMapper, sources);
+        return !sourceClasses.isEmpty()
+                && sourceClasses.stream().noneMatch(sourceClass -> managedTypeDetector.touchesManagedTypes(sourceClass, targetClass));
+    }
+
+    List<Object> map(BeanMapper beanMapper, Collection<?> sources, Class<?> targetClass, Function<Object, Object> mapping) {
+        Configuration configuration = beanMapper.getConfiguration();
+        Set<List<Class<?>>> visited = new HashSet<>();
+        for (Class<?> sourceClass : getSourceClasses(beanMapper, sources)) {
+            if (BeanMatchWarmUp.isMappedClass(configuration, sourceClass) && BeanMatchWarmUp.isMappedClass(configuration, targetClass)) {
+                BeanMatchWarmUp.warmUp(configuration, sourceClass, targetClass, visited);
+            }
+        }
+
+        List<?> items = new ArrayList<>(sources);
+        Object[] results = new Object[items.size()];
+        BitSet mapped = new BitSet(items.size());
+        Set<Class<?>> mappedClasses = new HashSet<>();
+        for (int i = 0; i < items.size(); i++) {
+            Object item = items.get(i);
+            if (mappedClasses.add(item != null ? item.getClass() : null)) {
+                results[i] = mapping.apply(item);
+                mapped.set(i);
+            }
+        }
+
+        int chunkSize = Math.ceilDiv(items.size(), parallelism);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int start = 0; start < items.size(); start += chunkSize) {
+            int from = start;
+            int to = Math.min(start + chunkSize, items.size());
+            futures.add(executor.submit(taskDecorator.apply(() -> {
+                for (int i = mapped.nextClearBit(from); i < to; i = mapped.nextClearBit(i + 1)) {
+                    results[i] = mapping.apply(items.get(i));
+                }
+            })));
+        }
+        awaitAll(futures);
+        return Arrays.asList(results);
+    }
+
+    /**
+     * @return the distinct unproxied classes of the elements that are not null
+     */
+    private static Set<Class<?>> getSourceClasses(BeanMapper beanMapper, Collection<?> sources) {
+        BeanUnproxy beanUnproxy = beanMapper.getConfiguration().getBeanUnproxy();
+        Set<Class<?>> sourceClasses = new HashSet<>();
+        Class<?> previousClass = null;
+        for (Object source : sources) {
+            if (source != null && source.getClass() != previousClass) {
+                previousClass = source.getClass();
+                sourceClasses.add(beanUnproxy.unproxy(previousClass));
+            }
+        }
+        return sourceClasses;
+    }
+
+    private static void awaitAll(List<Future<?>> futures) {
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while mapping a collection in parallel", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("Mapping a collection in parallel failed", e.getCause());
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+        }
+    }
+
+}
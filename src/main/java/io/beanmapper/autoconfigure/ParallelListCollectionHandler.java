@@ -0,0 +1,20 @@
+package io.beanmapper.autoconfigure;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Replaces BeanMapper's list handler, to map large lists in parallel.
+ */
+class ParallelListCollectionHandler extends ParallelCollectionHandler<List> {
+
+    ParallelListCollectionHandler(ParallelCollectionMapping parallelMapping) {
+        super(parallelMapping);
+    }
+
+    @Override
+    protected List create() {
+        return new ArrayList<>();
+    }
+
+}
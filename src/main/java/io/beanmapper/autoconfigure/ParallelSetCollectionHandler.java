@@ -0,0 +1,27 @@
+package io.beanmapper.autoconfigure;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Replaces BeanMapper's set handler, to map large sets in parallel. Like BeanMapper's handler, it creates a
+ * {@link TreeSet} for {@link Comparable} elements and a {@link HashSet} otherwise.
+ */
+class ParallelSetCollectionHandler extends ParallelCollectionHandler<Set> {
+
+    ParallelSetCollectionHandler(ParallelCollectionMapping parallelMapping) {
+        super(parallelMapping);
+    }
+
+    @Override
+    protected Set create(Class<?> collectionElementClass) {
+        return Comparable.class.isAssignableFrom(collectionElementClass) ? new TreeSet<>() : create();
+    }
+
+    @Override
+    protected Set create() {
+        return new HashSet<>();
+    }
+
+}
@@ -0,0 +1,23 @@
+package io.beanmapper.autoconfigure;
+
+/**
+ * Called by a {@link MappedStream} after every mapped element, so the entities that have been mapped can be
+ * released from the persistence context and the memory use stays flat, however many elements are streamed.
+ */
+@FunctionalInterface
+public interface PersistenceContextRelease {
+
+    /**
+     * Keeps the entities in the persistence context.
+     */
+    PersistenceContextRelease NONE = (source, count) -> {
+    };
+
+    /**
+     * Releases the source element that has just been mapped.
+     * @param source the source element
+     * @param count the number of elements that have been mapped so far, including this one
+     */
+    void afterElement(Object source, long count);
+
+}
@@ -0,0 +1,128 @@
+package io.beanmapper.autoconfigure;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.core.SerializableString;
+import tools.jackson.core.TokenStreamContext;
+import tools.jackson.core.sym.PropertyNameMatcher;
+import tools.jackson.core.util.JsonParserDelegate;
+
+/**
+ * Records the paths of the property names while the JSON is being read, so they do not have to be collected
+ * from a second parse of the body. The paths are the same as the ones {@link io.beanmapper.spring.util.JsonUtil}
+ * collects: nested properties are joined with a dot and properties inside arrays are not recorded.
+ * <p>
+ * To record the property names of an element of an array, pass the nesting depth of the array as the base
+ * depth. The paths are then relative to the element.
+ */
+class PropertyNameRecordingParser extends JsonParserDelegate {
+
+    private final Set<String> propertyNames;
+    private final int baseDepth;
+
+    PropertyNameRecordingParser(JsonParser delegate, Set<String> propertyNames) {
+        this(delegate, propertyNames, 0);
+    }
+
+    PropertyNameRecordingParser(JsonParser delegate, Set<String> propertyNames, int baseDepth) {
+        super(delegate);
+        this.propertyNames = propertyNames;
+        this.baseDepth = baseDepth;
+    }
+
+    @Override
+    public JsonToken nextToken() throws JacksonException {
+        return record(delegate.nextToken());
+    }
+
+    @Override
+    public JsonToken nextValue() throws JacksonException {
+        // the delegate would skip the property name without it being recorded
+        JsonToken token = nextToken();
+        return token == JsonToken.PROPERTY_NAME ? nextToken() : token;
+    }
+
+    @Override
+    public String nextName() throws JacksonException {
+        String name = delegate.nextName();
+        if (name != null) {
+            recordCurrentName();
+        }
+        return name;
+    }
+
+    @Override
+    public boolean nextName(SerializableString str) throws JacksonException {
+        boolean matched = delegate.nextName(str);
+        record(delegate.currentToken());
+        return matched;
+    }
+
+    @Override
+    public int nextNameMatch(PropertyNameMatcher matcher) throws JacksonException {
+        int match = delegate.nextNameMatch(matcher);
+        record(delegate.currentToken());
+        return match;
+    }
+
+    /**
+     * Skips the children token by token, so the property names of properties that are ignored on read are
+     * recorded as well.
+     */
+    @Override
+    public JsonParser skipChildren() throws JacksonException {
+        JsonToken token = currentToken();
+        if (token != JsonToken.START_OBJECT && token != JsonToken.START_ARRAY) {
+            return this;
+        }
+        int open = 1;
+        while (open > 0) {
+            token = nextToken();
+            if (token == null) {
+                break;
+            }
+            if (token.isStructStart()) {
+                open++;
+            } else if (token.isStructEnd()) {
+                open--;
+            }
+        }
+        return this;
+    }
+
+    private JsonToken record(JsonToken token) {
+        if (token == JsonToken.PROPERTY_NAME) {
+            recordCurrentName();
+        }
+        return token;
+    }
+
+    private void recordCurrentName() {
+        TokenStreamContext context = delegate.streamReadContext();
+        if (!context.inObject() || context.currentName() == null) {
+            return;
+        }
+        if (context.getNestingDepth() == baseDepth + 1) {
+            propertyNames.add(context.currentName());
+            return;
+        }
+        List<String> path = new ArrayList<>(context.getNestingDepth() - baseDepth);
+        for (TokenStreamContext current = context; current.getNestingDepth() > baseDepth; current = current.getParent()) {
+            if (current.inArray()) {
+                return;
+            }
+            path.add(current.currentName());
+        }
+        StringBuilder name = new StringBuilder(path.get(path.size() - 1));
+        for (int i = path.size() - 2; i >= 0; i--) {
+            name.append('.').append(path.get(i));
+        }
+        propertyNames.add(name.toString());
+    }
+
+}
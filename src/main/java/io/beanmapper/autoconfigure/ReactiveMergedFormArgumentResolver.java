@@ -0,0 +1,201 @@
+package io.beanmapper.autoconfigure;
+
+import java.io.InputStream;
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Map;
+
+import io.beanmapper.BeanMapper;
+import io.beanmapper.config.BeanMapperBuilder;
+import io.beanmapper.spring.web.EntityFinder;
+import io.beanmapper.spring.web.MergePair;
+import io.beanmapper.spring.web.MergedForm;
+import io.beanmapper.spring.web.SpringDataEntityFinder;
+import io.beanmapper.spring.web.converter.StructuredBody;
+import jakarta.persistence.EntityManager;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.validation.annotation.ValidationAnnotationUtils;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.bind.support.WebExchangeDataBinder;
+import org.springframework.web.reactive.BindingContext;
+import org.springframework.web.reactive.HandlerMapping;
+import org.springframework.web.reactive.result.method.HandlerMethodArgumentResolver;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.ServerWebInputException;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Resolves {@link MergedForm} parameters of WebFlux controllers, like the
+ * {@link io.beanmapper.spring.web.MergedFormMethodArgumentResolver} does for Spring MVC. The request body is
+ * collected without blocking and read with the {@link StreamingStructuredJsonMessageConverter}. The form and
+ * the merged result are validated when the parameter is annotated with {@code @Valid} or {@code @Validated}.
+ * Looking up the entity and merging the form onto it block on the database, so they run on the given bounded
+ * {@link Scheduler} instead of the event loop. WebFlux has no open session in view, so when a transaction manager
+ * is given they run in a read-only transaction, in which the lazy associations of the entity can be loaded. The
+ * merged entity is detached when the transaction ends, and is not flushed until it is saved.
+ * <p>
+ * The form is merged by the {@link MergePair} of beanmapper-spring, which maps with the {@link BeanMapper} itself,
+ * so the merge is not intercepted by the {@link BeanMappingInterceptor}s of the {@link InstrumentedBeanMapper}.
+ * <p>
+ * Multipart merged forms are not supported.
+ */
+public class ReactiveMergedFormArgumentResolver implements HandlerMethodArgumentResolver {
+
+    private final StreamingStructuredJsonMessageConverter messageConverter;
+    private final BeanMapperHandle beanMapper;
+    private final EntityFinder entityFinder;
+    private final Scheduler scheduler;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxInMemorySize;
+
+    /**
+     * @param transactionManager the transaction manager to merge in, or {@code null} to merge without a transaction
+     */
+    public ReactiveMergedFormArgumentResolver(JsonMapper jsonMapper, BeanMapperHandle beanMapper, ApplicationContext applicationContext,
+            EntityManager entityManager, Scheduler scheduler, PlatformTransactionManager transactionManager, int maxInMemorySize) {
+        this(jsonMapper, beanMapper, new SpringDataEntityFinder(applicationContext, entityManager), scheduler, transactionManager,
+                maxInMemorySize);
+    }
+
+    ReactiveMergedFormArgumentResolver(JsonMapper jsonMapper, BeanMapperHandle beanMapper, EntityFinder entityFinder,
+            Scheduler scheduler, PlatformTransactionManager transactionManager, int maxInMemorySize) {
+        this.messageConverter = new StreamingStructuredJsonMessageConverter(jsonMapper);
+        this.beanMapper = beanMapper;
+        this.entityFinder = entityFinder;
+        this.scheduler = scheduler;
+        this.transactionTemplate = transactionManager != null ? readOnlyTransactionTemplate(transactionManager) : null;
+        this.maxInMemorySize = maxInMemorySize;
+    }
+
+    private static TransactionTemplate readOnlyTransactionTemplate(PlatformTransactionManager transactionManager) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        return transactionTemplate;
+    }
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(MergedForm.class);
+    }
+
+    @Override
+    public Mono<Object> resolveArgument(MethodParameter parameter, BindingContext bindingContext, ServerWebExchange exchange) {
+        MergedForm annotation = parameter.getParameterAnnotation(MergedForm.class);
+        if (!annotation.multiPart().isEmpty()) {
+            return Mono.error(new IllegalStateException("Multipart merged forms are not supported by WebFlux, parameter " + parameter));
+        }
+        Long id;
+        try {
+            id = resolveId(exchange, annotation.mergeId());
+        } catch (NumberFormatException e) {
+            return Mono.error(new ServerWebInputException("Invalid id for " + annotation.mergeId(), parameter, e));
+        }
+        Class<?> entityClass = getEntityClass(parameter);
+        return readBody(parameter, exchange, annotation.value())
+                .doOnNext(structuredBody -> validate(structuredBody.body(), parameter, bindingContext, exchange))
+                .publishOn(scheduler)
+                .map(structuredBody -> merge(structuredBody, id, entityClass, annotation))
+                .doOnNext(result -> validate(result, parameter, bindingContext, exchange));
+    }
+
+    private Long resolveId(ServerWebExchange exchange, String mergeId) {
+        if (mergeId.isEmpty()) {
+            return null;
+        }
+        Map<String, String> uriTemplateVars = exchange.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        String id = uriTemplateVars != null ? uriTemplateVars.get(mergeId) : null;
+        if (id == null) {
+            id = exchange.getRequest().getQueryParams().getFirst(mergeId);
+        }
+        return id != null ? Long.valueOf(id) : null;
+    }
+
+    private Class<?> getEntityClass(MethodParameter parameter) {
+        if (MergePair.class.isAssignableFrom(parameter.getParameterType())) {
+            return ResolvableType.forMethodParameter(parameter).as(MergePair.class).resolveGeneric(0);
+        }
+        return parameter.getParameterType();
+    }
+
+    /**
+     * Collects the body without blocking. Reading it is done in memory, like the WebFlux Jackson decoder does for
+     * a single value.
+     */
+    private Mono<StructuredBody> readBody(MethodParameter parameter, ServerWebExchange exchange, Class<?> formClass) {
+        HttpHeaders headers = exchange.getRequest().getHeaders();
+        return DataBufferUtils.join(exchange.getRequest().getBody(), maxInMemorySize)
+                .switchIfEmpty(Mono.error(() -> new ServerWebInputException("No request body", parameter)))
+                .map(dataBuffer -> {
+                    try (InputStream body = dataBuffer.asInputStream(true)) {
+                        return (StructuredBody) messageConverter.read(formClass, new BufferedInputMessage(body, headers));
+                    } catch (HttpMessageNotReadableException e) {
+                        throw new ServerWebInputException("Failed to read the merged form", parameter, e);
+                    } catch (Exception e) {
+                        throw new IllegalStateException("Failed to read the merged form", e);
+                    }
+                });
+    }
+
+    private void validate(Object form, MethodParameter parameter, BindingContext bindingContext, ServerWebExchange exchange) {
+        for (Annotation annotation : parameter.getParameterAnnotations()) {
+            Object[] validationHints = ValidationAnnotationUtils.determineValidationHints(annotation);
+            if (validationHints != null) {
+                WebExchangeDataBinder binder = bindingContext.createDataBinder(exchange, form, parameter.getParameterName());
+                binder.validate(validationHints);
+                if (binder.getBindingResult().hasErrors()) {
+                    throw new WebExchangeBindException(parameter, binder.getBindingResult());
+                }
+                return;
+            }
+        }
+    }
+
+    private Object merge(StructuredBody structuredBody, Long id, Class<?> entityClass, MergedForm annotation) {
+        if (transactionTemplate == null) {
+            return doMerge(structuredBody, id, entityClass, annotation);
+        }
+        return transactionTemplate.execute(status -> doMerge(structuredBody, id, entityClass, annotation));
+    }
+
+    /**
+     * Looks up the entity and merges the form onto it, like the MergedFormMethodArgumentResolver does.
+     */
+    private Object doMerge(StructuredBody structuredBody, Long id, Class<?> entityClass, MergedForm annotation) {
+        BeanMapperBuilder builder = beanMapper.get().wrap();
+        if (annotation.patch() && structuredBody.propertyNames() != null) {
+            builder.downsizeSource(new ArrayList<>(structuredBody.propertyNames()));
+        }
+        MergePair<?> mergePair = new MergePair<>(builder.build(), entityFinder, entityClass, annotation);
+        if (id == null) {
+            mergePair.initNew(structuredBody.body());
+        } else {
+            mergePair.merge(structuredBody.body(), id);
+        }
+        return mergePair.result();
+    }
+
+    private record BufferedInputMessage(InputStream body, HttpHeaders headers) implements HttpInputMessage {
+
+        @Override
+        public InputStream getBody() {
+            return body;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+    }
+
+}
@@ -0,0 +1,58 @@
+package io.beanmapper.autoconfigure;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Fixed-size buffer that keeps the last {@code capacity} elements added to it. Adding never blocks nor locks:
+ * every element claims the next sequence number and overwrites the slot of the element added
+ * {@code capacity} elements before it. A snapshot returns the elements present at that moment, oldest first.
+ * @param <E> the element type
+ */
+class RingBuffer<E> {
+
+    private final AtomicReferenceArray<Slot<E>> slots;
+    private final AtomicLong sequence = new AtomicLong();
+
+    RingBuffer(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("The capacity of a ring buffer must be at least 1, but was " + capacity);
+        }
+        this.slots = new AtomicReferenceArray<>(capacity);
+    }
+
+    void add(E element) {
+        long next = sequence.getAndIncrement();
+        slots.set((int) (next % slots.length()), new Slot<>(next, element));
+    }
+
+    List<E> snapshot() {
+        List<Slot<E>> present = new ArrayList<>(slots.length());
+        for (int i = 0; i < slots.length(); i++) {
+            Slot<E> slot = slots.get(i);
+            if (slot != null) {
+                present.add(slot);
+            }
+        }
+        present.sort(Comparator.comparingLong(Slot::sequence));
+        return present.stream().map(Slot::element).toList();
+    }
+
+    /**
+     * @return the number of elements ever added, including the overwritten ones
+     */
+    long getAdded() {
+        return sequence.get();
+    }
+
+    int getCapacity() {
+        return slots.length();
+    }
+
+    private record Slot<E>(long sequence, E element) {
+    }
+
+}
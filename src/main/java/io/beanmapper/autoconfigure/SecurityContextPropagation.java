@@ -0,0 +1,21 @@
+package io.beanmapper.autoconfigure;
+
+import java.util.concurrent.Executor;
+
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutor;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+
+/**
+ * Carries the security context of the caller over to the threads mappings are done on. Registered by the
+ * {@link BeanMapperSecurityAutoConfig}, so Spring Security is only loaded when it is present.
+ */
+final class SecurityContextPropagation {
+
+    Runnable decorate(Runnable task) {
+        return new DelegatingSecurityContextRunnable(task);
+    }
+
+    Executor propagateTo(Executor executor) {
+        return new DelegatingSecurityContextExecutor(executor);
+    }
+}
@@ -0,0 +1,31 @@
+package io.beanmapper.autoconfigure;
+
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+/**
+ * Streams the content of Spring Data {@link Slice}s, to be mapped with the {@link StreamingBeanMapper}.
+ */
+public final class SliceStreams {
+
+    private SliceStreams() {
+    }
+
+    /**
+     * Streams the content of all slices returned by the query, starting with the given page. The next slice is
+     * only queried when the content of the previous one has been consumed.
+     * @param query queries the slice for a page, ie a repository method
+     * @param pageable the first page
+     * @return the content of the slices
+     */
+    public static <S> Stream<S> stream(Function<Pageable, ? extends Slice<S>> query, Pageable pageable) {
+        return Stream.<Slice<S>>iterate(query.apply(pageable), Objects::nonNull,
+                        slice -> slice.hasNext() ? query.apply(slice.nextPageable()) : null)
+                .flatMap(Slice::stream);
+    }
+
+}
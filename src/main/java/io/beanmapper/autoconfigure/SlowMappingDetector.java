@@ -0,0 +1,97 @@
+package io.beanmapper.autoconfigure;
+
+import java.lang.reflect.Array;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Logs a warning for every mapping call made through the {@link InstrumentedBeanMapper} that takes longer than
+ * the threshold, ie because it walked into a lazily loaded association graph. The warning carries the
+ * source/target pair, the duration, the nesting depth and element counts of the mapped result and, when
+ * Hibernate is present, the number of SQL statements issued during the call, both in the message and as
+ * key/value pairs for structured logging.
+ * <p>
+ * A call under the threshold costs two clock reads and, with Hibernate, two thread-local reads. The result is
+ * only inspected for slow calls.
+ */
+public class SlowMappingDetector implements BeanMappingInterceptor {
+
+    static final int MAX_INSPECTED_OBJECTS = 10_000;
+    private static final long UNKNOWN = -1;
+
+    private final Logger log = LoggerFactory.getLogger(SlowMappingDetector.class);
+    private final long thresholdNanos;
+    private final LongSupplier sqlStatementCount;
+
+    /**
+     * @param threshold the duration above which a call is logged
+     * @param sqlStatementCount the number of SQL statements the current thread issued so far, {@code null} when
+     * it cannot be counted
+     */
+    public SlowMappingDetector(Duration threshold, LongSupplier sqlStatementCount) {
+        this.thresholdNanos = threshold.toNanos();
+        this.sqlStatementCount = sqlStatementCount;
+    }
+
+    @Override
+    public Object intercept(BeanMappingInvocation invocation) {
+        long statementsBefore = sqlStatementCount != null ? sqlStatementCount.getAsLong() : UNKNOWN;
+        long startTime = System.nanoTime();
+        Object result = invocation.proceed();
+        long duration = System.nanoTime() - startTime;
+        if (duration > thresholdNanos) {
+            long statements = sqlStatementCount != null ? sqlStatementCount.getAsLong() - statementsBefore : UNKNOWN;
+            logSlowMapping(invocation, result, duration, statements);
+        }
+        return result;
+    }
+
+    private void logSlowMapping(BeanMappingInvocation invocation, Object result, long duration, long statements) {
+        if (!log.isWarnEnabled()) {
+            return;
+        }
+        String source = className(invocation.getSourceClass());
+        String target = className(invocation.getTargetClass());
+        long durationMillis = TimeUnit.NANOSECONDS.toMillis(duration);
+        long sourceElements = countElements(invocation.getSource());
+        ObjectGraphStatistics statistics = ObjectGraphStatistics.of(result, MAX_INSPECTED_OBJECTS);
+        log.atWarn()
+                .addKeyValue("beanmapper.source", source)
+                .addKeyValue("beanmapper.target", target)
+                .addKeyValue("beanmapper.collection", invocation.isCollection())
+                .addKeyValue("beanmapper.duration_ms", durationMillis)
+                .addKeyValue("beanmapper.depth", statistics.depth())
+                .addKeyValue("beanmapper.source_elements", sourceElements)
+                .addKeyValue("beanmapper.result_objects", statistics.objects())
+                .addKeyValue("beanmapper.result_elements", statistics.elements())
+                .addKeyValue("beanmapper.sql_statements", statements)
+                .log("Slow mapping of [{}] to [{}] took [{}] ms: depth [{}], source elements [{}], result objects [{}]{}, "
+                                + "result elements [{}], SQL statements [{}]",
+                        source, target, durationMillis, statistics.depth(), sourceElements, statistics.objects(),
+                        statistics.truncated() ? "+" : "", statistics.elements(), statements >= 0 ? statements : "unknown");
+    }
+
+    private static long countElements(Object source) {
+        if (source instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (source instanceof Map<?, ?> map) {
+            return map.size();
+        }
+        if (source != null && source.getClass().isArray()) {
+            return Array.getLength(source);
+        }
+        return source != null ? 1 : 0;
+    }
+
+    private static String className(Class<?> cls) {
+        return cls != null ? cls.getName() : BeanMapperMetrics.UNKNOWN;
+    }
+
+}
@@ -0,0 +1,35 @@
+package io.beanmapper.autoconfigure;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate {@link StatementInspector} that counts the SQL statements prepared per thread, so the
+ * {@link SlowMappingDetector} can report the statements a mapping issued, ie by lazy loading. Counting costs a
+ * thread-local increment per statement. An inspector the application configured itself is still applied.
+ */
+class SqlStatementCounter implements StatementInspector {
+
+    private final ThreadLocal<long[]> count = ThreadLocal.withInitial(() -> new long[1]);
+    private volatile StatementInspector delegate;
+
+    /**
+     * @param delegate the inspector the application configured, applied after counting
+     */
+    void setDelegate(StatementInspector delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        count.get()[0]++;
+        return delegate != null ? delegate.inspect(sql) : sql;
+    }
+
+    /**
+     * @return the number of statements the current thread prepared since it started
+     */
+    long getCount() {
+        return count.get()[0];
+    }
+
+}
@@ -0,0 +1,59 @@
+package io.beanmapper.autoconfigure;
+
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import io.beanmapper.BeanMapper;
+
+/**
+ * Maps streams of beans lazily, one element at a time, so large result sets can be exported without mapping
+ * them into a list first. Spring Data {@code Slice}s can be streamed with {@link SliceStreams}. The elements are
+ * mapped through the {@link InstrumentedBeanMapper}, so every element is intercepted like any other mapping call.
+ * <pre>
+ * &#64;GetMapping("/export")
+ * public MappedStream&lt;OrderResult&gt; export() {
+ *     return streamingBeanMapper.map(() -&gt; orderRepository.streamAll(), OrderResult.class);
+ * }
+ * </pre>
+ */
+public class StreamingBeanMapper {
+
+    private final InstrumentedBeanMapper beanMapper;
+    private final PersistenceContextRelease release;
+    private final StreamingScope scope;
+
+    public StreamingBeanMapper(BeanMapper beanMapper) {
+        this(new InstrumentedBeanMapper(beanMapper, List.of()), PersistenceContextRelease.NONE, StreamingScope.NONE);
+    }
+
+    public StreamingBeanMapper(InstrumentedBeanMapper beanMapper, PersistenceContextRelease release, StreamingScope scope) {
+        this.beanMapper = beanMapper;
+        this.release = release;
+        this.scope = scope;
+    }
+
+    /**
+     * Maps an open stream. Prefer {@link #map(Supplier, Class)} for repository streams, which need a
+     * transaction that stays open while the stream is consumed.
+     * @param sources the stream to map
+     * @param targetClass the class to map the elements to
+     * @return the lazily mapped stream
+     */
+    public <S, T> MappedStream<T> map(Stream<S> sources, Class<T> targetClass) {
+        return map(() -> sources, targetClass);
+    }
+
+    /**
+     * Maps the stream that is opened by the supplier when the mapped stream is consumed. When it is consumed
+     * with {@link MappedStream#forEach}, ie when it is written to the response, the stream is opened within the
+     * {@link StreamingScope}.
+     * @param sources opens the stream to map
+     * @param targetClass the class to map the elements to
+     * @return the lazily mapped stream
+     */
+    public <S, T> MappedStream<T> map(Supplier<? extends Stream<S>> sources, Class<T> targetClass) {
+        return new MappedStream<>(sources, source -> beanMapper.map(source, targetClass), release, scope);
+    }
+
+}
@@ -0,0 +1,21 @@
+package io.beanmapper.autoconfigure;
+
+/**
+ * Runs the consumption of a {@link MappedStream}, ie within a read-only transaction, so the source stream
+ * can keep its database connection open while the mapped elements are written.
+ */
+@FunctionalInterface
+public interface StreamingScope {
+
+    /**
+     * Runs the streaming directly, without a surrounding scope.
+     */
+    StreamingScope NONE = Runnable::run;
+
+    /**
+     * Runs the streaming within this scope.
+     * @param streaming the consumption of the stream
+     */
+    void execute(Runnable streaming);
+
+}
@@ -0,0 +1,91 @@
+package io.beanmapper.autoconfigure;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import io.beanmapper.spring.web.converter.StructuredBody;
+import io.beanmapper.spring.web.converter.StructuredJsonMessageConverter;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConversionException;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.JacksonJsonHttpMessageConverter;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.databind.exc.InvalidDefinitionException;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Reads the body of a merged form like the {@link StructuredJsonMessageConverter} does, but in a single pass
+ * over the request body. The {@link StructuredJsonMessageConverter} copies the body to a String, reads the form
+ * from it and then reads the String a second time into a tree to collect the property names that are present.
+ * This converter reads the form straight from the request body and records the property names while doing so,
+ * so the body is neither copied nor parsed twice.
+ * <p>
+ * The property names are the ones BeanMapper uses to only merge the properties present in the body onto the
+ * entity, they are the same as the ones the {@link StructuredJsonMessageConverter} collects.
+ */
+public class StreamingStructuredJsonMessageConverter implements HttpMessageConverter<Object> {
+
+    private final JsonMapper jsonMapper;
+    private final JacksonJsonHttpMessageConverter delegate;
+
+    public StreamingStructuredJsonMessageConverter(JsonMapper jsonMapper) {
+        this.jsonMapper = jsonMapper;
+        this.delegate = new JacksonJsonHttpMessageConverter(jsonMapper);
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return delegate.canRead(clazz, mediaType);
+    }
+
+    @Override
+    public boolean canWrite(Class<?> clazz, MediaType mediaType) {
+        return delegate.canWrite(clazz, mediaType);
+    }
+
+    @Override
+    public List<MediaType> getSupportedMediaTypes() {
+        return delegate.getSupportedMediaTypes();
+    }
+
+    @Override
+    public Object read(Class<?> clazz, HttpInputMessage inputMessage) throws IOException, HttpMessageNotReadableException {
+        Set<String> propertyNames = new HashSet<>();
+        try (JsonParser parser = new PropertyNameRecordingParser(createParser(jsonMapper, inputMessage), propertyNames)) {
+            Object body = jsonMapper.readValue(parser, clazz);
+            return new StructuredBody(body, propertyNames);
+        } catch (InvalidDefinitionException e) {
+            throw new HttpMessageConversionException("Type definition error: " + e.getType(), e);
+        } catch (JacksonException e) {
+            throw new HttpMessageNotReadableException("JSON parse error: " + e.getOriginalMessage(), e, inputMessage);
+        }
+    }
+
+    @Override
+    public void write(Object o, MediaType contentType, HttpOutputMessage outputMessage) throws IOException, HttpMessageNotWritableException {
+        delegate.write(o, contentType, outputMessage);
+    }
+
+    /**
+     * Lets Jackson detect the encoding of the body, unless the request names a charset it cannot detect.
+     */
+    static JsonParser createParser(JsonMapper jsonMapper, HttpInputMessage inputMessage) throws IOException {
+        MediaType contentType = inputMessage.getHeaders().getContentType();
+        Charset charset = contentType != null ? contentType.getCharset() : null;
+        if (charset == null || charset.name().startsWith("UTF-")) {
+            return jsonMapper.createParser(inputMessage.getBody());
+        }
+        return jsonMapper.createParser(new InputStreamReader(inputMessage.getBody(), charset));
+    }
+
+}
@@ -0,0 +1,131 @@
+package io.beanmapper.autoconfigure;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import io.beanmapper.scanning.ScanCanaryState;
+import io.beanmapper.scanning.ScannedConverter;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackages;
+import org.springframework.context.support.StaticApplicationContext;
+
+public class ApplicationScannerTest {
+
+    private static final String SCANNING_PACKAGE = "io.beanmapper.scanning";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void findClasses_shouldOnlyLoadMatchingClasses() {
+        ApplicationScanner scanner = new ApplicationScanner(new StaticApplicationContext(), false);
+
+        assertEquals(Set.of(ScannedConverter.class), scanner.findBeanConverterClasses(SCANNING_PACKAGE));
+        assertTrue(scanner.findCollectionHandlerClasses(SCANNING_PACKAGE).isEmpty());
+        assertTrue(scanner.findLogicSecuredCheckClasses(SCANNING_PACKAGE).isEmpty());
+        assertFalse(ScanCanaryState.initialized);
+    }
+
+    @Test
+    public void findClasses_shouldFindAllTypesInOnePackage() {
+        ApplicationScanner scanner = new ApplicationScanner(new StaticApplicationContext(), false);
+
+        assertEquals(Set.of(TestConverter.class, TestConverterWithApplicationContext.class),
+                scanner.findBeanConverterClasses("io.beanmapper.autoconfigure"));
+        assertEquals(Set.of(TestCollectionHandler.class, TestCollectionHandlerWithAppCtx.class),
+                scanner.findCollectionHandlerClasses("io.beanmapper.autoconfigure"));
+        assertEquals(Set.of(BeanMapperAutoConfigTest.ConfigWithLogicSecuredCheck.LogicSecuredCheckImpl.class),
+                scanner.findLogicSecuredCheckClasses("io.beanmapper.autoconfigure"));
+    }
+
+    @Test
+    public void findClasses_shouldScan_whenTheIndexOnlyHoldsLibraryClasses() throws IOException {
+        ApplicationScanner scanner = new ApplicationScanner(contextWithIndex("com.acme.lib.LibraryConverter=bean-converter\n"), true);
+
+        assertEquals(Set.of(ScannedConverter.class), scanner.findBeanConverterClasses(SCANNING_PACKAGE));
+    }
+
+    @Test
+    public void findClasses_shouldScanThePackagesTheIndexHasNoEntriesIn() throws IOException {
+        StaticApplicationContext context = contextWithIndex("com.acme.Application=application\ncom.acme.AcmeConverter=bean-converter\n");
+        AutoConfigurationPackages.register(context, "com.acme");
+        ApplicationScanner scanner = new ApplicationScanner(context, true);
+
+        assertEquals(Optional.of("com.acme.Application"), scanner.findApplicationClassName());
+        assertEquals(Set.of(ScannedConverter.class), scanner.findBeanConverterClasses(SCANNING_PACKAGE));
+    }
+
+    @Test
+    public void findApplicationClassName_shouldPickTheApplicationOfTheAutoConfigurationPackage() throws IOException {
+        StaticApplicationContext context = contextWithIndex(
+                "com.acme.Application=application\ncom.acme.admin.AdminApplication=application\ncom.other.OtherApplication=application\n");
+        AutoConfigurationPackages.register(context, "com.acme");
+
+        assertEquals(Optional.of("com.acme.Application"), new ApplicationScanner(context, true).findApplicationClassName());
+    }
+
+    @Test
+    public void findClasses_shouldScan_whenTheIndexHasNoApplicationInTheEntityScanPackages() throws IOException {
+        StaticApplicationContext context = contextWithIndex("com.other.OtherApplication=application\n");
+        AutoConfigurationPackages.register(context, "com.acme");
+        ApplicationScanner scanner = new ApplicationScanner(context, true);
+
+        assertEquals(Optional.empty(), scanner.findApplicationClassName());
+        assertEquals(Set.of(ScannedConverter.class), scanner.findBeanConverterClasses(SCANNING_PACKAGE));
+    }
+
+    @Test
+    public void findClasses_shouldFindTheSameClassesWithAndWithoutTheIndex() {
+        assertSameClasses(new StaticApplicationContext());
+        StaticApplicationContext context = new StaticApplicationContext();
+        AutoConfigurationPackages.register(context, "io.beanmapper.autoconfigure");
+        assertSameClasses(context);
+    }
+
+    private void assertSameClasses(StaticApplicationContext context) {
+        ApplicationScanner indexed = new ApplicationScanner(context, true);
+        ApplicationScanner scanned = new ApplicationScanner(context, false);
+
+        assertEquals(scanned.findApplicationClassName(), indexed.findApplicationClassName());
+        assertEquals(scanned.findBeanPairInstructions(), indexed.findBeanPairInstructions());
+        for (String basePackage : List.of("io.beanmapper.autoconfigure", SCANNING_PACKAGE)) {
+            assertEquals(scanned.findBeanConverterClasses(basePackage), indexed.findBeanConverterClasses(basePackage));
+            assertEquals(scanned.findCollectionHandlerClasses(basePackage), indexed.findCollectionHandlerClasses(basePackage));
+            assertEquals(scanned.findLogicSecuredCheckClasses(basePackage), indexed.findLogicSecuredCheckClasses(basePackage));
+        }
+        // The starter itself is compiled without the processor, so its own classes ending with Form are only scanned
+        assertEquals(scanned.findStrictMappingClasses(SCANNING_PACKAGE, "Form", "Result"),
+                indexed.findStrictMappingClasses(SCANNING_PACKAGE, "Form", "Result"));
+    }
+
+    /**
+     * Creates a context whose class loader only finds the given index, instead of the index of the test classes.
+     */
+    private StaticApplicationContext contextWithIndex(String index) throws IOException {
+        Path indexFile = temporaryFolder.newFile().toPath();
+        Files.writeString(indexFile, index);
+        URL indexUrl = indexFile.toUri().toURL();
+        StaticApplicationContext context = new StaticApplicationContext();
+        context.setClassLoader(new ClassLoader(getClass().getClassLoader()) {
+            @Override
+            public Enumeration<URL> getResources(String name) throws IOException {
+                return BeanMapperIndex.INDEX_LOCATION.equals(name) ? Collections.enumeration(List.of(indexUrl)) : super.getResources(name);
+            }
+        });
+        return context;
+    }
+}
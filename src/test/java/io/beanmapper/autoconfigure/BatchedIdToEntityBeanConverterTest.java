@@ -0,0 +1,174 @@
+package io.beanmapper.autoconfigure;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import io.beanmapper.BeanMapper;
+import io.beanmapper.config.BeanMapperBuilder;
+import io.beanmapper.core.BeanPropertyMatch;
+import io.beanmapper.core.converter.BeanConverter;
+import jakarta.persistence.EntityNotFoundException;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.core.EntityInformation;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class BatchedIdToEntityBeanConverterTest {
+
+    private final TestTag tag1 = new TestTag(1L);
+    private final TestTag tag2 = new TestTag(2L);
+    private final TestTag tag3 = new TestTag(3L);
+
+    private CrudRepository<TestTag, Long> repository;
+    private Repositories repositories;
+    private BeanMapper beanMapper;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        repository = mock(CrudRepository.class);
+        EntityInformation<TestTag, Long> entityInformation = mock(EntityInformation.class);
+        when(entityInformation.getIdType()).thenReturn(Long.class);
+        when(entityInformation.getId(any())).thenAnswer(invocation -> invocation.<TestTag>getArgument(0).getId());
+
+        repositories = mock(Repositories.class);
+        when(repositories.hasRepositoryFor(TestTag.class)).thenReturn(true);
+        when(repositories.getRepositoryFor(TestTag.class)).thenReturn(Optional.of(repository));
+        when(repositories.getEntityInformationFor(TestTag.class)).thenReturn((EntityInformation) entityInformation);
+
+        beanMapper = new BeanMapperBuilder()
+                .addPackagePrefix(BatchedIdToEntityBeanConverterTest.class)
+                .addConverter(new BatchedIdToEntityBeanConverter(repositories, null))
+                .build();
+    }
+
+    @Test
+    public void convert_shouldResolveAllIdsWithOneQueryInOrder() {
+        when(repository.findAllById(any())).thenReturn(List.of(tag1, tag2, tag3));
+
+        TestTagged tagged = beanMapper.map(tagsForm(3L, 1L, 2L, 1L), TestTagged.class);
+
+        assertEquals(List.of(tag3, tag1, tag2, tag1), tagged.getTags());
+        verify(repository, times(1)).findAllById(any());
+    }
+
+    @Test
+    public void convert_shouldReplaceTheTargetCollection() {
+        when(repository.findAllById(any())).thenReturn(List.of(tag2));
+        TestTagged target = new TestTagged();
+        target.getTags().add(tag1);
+        List<TestTag> targetTags = target.getTags();
+
+        beanMapper.map(tagsForm(2L), target);
+
+        assertSame(targetTags, target.getTags());
+        assertEquals(List.of(tag2), target.getTags());
+    }
+
+    @Test
+    public void convert_shouldReportMissingIds() {
+        when(repository.findAllById(any())).thenReturn(List.of(tag1));
+        try {
+            beanMapper.map(tagsForm(1L, 4L, 5L), TestTagged.class);
+            fail("Expected an EntityNotFoundException");
+        } catch (EntityNotFoundException e) {
+            assertTrue(e.getMessage(), e.getMessage().endsWith("with ids [4, 5]"));
+        }
+    }
+
+    @Test
+    public void convert_shouldMapOtherCollectionsAsUsual() {
+        TestAddressForm addressForm = new TestAddressForm();
+        addressForm.setCity("Amsterdam");
+
+        List<TestAddress> addresses = beanMapper.map(List.of(addressForm), TestAddress.class);
+
+        assertEquals("Amsterdam", addresses.get(0).getCity());
+    }
+
+    @Test
+    public void convert_shouldLookUpTheNextConverterOncePerClassPair() {
+        CopyingCollectionConverter nextConverter = new CopyingCollectionConverter();
+        BeanMapper beanMapper = new BeanMapperBuilder()
+                .addPackagePrefix(BatchedIdToEntityBeanConverterTest.class)
+                .addConverter(new BatchedIdToEntityBeanConverter(repositories, null))
+                .addConverter(nextConverter)
+                .build();
+
+        beanMapper.map(tagsForm(1L, 2L), TestTagsForm.class);
+        TestTagsForm copy = beanMapper.map(tagsForm(3L), TestTagsForm.class);
+
+        assertEquals(List.of(3L), copy.getTags());
+        assertEquals(1, nextConverter.matches);
+        assertEquals(2, nextConverter.conversions);
+        verify(repository, never()).findAllById(any());
+    }
+
+    @Test
+    public void convert_shouldOnlyQueryIdsThatAreNotCached() {
+        IdToEntityCache cache = new IdToEntityCache(10);
+        BeanMapper cachingBeanMapper = new BeanMapperBuilder()
+                .addPackagePrefix(BatchedIdToEntityBeanConverterTest.class)
+                .addConverter(new BatchedIdToEntityBeanConverter(repositories, cache))
+                .build();
+        when(repository.findAllById(List.of(1L, 2L))).thenReturn(List.of(tag1, tag2));
+        when(repository.findAllById(List.of(3L))).thenReturn(List.of(tag3));
+
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            cachingBeanMapper.map(tagsForm(1L, 2L), TestTagged.class);
+            TestTagged tagged = cachingBeanMapper.map(tagsForm(2L, 3L, 1L), TestTagged.class);
+
+            assertEquals(List.of(tag2, tag3, tag1), tagged.getTags());
+            verify(repository).findAllById(List.of(3L));
+            assertEquals(2, cache.getHits());
+        } finally {
+            TransactionSynchronizationManager.clear();
+        }
+    }
+
+    private static TestTagsForm tagsForm(Long... ids) {
+        TestTagsForm form = new TestTagsForm();
+        form.setTags(List.of(ids));
+        return form;
+    }
+
+    /**
+     * Copies collections, counting how often it is asked and used.
+     */
+    private class CopyingCollectionConverter implements BeanConverter {
+
+        private int matches;
+        private int conversions;
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <S, T> T convert(BeanMapper beanMapper, S source, Class<T> targetClass, BeanPropertyMatch beanPropertyMatch) {
+            conversions++;
+            return (T) new ArrayList<>((Collection<?>) source);
+        }
+
+        @Override
+        public boolean match(Class<?> sourceClass, Class<?> targetClass) {
+            matches++;
+            return Collection.class.isAssignableFrom(sourceClass) && targetClass.isAssignableFrom(ArrayList.class);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package io.beanmapper.autoconfigure;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import io.beanmapper.BeanMapper;
+import io.beanmapper.config.BeanMapperBuilder;
+import io.beanmapper.core.BeanPropertyMatch;
+import io.beanmapper.core.converter.BeanConverter;
+
+import org.junit.Test;
+
+public class BeanConverterIndexTest {
+
+    private final List<String> matchedPairs = new ArrayList<>();
+
+    @Test
+    public void map_shouldConvertWithTheFirstMatchingConverter_andAskTheConvertersOncePerClassPair() {
+        BeanMapper beanMapper = new BeanConverterIndex.IndexingBeanMapperBuilder()
+                .addPackagePrefix(BeanConverterIndexTest.class)
+                .addConverter(new RecordingConverter())
+                .addConverter(new TestConverter())
+                .addConverter(new FailingConverter())
+                .build();
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(Long.valueOf(42), beanMapper.map(quantityForm(), TestQuantity.class).getAmount());
+            assertEquals("Utrecht", beanMapper.map(personForm(), TestPerson.class).getAddress().getCity());
+        }
+
+        assertEquals(1, beanMapper.getConfiguration().getBeanConverters().stream().filter(BeanConverterIndex.class::isInstance).count());
+        assertTrue(matchedPairs.contains(String.class.getName() + " -> " + Long.class.getName()));
+        assertTrue(matchedPairs.contains(TestAddressForm.class.getName() + " -> " + TestAddress.class.getName()));
+        assertEquals(new HashSet<>(matchedPairs).size(), matchedPairs.size());
+    }
+
+    @Test
+    public void map_shouldAskTheConvertersOnEveryCall_withoutIndex() {
+        BeanMapper beanMapper = new BeanMapperBuilder()
+                .addPackagePrefix(BeanConverterIndexTest.class)
+                .addConverter(new RecordingConverter())
+                .build();
+
+        beanMapper.map(personForm(), TestPerson.class);
+        beanMapper.map(personForm(), TestPerson.class);
+
+        assertTrue(new HashSet<>(matchedPairs).size() < matchedPairs.size());
+    }
+
+    private TestQuantityForm quantityForm() {
+        TestQuantityForm form = new TestQuantityForm();
+        form.setAmount("42");
+        return form;
+    }
+
+    private TestPersonForm personForm() {
+        TestAddressForm address = new TestAddressForm();
+        address.setCity("Utrecht");
+        TestPersonForm form = new TestPersonForm();
+        form.setName("Henk");
+        form.setAddress(address);
+        return form;
+    }
+
+    /**
+     * Matches the pairs of {@link TestConverter}, but should never be chosen over it.
+     */
+    private class FailingConverter implements BeanConverter {
+
+        @Override
+        public <S, T> T convert(BeanMapper beanMapper, S source, Class<T> targetClass, BeanPropertyMatch beanPropertyMatch) {
+            throw new IllegalStateException("Only the first matching converter should be used");
+        }
+
+        @Override
+        public boolean match(Class<?> sourceClass, Class<?> targetClass) {
+            return sourceClass == String.class && targetClass == Long.class;
+        }
+    }
+
+    /**
+     * Matches nothing, but records the class pairs it is asked for.
+     */
+    private class RecordingConverter implements BeanConverter {
+
+        @Override
+        public <S, T> T convert(BeanMapper beanMapper, S source, Class<T> targetClass, BeanPropertyMatch beanPropertyMatch) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean match(Class<?> sourceClass, Class<?> targetClass) {
+            matchedPairs.add(sourceClass.getName() + " -> " + targetClass.getName());
+            return false;
+        }
+    }
+
+}
@@ -0,0 +1,56 @@
+package io.beanmapper.autoconfigure;
+
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import java.io.IOException;
+
+import org.junit.Test;
+import org.springframework.aot.generate.ClassNameGenerator;
+import org.springframework.aot.generate.DefaultGenerationContext;
+import org.springframework.aot.generate.GeneratedFiles;
+import org.springframework.aot.generate.InMemoryGeneratedFiles;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotContribution;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationCode;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackages;
+import org.springframework.boot.test.util.TestPropertyValues;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.javapoet.ClassName;
+
+public class BeanMapperAotProcessorTest {
+
+    @Test
+    public void processAheadOfTime_shouldGenerateIndexAndHints() throws IOException {
+        GenericApplicationContext applicationContext = new GenericApplicationContext();
+        TestPropertyValues.of("beanmapper.package-prefix=io.beanmapper.autoconfigure", "beanmapper.use-index=false").applyTo(applicationContext);
+        AutoConfigurationPackages.register(applicationContext, "io.beanmapper.autoconfigure");
+        applicationContext.refreshForAotProcessing(new RuntimeHints());
+        InMemoryGeneratedFiles generatedFiles = new InMemoryGeneratedFiles();
+        DefaultGenerationContext generationContext = new DefaultGenerationContext(
+                new ClassNameGenerator(ClassName.get("com.example", "TestTarget")), generatedFiles);
+
+        BeanFactoryInitializationAotContribution contribution = new BeanMapperAotProcessor(applicationContext)
+                .processAheadOfTime(applicationContext.getBeanFactory());
+        assertNotNull(contribution);
+        contribution.applyTo(generationContext, mock(BeanFactoryInitializationCode.class));
+
+        String index = generatedFiles.getGeneratedFileContent(GeneratedFiles.Kind.RESOURCE, BeanMapperIndex.INDEX_LOCATION);
+        assertTrue(index.contains(TestConverter.class.getName() + "=bean-converter"));
+        assertTrue(index.contains(TestCollectionHandlerWithAppCtx.class.getName() + "=collection-handler"));
+
+        RuntimeHints hints = generationContext.getRuntimeHints();
+        assertTrue(RuntimeHintsPredicates.reflection().onType(TestConverter.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(TestPerson.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(TestPersonForm.class).test(hints));
+    }
+
+    @Test
+    public void registerHints_shouldRegisterIndexResource() {
+        RuntimeHints hints = new RuntimeHints();
+        new BeanMapperRuntimeHints().registerHints(hints, getClass().getClassLoader());
+        assertTrue(RuntimeHintsPredicates.resource().forResource(BeanMapperIndex.INDEX_LOCATION).test(hints));
+    }
+}
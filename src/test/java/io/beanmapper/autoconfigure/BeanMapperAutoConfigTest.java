@@ -3,11 +3,32 @@ package io.beanmapper.autoconfigure;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.springframework.test.util.ReflectionTestUtils.getField;
+import static org.springframework.test.util.ReflectionTestUtils.invokeMethod;
 
+import java.util.ArrayList;
 import java.util.List;
-
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
 import io.beanmapper.annotations.LogicSecuredCheck;
 import jakarta.persistence.EntityManager;
 
@@ -22,26 +43,70 @@ import io.beanmapper.spring.converter.IdToEntityBeanConverter;
 import io.beanmapper.spring.security.SpringRoleSecuredCheck;
 import io.beanmapper.spring.unproxy.HibernateAwareBeanUnproxy;
 import io.beanmapper.spring.web.MergedFormMethodArgumentResolver;
+import io.beanmapper.spring.web.converter.StructuredJsonMessageConverter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
 
 import org.junit.After;
 import org.junit.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackage;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ApplicationAvailabilityBean;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 import org.springframework.boot.http.converter.autoconfigure.HttpMessageConvertersAutoConfiguration;
 import org.springframework.boot.jackson.autoconfigure.JacksonAutoConfiguration;
 import org.springframework.boot.webmvc.autoconfigure.WebMvcAutoConfiguration;
 import org.springframework.boot.test.util.TestPropertyValues;
+import org.springframework.boot.web.context.reactive.AnnotationConfigReactiveWebApplicationContext;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.mock.web.MockServletContext;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.context.support.AnnotationConfigWebApplicationContext;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.reactive.config.EnableWebFlux;
+import org.springframework.web.reactive.result.method.annotation.ArgumentResolverConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
 
 public class BeanMapperAutoConfigTest {
 
     private static final String BEANMAPPER_PACKAGE_PREFIX_PROP = "beanmapper.package-prefix=io.beanmapper.autoconfigure";
     private static final String BEANMAPPER_USE_HIBERNATE_UNPROXY_PROP = "beanmapper.use-hibernate-unproxy=false";
+    private static final String BEANMAPPER_USE_INDEX_PROP = "beanmapper.use-index=true";
+    private static final String BEANMAPPER_SCAN_DISABLED_PROP = "beanmapper.scan.enabled=false";
+    private static final String BEANMAPPER_CONVERTER_INDEX_PROP = "beanmapper.converter-index.enabled=true";
+    private static final String BEANMAPPER_GENERATED_MAPPERS_DISABLED_PROP = "beanmapper.generated-mappers.enabled=false";
+    private static final String BEANMAPPER_WARMUP_PROP = "beanmapper.warmup.enabled=true";
+    private static final String BEANMAPPER_CRAC_DISABLED_PROP = "beanmapper.crac.enabled=false";
+    private static final String BEANMAPPER_CRAC_ITERATIONS_PROP = "beanmapper.crac.iterations=10";
+    private static final String BEANMAPPER_ID_TO_ENTITY_BATCHED_PROP = "beanmapper.id-to-entity.batched=true";
+    private static final String BEANMAPPER_ID_TO_ENTITY_CACHE_PROP = "beanmapper.id-to-entity.cache.enabled=true";
+    private static final String BEANMAPPER_BACKGROUND_BOOTSTRAP_PROP = "beanmapper.bootstrap=background";
+    private static final String BEANMAPPER_PARALLEL_THRESHOLD_PROP = "beanmapper.parallel.threshold=100";
+    private static final String BEANMAPPER_DIAGNOSTICS_SAMPLE_RATE_PROP = "beanmapper.diagnostics.sample-rate=1";
+    private static final String BEANMAPPER_SLOW_MAPPING_THRESHOLD_PROP = "beanmapper.slow-mapping-threshold=200ms";
+    private static final String BEANMAPPER_OBSERVATION_CONVERTERS_PROP = "beanmapper.observation.converters=true";
+    private static final String BEANMAPPER_OBSERVATION_DISABLED_PROP = "beanmapper.observation.enabled=false";
+    private static final String BEANMAPPER_MERGED_FORM_STREAMING_PROP = "beanmapper.merged-form.streaming=false";
+    private static final String BEANMAPPER_ENDPOINT_EXPOSURE_PROP = "management.endpoints.web.exposure.include=beanmapper";
     private AnnotationConfigWebApplicationContext context;
 
     @After
@@ -51,17 +116,80 @@ public class BeanMapperAutoConfigTest {
         }
     }
 
+    @Test
+    public void autoconfig_shouldCreateBeanMapperInBackground_ifBootstrapIsBackground() {
+        loadApplicationContext(ConfigWithBootstrapExecutor.class, BEANMAPPER_BACKGROUND_BOOTSTRAP_PROP, BEANMAPPER_ENDPOINT_EXPOSURE_PROP);
+        assertBeanMapper(1, 21);
+        BeanMapperHandle handle = context.getBean(BeanMapperHandle.class);
+        assertTrue(handle.isAvailable());
+        assertSame(context.getBean(BeanMapper.class), handle.get());
+
+        ConfigWithBootstrapExecutor.BootstrapProbe probe = context.getBean(ConfigWithBootstrapExecutor.BootstrapProbe.class);
+        assertNotSame(Thread.currentThread(), probe.builderThread);
+        assertTrue("The beans of the starter waited for the BeanMapper", probe.builtWhileRefreshing);
+        assertMergedFormArgResolver();
+    }
+
+    @Test
+    public void autoconfig_shouldScanInBackground_whileTheBeansOfTheBuildAreCreated() {
+        ScanSignallingStartup applicationStartup = new ScanSignallingStartup();
+        AnnotationConfigWebApplicationContext applicationContext = new AnnotationConfigWebApplicationContext();
+        applicationContext.setApplicationStartup(applicationStartup);
+        TestPropertyValues.of(BEANMAPPER_PACKAGE_PREFIX_PROP, BEANMAPPER_BACKGROUND_BOOTSTRAP_PROP).applyTo(applicationContext);
+        // registered after the autoconfig, so the main thread creates the slow customizer after the BeanMapper bean
+        applicationContext.register(ConfigWithAutoConfigurationPackage.class, BeanMapperAutoConfig.class, ConfigWithSlowCustomizer.class);
+        applicationContext.setServletContext(new MockServletContext());
+        applicationContext.refresh();
+        this.context = applicationContext;
+
+        ConfigWithSlowCustomizer config = context.getBean(ConfigWithSlowCustomizer.class);
+        assertTrue("The customizer was created before the scan started", config.createdWhileScanning);
+        assertNotSame(Thread.currentThread(), config.customizedBy);
+        assertNotNull(context.getBean(BeanMapper.class));
+    }
+
     @Test
     public void autoconfig_shouldCreateBeanMapper_ifNotExists() {
         loadApplicationContext();
-        assertBeanMapper(1, 20);
+        assertBeanMapper(1, 21);
         assertMergedFormArgResolver();
+        assertMappedStreamReturnValueHandler();
+        assertNotNull(context.getBean(StreamingBeanMapper.class));
+    }
+
+    @Test
+    public void autoconfig_shouldReadMergedFormsInASinglePass() {
+        loadApplicationContext();
+        assertEquals(StreamingStructuredJsonMessageConverter.class, getMergedFormMessageConverter().getClass());
+    }
+
+    @Test
+    public void autoconfig_shouldReadMergedFormsWithStructuredJsonMessageConverter_whenStreamingIsDisabled() {
+        loadApplicationContext(BEANMAPPER_MERGED_FORM_STREAMING_PROP);
+        assertEquals(StructuredJsonMessageConverter.class, getMergedFormMessageConverter().getClass());
+    }
+
+    @Test
+    public void autoconfig_shouldAddReactiveMergedFormArgumentResolver_toWebFluxApplication() {
+        try (AnnotationConfigReactiveWebApplicationContext reactiveContext = new AnnotationConfigReactiveWebApplicationContext()) {
+            TestPropertyValues.of(BEANMAPPER_PACKAGE_PREFIX_PROP).applyTo(reactiveContext);
+            reactiveContext.register(ConfigWithWebFlux.class, JacksonAutoConfiguration.class, BeanMapperAutoConfig.class,
+                    BeanMapperWebAutoConfig.class);
+            reactiveContext.refresh();
+
+            ArgumentResolverConfigurer configurer = reactiveContext.getBean(
+                    org.springframework.web.reactive.result.method.annotation.RequestMappingHandlerAdapter.class).getArgumentResolverConfigurer();
+            List<?> customResolvers = invokeMethod(configurer, "getCustomResolvers");
+            assertEquals(1, customResolvers.size());
+            assertEquals(ReactiveMergedFormArgumentResolver.class, customResolvers.get(0).getClass());
+            assertTrue(reactiveContext.getBeansOfType(WebMvcConfigurer.class).isEmpty());
+        }
     }
 
     @Test
     public void autoconfig_shouldCreateCustomizedBeanMapper_ifNotExists() {
         loadApplicationContext(ConfigWithBeanMapperBuilderCustomizer.class);
-        assertBeanMapper(1, 21);
+        assertBeanMapper(1, 22);
         assertMergedFormArgResolver();
     }
 
@@ -75,10 +203,81 @@ public class BeanMapperAutoConfigTest {
     @Test
     public void autoconfig_shouldCreateBeanMapper_withDefaultUnproxy_whenEnvIsSet() {
         loadApplicationContext(BEANMAPPER_USE_HIBERNATE_UNPROXY_PROP);
-        assertBeanMapper(1, 20, false);
+        assertBeanMapper(1, 21, false);
         assertMergedFormArgResolver();
     }
 
+    @Test
+    public void autoconfig_shouldCreateTheSameBeanMapper_whenIndexIsEnabled() {
+        loadApplicationContext(BEANMAPPER_USE_INDEX_PROP);
+        assertBeanMapper(1, 21);
+        assertNotNull(context.getBean(BeanMapper.class).getConfiguration().getLogicSecuredChecks()
+                .get(ConfigWithLogicSecuredCheck.LogicSecuredCheckImpl.class));
+    }
+
+    @Test
+    public void autoconfig_shouldRegisterMappingBeans_andNotScanThemAgain() {
+        loadApplicationContext(ConfigWithMappingBeans.class);
+        assertBeanMapper(1, 21);
+        io.beanmapper.config.Configuration config = context.getBean(BeanMapper.class).getConfiguration();
+        assertTrue(config.getBeanConverters().contains(context.getBean(TestConverter.class)));
+        assertSame(context.getBean(TestCollectionHandler.class), config.getCollectionHandlerFor(TestEntity.class));
+        assertNotNull(config.getCollectionHandlerFor(TestEntity2.class));
+    }
+
+    @Test
+    public void autoconfig_shouldOnlyRegisterMappingBeans_whenScanIsDisabled() {
+        loadApplicationContext(ConfigWithMappingBeans.class, BEANMAPPER_SCAN_DISABLED_PROP);
+        assertBeanMapper(1, 18);
+        io.beanmapper.config.Configuration config = context.getBean(BeanMapper.class).getConfiguration();
+        assertTrue(config.getBeanConverters().contains(context.getBean(TestConverter.class)));
+        assertFalse(config.getBeanConverters().stream().anyMatch(TestConverterWithApplicationContext.class::isInstance));
+        assertSame(context.getBean(TestCollectionHandler.class), config.getCollectionHandlerFor(TestEntity.class));
+        assertNull(config.getCollectionHandlerFor(TestEntity2.class));
+        assertNull(config.getLogicSecuredChecks().get(ConfigWithLogicSecuredCheck.LogicSecuredCheckImpl.class));
+    }
+
+    @Test
+    public void autoconfig_shouldIndexCustomConverters_whenEnabled() {
+        loadApplicationContext(ConfigWithSpringData.class, BEANMAPPER_CONVERTER_INDEX_PROP, BEANMAPPER_ID_TO_ENTITY_BATCHED_PROP);
+        BeanMapper mapper = context.getBean(BeanMapper.class);
+        List<BeanConverter> beanConverters = mapper.getConfiguration().getBeanConverters();
+        assertTrue(beanConverters.get(0) instanceof BeanConverterIndex);
+        assertEquals(22, beanConverters.stream().flatMap(BeanConverterIndex::unwrap).count());
+        List<BeanConverter> indexedConverters = ((BeanConverterIndex) beanConverters.get(0)).getConverters();
+        assertEquals(5, indexedConverters.size());
+        assertTrue(indexedConverters.get(0) instanceof BatchedIdToEntityBeanConverter);
+        assertTrue(indexedConverters.stream().anyMatch(TestConverter.class::isInstance));
+
+        TestQuantityForm form = new TestQuantityForm();
+        form.setAmount("42");
+        assertEquals(Long.valueOf(42), mapper.map(form, TestQuantity.class).getAmount());
+    }
+
+    @Test
+    public void autoconfig_shouldRegisterGeneratedMappers() {
+        loadApplicationContext(ConfigWithSpringData.class);
+        BeanMapper mapper = context.getBean(BeanMapper.class);
+        List<GeneratedBeanPairConverter> generatedConverters = mapper.getConfiguration().getBeanConverters().stream()
+                .filter(GeneratedBeanPairConverter.class::isInstance)
+                .map(GeneratedBeanPairConverter.class::cast)
+                .toList();
+        assertEquals(1, generatedConverters.size());
+        assertEquals(TestContactForm.class, generatedConverters.get(0).getMapper().getSourceClass());
+        assertEquals(TestContact.class, generatedConverters.get(0).getMapper().getTargetClass());
+
+        TestContactForm form = new TestContactForm();
+        form.setName("Henk");
+        assertEquals("Henk", mapper.map(List.of(form), TestContact.class).get(0).getName());
+    }
+
+    @Test
+    public void autoconfig_shouldNotRegisterGeneratedMappers_whenDisabled() {
+        loadApplicationContext(ConfigWithSpringData.class, BEANMAPPER_GENERATED_MAPPERS_DISABLED_PROP);
+        BeanMapper mapper = context.getBean(BeanMapper.class);
+        assertFalse(mapper.getConfiguration().getBeanConverters().stream().anyMatch(GeneratedBeanPairConverter.class::isInstance));
+    }
+
     @Test
     public void autoconfig_shouldRegisterCollectionHandler_ifScanned() {
         loadApplicationContext(BEANMAPPER_USE_HIBERNATE_UNPROXY_PROP);
@@ -110,6 +309,7 @@ public class BeanMapperAutoConfigTest {
         BeanMapper mapper = context.getBean(BeanMapper.class);
 
         assertFalse(mapper.getConfiguration().getRoleSecuredCheck() instanceof SpringRoleSecuredCheck);
+        assertNull(mapper.getConfiguration().getLogicSecuredChecks().get(ConfigWithLogicSecuredCheck.LogicSecuredCheckImpl.class));
     }
 
     @Test
@@ -118,15 +318,44 @@ public class BeanMapperAutoConfigTest {
         BeanMapper mapper = context.getBean(BeanMapper.class);
         List<BeanConverter> beanConverters = mapper.getConfiguration().getBeanConverters();
         assertTrue(beanConverters.stream().anyMatch(c -> c instanceof IdToEntityBeanConverter));
+        assertFalse(beanConverters.stream().anyMatch(c -> c instanceof BatchedIdToEntityBeanConverter));
 
         BeanUnproxy unproxyDelegate = (BeanUnproxy) getField(mapper.getConfiguration().getBeanUnproxy(), "delegate");
         assertTrue(unproxyDelegate instanceof HibernateAwareBeanUnproxy);
     }
 
+    @Test
+    public void autoconfig_shouldLoadCachingIdToEntityBeanConverter_whenCacheIsEnabled() {
+        loadApplicationContext(ConfigWithSpringData.class, BEANMAPPER_ID_TO_ENTITY_CACHE_PROP);
+        BeanMapper mapper = context.getBean(BeanMapper.class);
+        List<BeanConverter> beanConverters = mapper.getConfiguration().getBeanConverters();
+        assertTrue(beanConverters.stream().anyMatch(c -> c instanceof CachingIdToEntityBeanConverter));
+        assertNotNull(context.getBean(IdToEntityCache.class));
+    }
+
+    @Test
+    public void autoconfig_shouldLoadBatchedIdToEntityBeanConverter_whenEnabled() {
+        loadApplicationContext(ConfigWithSpringData.class, BEANMAPPER_ID_TO_ENTITY_BATCHED_PROP);
+        BeanMapper mapper = context.getBean(BeanMapper.class);
+        List<BeanConverter> beanConverters = mapper.getConfiguration().getBeanConverters();
+        assertTrue(beanConverters.stream().anyMatch(c -> c instanceof IdToEntityBeanConverter));
+        assertTrue(beanConverters.stream().anyMatch(c -> c instanceof BatchedIdToEntityBeanConverter));
+    }
+
     @Test
     public void autoconfig_shouldNotLoadIdToEntityBeanConverterAndHibernateUnproxy_withoutSpringDataOnClassPath() {
-        loadApplicationContext(ConfigWithSpringData.class, new NoSpringDataClassLoader());
+        ListAppender<ILoggingEvent> appender = new ListAppender<>();
+        Logger logger = (Logger) LoggerFactory.getLogger(BeanMapperAutoConfig.class);
+        appender.start();
+        logger.addAppender(appender);
+        try {
+            loadApplicationContext(ConfigWithSpringData.class, new NoSpringDataClassLoader());
+        } finally {
+            logger.detachAppender(appender);
+        }
         BeanMapper mapper = context.getBean(BeanMapper.class);
+        assertTrue(appender.list.stream().anyMatch(event -> event.getLevel() == Level.WARN
+                && event.getFormattedMessage().startsWith("use-hibernate-unproxy was set to true")));
         List<BeanConverter> beanConverters = mapper.getConfiguration().getBeanConverters();
         assertFalse(beanConverters.stream().anyMatch(c -> c instanceof IdToEntityBeanConverter));
 
@@ -151,6 +380,428 @@ public class BeanMapperAutoConfigTest {
         assertFalse(lsc.isAllowed("b", "a"));
     }
 
+    @Test
+    public void autoconfig_shouldWarmUpBeanMapper_whenEnabled() {
+        loadApplicationContext(ApplicationAvailabilityBean.class, BEANMAPPER_WARMUP_PROP);
+        AvailabilityChangeEvent.publish(context, ReadinessState.ACCEPTING_TRAFFIC);
+
+        BeanMapperWarmUp warmUp = context.getBean(BeanMapperWarmUp.class);
+        assertNotNull(warmUp.awaitCompletion());
+        assertTrue(warmUp.getDuration().isPresent());
+        assertEquals(ReadinessState.ACCEPTING_TRAFFIC, context.getBean(ApplicationAvailability.class).getReadinessState());
+
+        Map<Class<?>, Map<Class<?>, ?>> beanMatches = (Map<Class<?>, Map<Class<?>, ?>>) getField(
+                context.getBean(BeanMapper.class).getConfiguration().getBeanMatchStore(), "store");
+        assertTrue(beanMatches.get(TestAddressForm.class).containsKey(TestAddress.class));
+        assertTrue(beanMatches.get(TestQuantityForm.class).containsKey(TestQuantity.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void warmUp_shouldRefuseTrafficUntilFinished_whenReadinessIsAnnouncedBefore() {
+        List<ReadinessState> states = new ArrayList<>();
+        BeanMapperWarmUp warmUp = new BeanMapperWarmUp(BeanMapperHandle.of(new BeanMapperBuilder().build()), List::of,
+                event -> states.add(((AvailabilityChangeEvent<ReadinessState>) event).getState()));
+
+        warmUp.onApplicationEvent(new AvailabilityChangeEvent<>(this, ReadinessState.ACCEPTING_TRAFFIC));
+        assertEquals(List.of(ReadinessState.REFUSING_TRAFFIC), states);
+
+        warmUp.awaitCompletion();
+        assertEquals(List.of(ReadinessState.REFUSING_TRAFFIC, ReadinessState.ACCEPTING_TRAFFIC), states);
+
+        warmUp.onApplicationEvent(new AvailabilityChangeEvent<>(this, ReadinessState.ACCEPTING_TRAFFIC));
+        assertEquals(2, states.size());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void warmUp_shouldAcceptTrafficLast_whenFinishingWhileTrafficIsRefused() {
+        CountDownLatch refusing = new CountDownLatch(1);
+        BeanMapper beanMapper = new BeanMapperBuilder().build();
+        BeanMapperHandle beanMapperHandle = new BeanMapperHandle(new ObjectProvider<>() {
+            @Override
+            public BeanMapper getObject() {
+                awaitUninterruptibly(refusing);
+                return beanMapper;
+            }
+        });
+        List<ReadinessState> states = new CopyOnWriteArrayList<>();
+        AtomicReference<BeanMapperWarmUp> warmUp = new AtomicReference<>();
+        warmUp.set(new BeanMapperWarmUp(beanMapperHandle, List::of, event -> {
+            ReadinessState state = ((AvailabilityChangeEvent<ReadinessState>) event).getState();
+            if (state == ReadinessState.REFUSING_TRAFFIC) {
+                // the warm-up finishes while the refusal is still being published
+                refusing.countDown();
+                awaitCompletion(warmUp.get(), 200);
+            }
+            states.add(state);
+        }));
+
+        warmUp.get().start();
+        warmUp.get().onApplicationEvent(new AvailabilityChangeEvent<>(this, ReadinessState.ACCEPTING_TRAFFIC));
+        warmUp.get().awaitCompletion();
+
+        assertEquals(List.of(ReadinessState.REFUSING_TRAFFIC, ReadinessState.ACCEPTING_TRAFFIC), states);
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void awaitCompletion(BeanMapperWarmUp warmUp, long timeoutMillis) {
+        try {
+            warmUp.start().get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // the warm-up waits for the readiness state to be published
+        } catch (InterruptedException | ExecutionException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Test
+    public void autoconfig_shouldNotWarmUpBeanMapper_byDefault() {
+        loadApplicationContext();
+        assertTrue(context.getBeansOfType(BeanMapperWarmUp.class).isEmpty());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void autoconfig_shouldWarmUpBeanMapperBeforeCheckpoint_whenCracIsOnClasspath() {
+        loadApplicationContext(BEANMAPPER_CRAC_ITERATIONS_PROP);
+        BeanMapperCracResource resource = context.getBean(BeanMapperCracResource.class);
+
+        resource.beforeCheckpoint(null);
+        resource.afterRestore(null);
+
+        Map<Class<?>, Map<Class<?>, ?>> beanMatches = (Map<Class<?>, Map<Class<?>, ?>>) getField(
+                context.getBean(BeanMapper.class).getConfiguration().getBeanMatchStore(), "store");
+        assertTrue(beanMatches.get(TestAddressForm.class).containsKey(TestAddress.class));
+        assertTrue(resource.warmUpMappings() > 0);
+    }
+
+    @Test
+    public void autoconfig_shouldNotRegisterCracResource_whenDisabled() {
+        loadApplicationContext(BEANMAPPER_CRAC_DISABLED_PROP);
+        assertTrue(context.getBeansOfType(BeanMapperCracResource.class).isEmpty());
+    }
+
+    @Test
+    public void autoconfig_shouldRecordMappingTimers_whenMeterRegistryExists() {
+        loadApplicationContext(ConfigWithMeterRegistry.class);
+        TestPersonForm form = new TestPersonForm();
+        form.setName("Henk");
+
+        InstrumentedBeanMapper beanMapper = context.getBean(InstrumentedBeanMapper.class);
+        assertEquals("Henk", beanMapper.map(form, TestPerson.class).getName());
+        assertEquals(2, beanMapper.map(List.of(form, form), TestPerson.class).size());
+
+        MeterRegistry meterRegistry = context.getBean(MeterRegistry.class);
+        assertEquals(1, meterRegistry.get(BeanMapperMetrics.METRIC_NAME)
+                .tag("source", TestPersonForm.class.getName())
+                .tag("target", TestPerson.class.getName())
+                .tag("type", "single")
+                .timer().count());
+        assertEquals(1, meterRegistry.get(BeanMapperMetrics.METRIC_NAME)
+                .tag("type", "collection")
+                .timer().count());
+    }
+
+    @Test
+    public void autoconfig_shouldNotRecordMappingTimers_withoutMeterRegistry() {
+        loadApplicationContext();
+        assertTrue(context.getBeansOfType(BeanMapperMetrics.class).isEmpty());
+        assertNotNull(context.getBean(InstrumentedBeanMapper.class));
+    }
+
+    @Test
+    public void autoconfig_shouldCreateEndpoint_whenExposed() {
+        loadApplicationContext(BEANMAPPER_ENDPOINT_EXPOSURE_PROP);
+        context.getBean(BeanMapper.class).map(new TestPersonForm(), TestPerson.class);
+
+        BeanMapperEndpoint.BeanMapperDescriptor descriptor = context.getBean(BeanMapperEndpoint.class).beanMapper();
+        assertEquals(List.of("io.beanmapper.autoconfigure"), descriptor.packagePrefixes());
+        assertEquals(21, descriptor.beanConverters().size());
+        assertTrue(descriptor.beanPairs().contains(new BeanMapperEndpoint.BeanPairDescriptor(
+                TestPersonForm.class.getName(), TestPerson.class.getName(), true, false)));
+        assertEquals(HibernateAwareBeanUnproxy.class.getName(), descriptor.beanUnproxy());
+        assertTrue(descriptor.caches().beanMatches() > 0);
+        assertTrue(descriptor.caches().propertyNodes() > 0);
+        assertTrue(descriptor.caches().converterChoices() >= 0);
+    }
+
+    @Test
+    public void autoconfig_shouldDumpSampledDiagnostics_whenSamplingIsEnabled() {
+        loadApplicationContext(BEANMAPPER_ENDPOINT_EXPOSURE_PROP, BEANMAPPER_DIAGNOSTICS_SAMPLE_RATE_PROP);
+        context.getBean(InstrumentedBeanMapper.class).map(new TestPersonForm(), TestPerson.class);
+
+        BeanMapperEndpoint endpoint = context.getBean(BeanMapperEndpoint.class);
+        BeanMapperEndpoint.DiagnosticsDescriptor diagnostics = endpoint.diagnostics("diagnostics");
+        assertEquals(1, diagnostics.recorded());
+        assertEquals(TestPersonForm.class.getName(), diagnostics.samples().get(0).source());
+        assertNull(endpoint.diagnostics("other"));
+    }
+
+    @Test
+    public void autoconfig_shouldCreateSlowMappingDetector_whenThresholdIsSet() {
+        loadApplicationContext(BEANMAPPER_SLOW_MAPPING_THRESHOLD_PROP);
+        assertNotNull(context.getBean(SlowMappingDetector.class));
+        assertNotNull(context.getBean(SqlStatementCounter.class));
+        assertTrue(context.getBeansOfType(DiagnosticsSampler.class).isEmpty());
+    }
+
+    @Test
+    public void autoconfig_shouldObserveMappingsAndConverters_whenObservationRegistryExists() {
+        loadApplicationContext(ConfigWithObservationRegistry.class, BEANMAPPER_OBSERVATION_CONVERTERS_PROP);
+        assertBeanMapper(1, 21);
+        assertTrue(context.getBean(BeanMapper.class).getConfiguration().getBeanConverters().stream()
+                .anyMatch(converter -> converter instanceof ObservedBeanConverter observed && observed.getDelegate() instanceof TestConverter));
+        assertNotNull(context.getBean(BeanMapperObservation.class));
+    }
+
+    @Test
+    public void autoconfig_shouldNotRecordMappingTimers_whenMappingsAreObserved() {
+        loadApplicationContext(ConfigWithMeterAndObservationRegistry.class);
+        assertNotNull(context.getBean(BeanMapperObservation.class));
+        assertTrue(context.getBeansOfType(BeanMapperMetrics.class).isEmpty());
+    }
+
+    @Test
+    public void autoconfig_shouldRecordMappingTimers_whenObservationIsDisabled() {
+        loadApplicationContext(ConfigWithMeterAndObservationRegistry.class, BEANMAPPER_OBSERVATION_DISABLED_PROP);
+        assertTrue(context.getBeansOfType(BeanMapperObservation.class).isEmpty());
+        assertNotNull(context.getBean(BeanMapperMetrics.class));
+    }
+
+    @Test
+    public void autoconfig_shouldNotObserveMappings_withoutObservationRegistry() {
+        loadApplicationContext(BEANMAPPER_OBSERVATION_CONVERTERS_PROP);
+        assertTrue(context.getBeansOfType(BeanMapperObservation.class).isEmpty());
+        assertTrue(context.getBean(BeanMapper.class).getConfiguration().getBeanConverters().stream()
+                .noneMatch(ObservedBeanConverter.class::isInstance));
+    }
+
+    @Test
+    public void autoconfig_shouldNotCreateEndpoint_whenNotExposed() {
+        loadApplicationContext();
+        assertTrue(context.getBeansOfType(BeanMapperEndpoint.class).isEmpty());
+    }
+
+    @Test
+    public void autoconfig_shouldAddParallelCollectionHandlers_whenThresholdIsSet() {
+        loadApplicationContext(BEANMAPPER_PARALLEL_THRESHOLD_PROP);
+        assertBeanMapper(1, 23);
+        List<CollectionHandler> collectionHandlers = context.getBean(BeanMapper.class).getConfiguration().getCollectionHandlers();
+        assertTrue(collectionHandlers.stream().anyMatch(ParallelListCollectionHandler.class::isInstance));
+        assertTrue(collectionHandlers.stream().anyMatch(ParallelSetCollectionHandler.class::isInstance));
+        assertTrue(context.getBean(BeanMapperAutoConfig.PARALLEL_EXECUTOR_BEAN_NAME) instanceof ForkJoinPool);
+    }
+
+    @Test
+    public void autoconfig_shouldNotCreateParallelExecutor_byDefault() {
+        loadApplicationContext();
+        assertFalse(context.containsBean(BeanMapperAutoConfig.PARALLEL_EXECUTOR_BEAN_NAME));
+    }
+
+    @Test
+    public void autoconfig_shouldMapAsyncOnVirtualThreads_withSecurityContext() throws Exception {
+        loadApplicationContext(ConfigWithRecordingInterceptor.class);
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("user", "password"));
+        try {
+            TestAddressForm form = new TestAddressForm();
+            form.setCity("Amsterdam");
+
+            TestAddress address = context.getBean(AsyncBeanMapper.class).mapAsync(form, TestAddress.class).get(5, TimeUnit.SECONDS);
+
+            assertEquals("Amsterdam", address.getCity());
+            ConfigWithRecordingInterceptor interceptor = context.getBean(ConfigWithRecordingInterceptor.class);
+            assertTrue(interceptor.virtualThread);
+            assertEquals("user", interceptor.principal);
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    @Test
+    public void autoconfig_shouldMapAsyncOnTaskExecutor_whenExists() throws Exception {
+        loadApplicationContext(ConfigWithTaskExecutor.class);
+        TestAddress address = context.getBean(AsyncBeanMapper.class).mapAsync(new TestAddressForm(), TestAddress.class).get(5, TimeUnit.SECONDS);
+        assertNotNull(address);
+        assertEquals(1, context.getBean(ConfigWithTaskExecutor.class).executed.get());
+    }
+
+    @Test
+    public void autoconfig_shouldRecordStartupSteps() {
+        BufferingApplicationStartup applicationStartup = new BufferingApplicationStartup(10000);
+        loadApplicationContext(null, null, applicationStartup);
+
+        List<String> steps = applicationStartup.getBufferedTimeline().getEvents().stream()
+                .map(event -> event.getStartupStep().getName())
+                .filter(name -> name.startsWith(BeanMapperAutoConfig.STARTUP_STEP_PREFIX))
+                .toList();
+        assertEquals(List.of("beanmapper.package-prefix", "beanmapper.collection-handlers", "beanmapper.converters",
+                "beanmapper.bean-pairs", "beanmapper.logic-secured-checks", "beanmapper.build"), steps);
+    }
+
+    /**
+     * Registers the package of the test {@link Application} as auto-configuration package, like its
+     * {@code @SpringBootApplication} does.
+     */
+    @Configuration
+    @AutoConfigurationPackage
+    static class ConfigWithAutoConfigurationPackage {
+    }
+
+    @Configuration
+    static class ConfigWithMeterRegistry {
+
+        @Bean
+        public MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Configuration
+    static class ConfigWithRecordingInterceptor implements BeanMappingInterceptor {
+
+        private volatile boolean virtualThread;
+        private volatile Object principal;
+
+        @Override
+        public Object intercept(BeanMappingInvocation invocation) {
+            virtualThread = Thread.currentThread().isVirtual();
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            principal = authentication != null ? authentication.getPrincipal() : null;
+            return invocation.proceed();
+        }
+    }
+
+    @Configuration
+    @EnableWebFlux
+    static class ConfigWithWebFlux {
+    }
+
+    @Configuration
+    static class ConfigWithTaskExecutor {
+
+        private final AtomicInteger executed = new AtomicInteger();
+
+        @Bean
+        public TaskExecutor beanMapperTaskExecutor() {
+            return task -> {
+                executed.incrementAndGet();
+                task.run();
+            };
+        }
+    }
+
+    @Configuration
+    static class ConfigWithBootstrapExecutor {
+
+        @Bean(name = ConfigurableApplicationContext.BOOTSTRAP_EXECUTOR_BEAN_NAME)
+        public Executor bootstrapExecutor() {
+            return new SimpleAsyncTaskExecutor("bootstrap-");
+        }
+
+        @Bean
+        public static BootstrapProbe bootstrapProbe() {
+            return new BootstrapProbe();
+        }
+
+        /**
+         * Keeps the BeanMapper under construction until the beans of the starter that are created after it have been
+         * initialized, which only happens when they do not wait for the BeanMapper.
+         */
+        static class BootstrapProbe implements BeanMapperBuilderCustomizer, BeanPostProcessor {
+
+            private final Set<String> pendingBeans = ConcurrentHashMap.newKeySet();
+            private final CountDownLatch initialized;
+            private volatile Thread builderThread;
+            private volatile boolean builtWhileRefreshing;
+
+            BootstrapProbe() {
+                pendingBeans.addAll(List.of("instrumentedBeanMapper", "asyncBeanMapper", "streamingBeanMapper"));
+                initialized = new CountDownLatch(pendingBeans.size());
+            }
+
+            @Override
+            public void customize(BeanMapperBuilder builder) {
+                builderThread = Thread.currentThread();
+                try {
+                    builtWhileRefreshing = initialized.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (pendingBeans.remove(beanName)) {
+                    initialized.countDown();
+                }
+                return bean;
+            }
+        }
+    }
+
+    @Configuration
+    static class ConfigWithSlowCustomizer {
+
+        private volatile boolean createdWhileScanning;
+        private volatile Thread customizedBy;
+
+        @Bean(name = ConfigurableApplicationContext.BOOTSTRAP_EXECUTOR_BEAN_NAME)
+        public Executor bootstrapExecutor() {
+            return new SimpleAsyncTaskExecutor("bootstrap-");
+        }
+
+        /**
+         * A customizer that is slow to create, like one that needs the EntityManagerFactory. Its creation waits for
+         * the BeanMapper to start scanning, which only happens when the build does not need the customizer first.
+         */
+        @Bean
+        public BeanMapperBuilderCustomizer slowBeanMapperCustomizer(ConfigurableApplicationContext applicationContext)
+                throws InterruptedException {
+            ScanSignallingStartup applicationStartup = (ScanSignallingStartup) applicationContext.getApplicationStartup();
+            createdWhileScanning = applicationStartup.scanning.await(10, TimeUnit.SECONDS);
+            return builder -> customizedBy = Thread.currentThread();
+        }
+    }
+
+    /**
+     * Signals when the BeanMapper determines its package prefix, the first step of the scan.
+     */
+    private static class ScanSignallingStartup implements ApplicationStartup {
+
+        private final CountDownLatch scanning = new CountDownLatch(1);
+
+        @Override
+        public StartupStep start(String name) {
+            if (name.equals(BeanMapperAutoConfig.STARTUP_STEP_PREFIX + "package-prefix")) {
+                scanning.countDown();
+            }
+            return ApplicationStartup.DEFAULT.start(name);
+        }
+    }
+
+    @Configuration
+    static class ConfigWithObservationRegistry {
+
+        @Bean
+        public ObservationRegistry observationRegistry() {
+            return ObservationRegistry.create();
+        }
+    }
+
+    @Configuration
+    @Import({ ConfigWithMeterRegistry.class, ConfigWithObservationRegistry.class })
+    static class ConfigWithMeterAndObservationRegistry {
+    }
+
     @Configuration
     static class ConfigWithSpringData {
 
@@ -192,6 +843,20 @@ public class BeanMapperAutoConfigTest {
         }
     }
 
+    @Configuration
+    static class ConfigWithMappingBeans {
+
+        @Bean
+        public TestConverter testConverter() {
+            return new TestConverter();
+        }
+
+        @Bean
+        public TestCollectionHandler testCollectionHandler() {
+            return new TestCollectionHandler();
+        }
+    }
+
     @Configuration
     static class ConfigWithBeanMapperBuilderCustomizer {
 
@@ -234,13 +899,33 @@ public class BeanMapperAutoConfigTest {
         }
     }
 
+    private void assertMappedStreamReturnValueHandler() {
+        RequestMappingHandlerAdapter requestHandler = context.getBean(RequestMappingHandlerAdapter.class);
+        assertEquals(MappedStreamReturnValueHandler.class, requestHandler.getReturnValueHandlers().get(0).getClass());
+    }
+
     private void assertMergedFormArgResolver() {
         RequestMappingHandlerAdapter requestHandler = context.getBean(RequestMappingHandlerAdapter.class);
         List<HandlerMethodArgumentResolver> argResolvers = requestHandler.getArgumentResolvers()
                 .stream()
-                .filter(argResolver -> MergedFormMethodArgumentResolver.class == argResolver.getClass())
+                .filter(argResolver -> LazyMergedFormMethodArgumentResolver.class == argResolver.getClass()
+                        || BulkMergedFormMethodArgumentResolver.class == argResolver.getClass())
                 .toList();
-        assertEquals(1, argResolvers.size());
+        assertEquals(2, argResolvers.size());
+    }
+
+    @SuppressWarnings("unchecked")
+    private HttpMessageConverter<?> getMergedFormMessageConverter() {
+        RequestMappingHandlerAdapter requestHandler = context.getBean(RequestMappingHandlerAdapter.class);
+        HandlerMethodArgumentResolver argResolver = requestHandler.getArgumentResolvers()
+                .stream()
+                .filter(resolver -> LazyMergedFormMethodArgumentResolver.class == resolver.getClass())
+                .map(resolver -> ((LazyMergedFormMethodArgumentResolver) resolver).getDelegate())
+                .findFirst()
+                .orElseThrow();
+        List<HttpMessageConverter<?>> messageConverters = (List<HttpMessageConverter<?>>) getField(argResolver, "messageConverters");
+        assertEquals(1, messageConverters.size());
+        return messageConverters.get(0);
     }
 
     private void loadApplicationContext(String... env) {
@@ -252,7 +937,12 @@ public class BeanMapperAutoConfigTest {
     }
 
     private void loadApplicationContext(Class<?> config, ClassLoader classLoader, String... env) {
+        loadApplicationContext(config, classLoader, ApplicationStartup.DEFAULT, env);
+    }
+
+    private void loadApplicationContext(Class<?> config, ClassLoader classLoader, ApplicationStartup applicationStartup, String... env) {
         AnnotationConfigWebApplicationContext applicationContext = new AnnotationConfigWebApplicationContext();
+        applicationContext.setApplicationStartup(applicationStartup);
 
         if (classLoader != null) {
             applicationContext.setClassLoader(classLoader);
@@ -264,10 +954,15 @@ public class BeanMapperAutoConfigTest {
             applicationContext.register(config);
         }
         applicationContext.register(
+                ConfigWithAutoConfigurationPackage.class,
                 WebMvcAutoConfiguration.class,
                 JacksonAutoConfiguration.class,
                 HttpMessageConvertersAutoConfiguration.class,
-                BeanMapperAutoConfig.class);
+                BeanMapperAutoConfig.class,
+                BeanMapperJpaAutoConfig.class,
+                BeanMapperHibernateAutoConfig.class,
+                BeanMapperSecurityAutoConfig.class,
+                BeanMapperWebAutoConfig.class);
         applicationContext.setServletContext(new MockServletContext());
         applicationContext.refresh();
         this.context = applicationContext;
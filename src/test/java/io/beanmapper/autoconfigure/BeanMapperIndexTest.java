@@ -0,0 +1,39 @@
+package io.beanmapper.autoconfigure;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+
+import org.junit.Test;
+
+public class BeanMapperIndexTest {
+
+    @Test
+    public void load_shouldReadIndexWrittenByProcessor() {
+        Optional<BeanMapperIndex> index = BeanMapperIndex.load(getClass().getClassLoader());
+        assertTrue(index.isPresent());
+        assertEquals(Set.of(TestConverter.class.getName(), TestConverterWithApplicationContext.class.getName()),
+                index.get().getClassNames(BeanMapperIndex.BEAN_CONVERTER, "io.beanmapper.autoconfigure"));
+        assertEquals(Set.of(Application.class.getName()), index.get().getClassNames(BeanMapperIndex.APPLICATION));
+        assertTrue(index.get().getClassNames(BeanMapperIndex.LOGIC_SECURED_CHECK)
+                .contains(BeanMapperAutoConfigTest.ConfigWithLogicSecuredCheck.LogicSecuredCheckImpl.class.getName()));
+    }
+
+    @Test
+    public void getClassNames_shouldFilterOnKindAndPackage() {
+        Properties entries = new Properties();
+        entries.setProperty("com.acme.SomeConverter", "bean-converter");
+        entries.setProperty("com.acme.other.SomeHandler", "collection-handler, bean-converter");
+        entries.setProperty("com.acmeother.OtherConverter", "bean-converter");
+        BeanMapperIndex index = new BeanMapperIndex(entries);
+
+        assertEquals(Set.of("com.acme.SomeConverter", "com.acme.other.SomeHandler"),
+                index.getClassNames(BeanMapperIndex.BEAN_CONVERTER, "com.acme"));
+        assertEquals(Set.of("com.acme.other.SomeHandler"), index.getClassNames(BeanMapperIndex.COLLECTION_HANDLER));
+        assertFalse(index.getClassNames(BeanMapperIndex.LOGIC_SECURED_CHECK).iterator().hasNext());
+    }
+}
@@ -0,0 +1,53 @@
+package io.beanmapper.autoconfigure;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.List;
+
+import io.beanmapper.BeanMapper;
+import io.beanmapper.config.BeanMapperBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class BeanMapperMetricsTest {
+
+    private MeterRegistry meterRegistry;
+    private InstrumentedBeanMapper beanMapper;
+
+    @Before
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        BeanMapper delegate = new BeanMapperBuilder().addPackagePrefix(BeanMapperMetricsTest.class).build();
+        beanMapper = new InstrumentedBeanMapper(delegate, List.of(new BeanMapperMetrics(meterRegistry, 1)));
+    }
+
+    @Test
+    public void map_shouldRecordPairsAboveTheCapAsOther() {
+        beanMapper.map(new TestAddressForm(), TestAddress.class);
+        beanMapper.map(new TestPersonForm(), TestPerson.class);
+        beanMapper.map(new TestPersonForm(), TestPerson.class);
+
+        assertEquals(2, meterRegistry.get(BeanMapperMetrics.METRIC_NAME).timers().size());
+        assertEquals(1, meterRegistry.get(BeanMapperMetrics.METRIC_NAME)
+                .tag("source", TestAddressForm.class.getName())
+                .timer().count());
+        assertEquals(2, meterRegistry.get(BeanMapperMetrics.METRIC_NAME)
+                .tag("source", BeanMapperMetrics.OTHER)
+                .tag("target", BeanMapperMetrics.OTHER)
+                .timer().count());
+    }
+
+    @Test
+    public void map_shouldTagEmptyCollectionsWithUnknownSource() {
+        assertEquals(0, beanMapper.map(List.<TestAddressForm>of(), TestAddress.class).size());
+
+        assertEquals(1, meterRegistry.get(BeanMapperMetrics.METRIC_NAME)
+                .tag("source", BeanMapperMetrics.UNKNOWN)
+                .tag("target", TestAddress.class.getName())
+                .tag("type", "collection")
+                .timer().count());
+    }
+}
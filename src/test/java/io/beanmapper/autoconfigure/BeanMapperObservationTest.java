@@ -0,0 +1,104 @@
+package io.beanmapper.autoconfigure;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.beanmapper.BeanMapper;
+import io.beanmapper.config.BeanMapperBuilder;
+import io.micrometer.common.KeyValue;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class BeanMapperObservationTest {
+
+    private final List<Observation.Context> stopped = new ArrayList<>();
+    private final ObservationRegistry observationRegistry = ObservationRegistry.create();
+
+    @Before
+    public void setUp() {
+        observationRegistry.observationConfig().observationHandler(new ObservationHandler<>() {
+
+            @Override
+            public void onStop(Observation.Context context) {
+                stopped.add(context);
+            }
+
+            @Override
+            public boolean supportsContext(Observation.Context context) {
+                return true;
+            }
+        });
+    }
+
+    @Test
+    public void intercept_shouldObserveTheMappingCall_andTheConversionsWithinIt() {
+        BeanMapper beanMapper = new BeanMapperBuilder()
+                .addPackagePrefix(BeanMapperObservationTest.class)
+                .addConverter(new ObservedBeanConverter(new TestConverter(), observationRegistry))
+                .build();
+        InstrumentedBeanMapper instrumentedBeanMapper = new InstrumentedBeanMapper(beanMapper,
+                List.of(new BeanMapperObservation(observationRegistry, 100)));
+        TestQuantityForm form = new TestQuantityForm();
+        form.setAmount("42");
+
+        TestQuantity quantity = instrumentedBeanMapper.map(form, TestQuantity.class);
+
+        assertEquals(Long.valueOf(42), quantity.getAmount());
+        assertEquals(2, stopped.size());
+        Observation.Context conversion = stopped.get(0);
+        Observation.Context mapping = stopped.get(1);
+        assertEquals(ObservedBeanConverter.OBSERVATION_NAME, conversion.getName());
+        assertEquals(TestConverter.class.getName(), conversion.getLowCardinalityKeyValue("converter").getValue());
+        assertSame(mapping, conversion.getParentObservation().getContextView());
+        assertEquals(BeanMapperObservation.OBSERVATION_NAME, mapping.getName());
+        assertEquals("map TestQuantityForm to TestQuantity", mapping.getContextualName());
+        assertTrue(mapping.getLowCardinalityKeyValues().stream().toList().containsAll(List.of(
+                KeyValue.of("source", TestQuantityForm.class.getName()),
+                KeyValue.of("target", TestQuantity.class.getName()),
+                KeyValue.of("type", "single"))));
+    }
+
+    @Test
+    public void intercept_shouldObserveOtherPairs_pastMaxPairs() {
+        InstrumentedBeanMapper instrumentedBeanMapper = new InstrumentedBeanMapper(
+                new BeanMapperBuilder().addPackagePrefix(BeanMapperObservationTest.class).build(),
+                List.of(new BeanMapperObservation(observationRegistry, 1)));
+
+        instrumentedBeanMapper.map(new TestPersonForm(), TestPerson.class);
+        instrumentedBeanMapper.map(new TestAddressForm(), TestAddress.class);
+        instrumentedBeanMapper.map(new TestPersonForm(), TestPerson.class);
+
+        assertEquals(3, stopped.size());
+        assertEquals(TestPersonForm.class.getName(), stopped.get(0).getLowCardinalityKeyValue("source").getValue());
+        assertEquals(BeanMapperMetrics.OTHER, stopped.get(1).getLowCardinalityKeyValue("source").getValue());
+        assertEquals(BeanMapperMetrics.OTHER, stopped.get(1).getLowCardinalityKeyValue("target").getValue());
+        assertEquals("map TestAddressForm to TestAddress", stopped.get(1).getContextualName());
+        assertEquals(TestPerson.class.getName(), stopped.get(2).getLowCardinalityKeyValue("target").getValue());
+    }
+
+    @Test
+    public void intercept_shouldRecordTheError_whenTheMappingFails() {
+        InstrumentedBeanMapper instrumentedBeanMapper = new InstrumentedBeanMapper(new BeanMapperBuilder().build(),
+                List.of(new BeanMapperObservation(observationRegistry, 100), invocation -> {
+                    throw new IllegalStateException("Mapping failed");
+                }));
+
+        try {
+            instrumentedBeanMapper.map(new TestQuantityForm(), TestQuantity.class);
+        } catch (IllegalStateException e) {
+            assertEquals("Mapping failed", e.getMessage());
+        }
+
+        assertEquals(1, stopped.size());
+        assertEquals("Mapping failed", stopped.get(0).getError().getMessage());
+    }
+
+}
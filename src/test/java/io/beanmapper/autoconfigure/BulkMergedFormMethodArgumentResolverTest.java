@@ -0,0 +1,222 @@
+package io.beanmapper.autoconfigure;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+
+import io.beanmapper.BeanMapper;
+import io.beanmapper.config.BeanMapperBuilder;
+import jakarta.persistence.EntityNotFoundException;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.core.EntityInformation;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.ValidationUtils;
+import org.springframework.validation.Validator;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.WebDataBinder;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import tools.jackson.databind.json.JsonMapper;
+
+public class BulkMergedFormMethodArgumentResolverTest {
+
+    private CrudRepository<TestCustomer, Long> repository;
+    private BulkMergedFormMethodArgumentResolver resolver;
+    private MethodParameter parameter;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setUp() throws NoSuchMethodException {
+        repository = mock(CrudRepository.class);
+        EntityInformation<TestCustomer, Long> entityInformation = mock(EntityInformation.class);
+        when(entityInformation.getIdType()).thenReturn(Long.class);
+        when(entityInformation.getId(any())).thenAnswer(invocation -> invocation.<TestCustomer>getArgument(0).getId());
+
+        Repositories repositories = mock(Repositories.class);
+        when(repositories.hasRepositoryFor(TestCustomer.class)).thenReturn(true);
+        when(repositories.getRepositoryFor(TestCustomer.class)).thenReturn(Optional.of(repository));
+        when(repositories.getEntityInformationFor(TestCustomer.class)).thenReturn((EntityInformation) entityInformation);
+
+        BeanMapper beanMapper = new BeanMapperBuilder().addPackagePrefix(BulkMergedFormMethodArgumentResolverTest.class).build();
+        resolver = new BulkMergedFormMethodArgumentResolver(JsonMapper.builder().build(), new InstrumentedBeanMapper(beanMapper, List.of()), repositories);
+        parameter = new MethodParameter(BulkMergedFormMethodArgumentResolverTest.class.getDeclaredMethod("update", List.class), 0);
+    }
+
+    @Test
+    public void resolveArgument_shouldMergeThePropertiesPresentOntoTheEntitiesLoadedWithOneQuery() throws Exception {
+        TestCustomer henk = new TestCustomer(1L, "Henk", "henk@example.com");
+        TestCustomer piet = new TestCustomer(2L, "Piet", "piet@example.com");
+        when(repository.findAllById(any())).thenReturn(List.of(henk, piet));
+
+        List<?> customers = resolve("""
+                [ { "id": 2, "email": "piet@example.org" }, { "id": 1, "name": "Hendrik", "email": null } ]""");
+
+        assertEquals(List.of(piet, henk), customers);
+        assertEquals("Piet", piet.getName());
+        assertEquals("piet@example.org", piet.getEmail());
+        assertEquals("Hendrik", henk.getName());
+        assertNull(henk.getEmail());
+        assertEquals(Long.valueOf(1L), henk.getId());
+        verify(repository, times(1)).findAllById(any());
+    }
+
+    @Test
+    public void resolveArgument_shouldReportMissingIds() throws Exception {
+        when(repository.findAllById(any())).thenReturn(List.of(new TestCustomer(1L, "Henk", null)));
+
+        try {
+            resolve("""
+                    [ { "id": 1, "name": "Hendrik" }, { "id": 3, "name": "Klaas" } ]""");
+            fail("Expected an EntityNotFoundException");
+        } catch (EntityNotFoundException e) {
+            assertTrue(e.getMessage().endsWith("with ids [3]"));
+        }
+    }
+
+    @Test
+    public void resolveArgument_shouldRejectFormsWithoutId() throws Exception {
+        try {
+            resolve("""
+                    [ { "id": 1, "name": "Hendrik" }, { "name": "Klaas" } ]""");
+            fail("Expected a HttpMessageNotReadableException");
+        } catch (HttpMessageNotReadableException e) {
+            assertEquals("Form 1 of the JSON array has no id", e.getMessage());
+        }
+    }
+
+    @Test
+    public void resolveArgument_shouldRejectDuplicateIds() throws Exception {
+        try {
+            resolve("""
+                    [ { "id": 1, "name": "Hendrik" }, { "id": 1, "name": "Klaas" } ]""");
+            fail("Expected a HttpMessageNotReadableException");
+        } catch (HttpMessageNotReadableException e) {
+            assertEquals("Form 1 of the JSON array has the id of an earlier form: 1", e.getMessage());
+        }
+        verify(repository, never()).findAllById(any());
+    }
+
+    @Test
+    public void resolveArgument_shouldReadTheBodyInTheCharsetOfTheRequest() throws Exception {
+        TestCustomer henk = new TestCustomer(1L, "Henk", null);
+        when(repository.findAllById(any())).thenReturn(List.of(henk));
+        MockHttpServletRequest request = request("""
+                [ { "id": 1, "name": "Hénk" } ]""", StandardCharsets.ISO_8859_1);
+
+        resolver.resolveArgument(parameter, null, new ServletWebRequest(request), null);
+
+        assertEquals("Hénk", henk.getName());
+    }
+
+    @Test
+    public void resolveArgument_shouldThrowTheValidationErrors_whenNoBindingResultFollows() throws Exception {
+        MethodParameter validatedParameter = new MethodParameter(BulkMergedFormMethodArgumentResolverTest.class.getDeclaredMethod(
+                "validatedUpdate", List.class), 0);
+        try {
+            resolver.resolveArgument(validatedParameter, new ModelAndViewContainer(), new ServletWebRequest(request("""
+                    [ { "id": 1, "name": "Hendrik" }, { "id": 2, "name": "" } ]""", StandardCharsets.UTF_8)), this::createBinder);
+            fail("Expected a MethodArgumentNotValidException");
+        } catch (MethodArgumentNotValidException e) {
+            assertEquals("[1].name", e.getBindingResult().getFieldError().getField());
+        }
+        verify(repository, never()).findAllById(any());
+    }
+
+    @Test
+    public void resolveArgument_shouldAddTheValidationErrorsToTheModel_whenABindingResultFollows() throws Exception {
+        TestCustomer henk = new TestCustomer(1L, "Henk", null);
+        TestCustomer piet = new TestCustomer(2L, "Piet", null);
+        when(repository.findAllById(any())).thenReturn(List.of(henk, piet));
+        MethodParameter validatedParameter = new MethodParameter(BulkMergedFormMethodArgumentResolverTest.class.getDeclaredMethod(
+                "validatedUpdate", List.class, BindingResult.class), 0);
+        ModelAndViewContainer mavContainer = new ModelAndViewContainer();
+
+        List<?> customers = (List<?>) resolver.resolveArgument(validatedParameter, mavContainer, new ServletWebRequest(request("""
+                [ { "id": 1, "name": "Hendrik" }, { "id": 2, "name": "" } ]""", StandardCharsets.UTF_8)), this::createBinder);
+
+        assertEquals(List.of(henk, piet), customers);
+        BindingResult bindingResult = (BindingResult) mavContainer.getModel().get(BindingResult.MODEL_KEY_PREFIX + "testCustomerList");
+        assertEquals(1, bindingResult.getErrorCount());
+        assertEquals("[1].name", bindingResult.getFieldError().getField());
+    }
+
+    @Test(expected = HttpMessageNotReadableException.class)
+    public void resolveArgument_shouldRejectABodyThatIsNoArray() throws Exception {
+        resolve("""
+                { "id": 1, "name": "Hendrik" }""");
+    }
+
+    @Test
+    public void supportsParameter_shouldOnlySupportBulkMergedFormParameters() throws NoSuchMethodException {
+        assertTrue(resolver.supportsParameter(parameter));
+        assertFalse(resolver.supportsParameter(new MethodParameter(
+                BulkMergedFormMethodArgumentResolverTest.class.getDeclaredMethod("resolve", String.class), 0)));
+    }
+
+    private List<?> resolve(String json) throws Exception {
+        return (List<?>) resolver.resolveArgument(parameter, null, new ServletWebRequest(request(json, StandardCharsets.UTF_8)), null);
+    }
+
+    private MockHttpServletRequest request(String json, Charset charset) {
+        MockHttpServletRequest request = new MockHttpServletRequest("PATCH", "/customers");
+        request.setContentType(new MediaType(MediaType.APPLICATION_JSON, charset).toString());
+        request.setContent(json.getBytes(charset));
+        return request;
+    }
+
+    /**
+     * Creates binders that reject forms with an empty name.
+     */
+    private WebDataBinder createBinder(NativeWebRequest webRequest, Object target, String objectName) {
+        WebDataBinder binder = new WebDataBinder(target, objectName);
+        binder.setValidator(new Validator() {
+            @Override
+            public boolean supports(Class<?> clazz) {
+                return TestCustomerForm.class.equals(clazz);
+            }
+
+            @Override
+            public void validate(Object target, Errors errors) {
+                ValidationUtils.rejectIfEmpty(errors, "name", "required");
+            }
+        });
+        return binder;
+    }
+
+    @SuppressWarnings("unused")
+    private void update(@BulkMergedForm(TestCustomerForm.class) List<TestCustomer> customers) {
+    }
+
+    @SuppressWarnings("unused")
+    private void validatedUpdate(@Validated @BulkMergedForm(TestCustomerForm.class) List<TestCustomer> customers) {
+    }
+
+    @SuppressWarnings("unused")
+    private void validatedUpdate(@Validated @BulkMergedForm(TestCustomerForm.class) List<TestCustomer> customers, BindingResult bindingResult) {
+    }
+
+}
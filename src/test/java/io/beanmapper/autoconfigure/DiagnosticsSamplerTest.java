@@ -0,0 +1,90 @@
+package io.beanmapper.autoconfigure;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+
+import io.beanmapper.BeanMapper;
+import io.beanmapper.config.BeanMapperBuilder;
+import io.beanmapper.utils.diagnostics.DiagnosticsDetailLevel;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class DiagnosticsSamplerTest {
+
+    private BeanMapper beanMapper;
+
+    @Before
+    public void setUp() {
+        beanMapper = new BeanMapperBuilder().addPackagePrefix(DiagnosticsSamplerTest.class).build();
+    }
+
+    @Test
+    public void intercept_shouldRecordOneInSampleRateCalls_withTheirDiagnosticsTree() {
+        DiagnosticsSampler sampler = new DiagnosticsSampler(3, null, DiagnosticsDetailLevel.TREE_COMPLETE, 10);
+        InstrumentedBeanMapper instrumentedBeanMapper = new InstrumentedBeanMapper(beanMapper, List.of(sampler));
+
+        for (int i = 0; i < 7; i++) {
+            TestPerson person = instrumentedBeanMapper.map(personForm("Henk " + i), TestPerson.class);
+            assertEquals("Henk " + i, person.getName());
+            assertEquals("Amsterdam", person.getAddress().getCity());
+        }
+
+        List<DiagnosticsSampler.Sample> samples = sampler.getSamples();
+        assertEquals(3, samples.size());
+        DiagnosticsSampler.Sample sample = samples.get(0);
+        assertEquals(DiagnosticsSampler.Reason.RATE, sample.reason());
+        assertEquals(TestPersonForm.class.getName(), sample.source());
+        assertEquals(TestPerson.class.getName(), sample.target());
+        assertEquals(1, sample.diagnostics().size());
+        DiagnosticsSampler.Node root = sample.diagnostics().get(0);
+        assertEquals(TestPersonForm.class.getName(), root.source());
+        assertEquals(TestPerson.class.getName(), root.target());
+        assertTrue(root.children().stream().anyMatch(child -> TestAddressForm.class.getName().equals(child.source())));
+    }
+
+    @Test
+    public void intercept_shouldRecordSlowCalls_andSampleTheNextCallOfTheirPair() {
+        DiagnosticsSampler sampler = new DiagnosticsSampler(0, Duration.ZERO, DiagnosticsDetailLevel.TREE_COMPLETE, 10);
+        InstrumentedBeanMapper instrumentedBeanMapper = new InstrumentedBeanMapper(beanMapper, List.of(sampler));
+
+        instrumentedBeanMapper.map(personForm("Henk"), TestPerson.class);
+        instrumentedBeanMapper.map(personForm("Piet"), TestPerson.class);
+
+        List<DiagnosticsSampler.Sample> samples = sampler.getSamples();
+        assertEquals(2, samples.size());
+        assertEquals(DiagnosticsSampler.Reason.SLOW, samples.get(0).reason());
+        assertNull(samples.get(0).diagnostics());
+        assertEquals(DiagnosticsSampler.Reason.SLOW_PAIR, samples.get(1).reason());
+        assertFalse(samples.get(1).diagnostics().isEmpty());
+    }
+
+    @Test
+    public void getSamples_shouldKeepOnlyTheLastBufferSizeSamples() {
+        DiagnosticsSampler sampler = new DiagnosticsSampler(1, null, DiagnosticsDetailLevel.TREE_COMPLETE, 2);
+        InstrumentedBeanMapper instrumentedBeanMapper = new InstrumentedBeanMapper(beanMapper, List.of(sampler));
+
+        instrumentedBeanMapper.map(personForm("Henk"), TestPerson.class);
+        instrumentedBeanMapper.map(new TestAddressForm(), TestAddress.class);
+        instrumentedBeanMapper.map(new TestAddressForm(), TestAddress.class);
+
+        assertEquals(3, sampler.getRecorded());
+        assertEquals(List.of(TestAddressForm.class.getName(), TestAddressForm.class.getName()),
+                sampler.getSamples().stream().map(DiagnosticsSampler.Sample::source).toList());
+    }
+
+    private TestPersonForm personForm(String name) {
+        TestAddressForm address = new TestAddressForm();
+        address.setCity("Amsterdam");
+        TestPersonForm form = new TestPersonForm();
+        form.setName(name);
+        form.setAddress(address);
+        return form;
+    }
+
+}
@@ -0,0 +1,155 @@
+package io.beanmapper.autoconfigure;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import io.beanmapper.BeanMapper;
+import io.beanmapper.config.BeanMapperBuilder;
+import io.beanmapper.core.BeanPropertyMatch;
+import io.beanmapper.core.converter.BeanConverter;
+
+import org.junit.Test;
+
+public class GeneratedBeanPairConverterTest {
+
+    private final CountingConverter generatedConverter = new CountingConverter(new GeneratedBeanPairConverter(new TestContactForm_BeanPairMapper()));
+
+    @Test
+    public void processor_shouldOnlyGenerateMappers_forPairsOfSimpleProperties() {
+        assertTrue(GeneratedBeanPairMapper.findClass(TestContactForm.class).isPresent());
+        assertFalse(GeneratedBeanPairMapper.findClass(TestPersonForm.class).isPresent());
+    }
+
+    @Test
+    public void map_shouldMapLikeTheReflectiveMapping() {
+        BeanMapper generatedMapper = builder().addConverter(generatedConverter).build();
+        BeanMapper reflectiveMapper = builder().build();
+        List<TestContactForm> forms = List.of(contactForm(" Henk "), new TestContactForm());
+
+        List<TestContact> generated = generatedMapper.map(forms, TestContact.class);
+        List<TestContact> reflective = reflectiveMapper.map(forms, TestContact.class);
+
+        assertEquals(2, generatedConverter.conversions);
+        assertEquals(describe(reflective.get(0)), describe(generated.get(0)));
+        assertEquals(describe(reflective.get(1)), describe(generated.get(1)));
+        assertEquals(Boolean.TRUE, generated.get(1).getVerified());
+    }
+
+    @Test
+    public void map_shouldUpdateAnExistingNestedTarget() {
+        BeanMapper beanMapper = builder().addConverter(generatedConverter).build();
+        TestContact contact = new TestContact();
+        contact.setAge(7);
+        TestAppointment appointment = new TestAppointment();
+        appointment.setContact(contact);
+        TestAppointmentForm form = new TestAppointmentForm();
+        form.setContact(contactForm("Henk"));
+
+        TestAppointment result = beanMapper.map(form, appointment);
+
+        assertEquals(1, generatedConverter.conversions);
+        assertSame(contact, result.getContact());
+        assertEquals("Henk", contact.getName());
+        assertEquals(Integer.valueOf(42), contact.getAge());
+    }
+
+    @Test
+    public void map_shouldMapANullNestedSourceToTheDefaultValue() {
+        BeanMapper beanMapper = builder().addConverter(generatedConverter).build();
+        TestAppointment appointment = new TestAppointment();
+        appointment.setContact(new TestContact());
+
+        assertNull(beanMapper.map(new TestAppointmentForm(), appointment).getContact());
+    }
+
+    @Test
+    public void map_shouldMapReflectively_whenAnotherConverterMatchesAPropertyType() {
+        BeanMapper beanMapper = builder()
+                .addConverter(new TrimmingConverter())
+                .addConverter(generatedConverter)
+                .build();
+
+        List<TestContact> contacts = beanMapper.map(List.of(contactForm(" Henk ")), TestContact.class);
+
+        assertEquals(1, generatedConverter.conversions);
+        assertEquals("Henk", contacts.get(0).getName());
+        assertEquals(Integer.valueOf(42), contacts.get(0).getAge());
+    }
+
+    private BeanMapperBuilder builder() {
+        return new BeanMapperBuilder()
+                .addPackagePrefix(GeneratedBeanPairConverterTest.class)
+                .addCustomDefaultValue(Boolean.class, true)
+                .addCustomDefaultValue(LocalDate.class, LocalDate.EPOCH)
+                .addCustomDefaultValue(String.class, "unknown");
+    }
+
+    private TestContactForm contactForm(String name) {
+        TestContactForm form = new TestContactForm();
+        form.setName(name);
+        form.setAge(42);
+        form.setVisits(3);
+        form.setActive(true);
+        form.setVerified(false);
+        form.setBirthDate(LocalDate.of(1980, 1, 1));
+        form.setReference(UUID.randomUUID());
+        form.setBalance(new BigDecimal("12.50"));
+        return form;
+    }
+
+    private List<Object> describe(TestContact contact) {
+        return Arrays.asList(contact.getName(), contact.getAge(), contact.getVisits(), contact.isActive(), contact.getVerified(),
+                contact.getBirthDate(), contact.getReference(), contact.getBalance());
+    }
+
+    /**
+     * Counts the conversions of the generated converter.
+     */
+    private class CountingConverter implements BeanConverter {
+
+        private final BeanConverter delegate;
+        private int conversions;
+
+        CountingConverter(BeanConverter delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public <S, T> T convert(BeanMapper beanMapper, S source, Class<T> targetClass, BeanPropertyMatch beanPropertyMatch) {
+            conversions++;
+            return delegate.convert(beanMapper, source, targetClass, beanPropertyMatch);
+        }
+
+        @Override
+        public boolean match(Class<?> sourceClass, Class<?> targetClass) {
+            return delegate.match(sourceClass, targetClass);
+        }
+    }
+
+    /**
+     * Trims strings, which the generated mapper would copy as they are.
+     */
+    private class TrimmingConverter implements BeanConverter {
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <S, T> T convert(BeanMapper beanMapper, S source, Class<T> targetClass, BeanPropertyMatch beanPropertyMatch) {
+            return source != null ? (T) ((String) source).trim() : null;
+        }
+
+        @Override
+        public boolean match(Class<?> sourceClass, Class<?> targetClass) {
+            return sourceClass == String.class && targetClass == String.class;
+        }
+    }
+
+}
@@ -0,0 +1,101 @@
+package io.beanmapper.autoconfigure;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import org.junit.After;
+import org.junit.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+public class IdToEntityCacheTest {
+
+    private final IdToEntityCache cache = new IdToEntityCache(2);
+    private final TestTag tag1 = new TestTag(1L);
+    private final TestTag tag2 = new TestTag(2L);
+    private final TestTag tag3 = new TestTag(3L);
+
+    @After
+    public void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clear();
+        }
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    public void get_shouldNotCacheOutsideTransactionAndRequest() {
+        cache.put(TestTag.class, 1L, tag1);
+
+        assertNull(cache.get(TestTag.class, 1L));
+        assertEquals(0, cache.getHits());
+        assertEquals(0, cache.getMisses());
+    }
+
+    @Test
+    public void get_shouldCacheForTheTransactionUntilItCompletes() {
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        assertNull(cache.get(TestTag.class, 1L));
+        cache.put(TestTag.class, 1L, tag1);
+        assertSame(tag1, cache.get(TestTag.class, 1L));
+        assertNull(cache.get(TestEntity.class, 1L));
+
+        TransactionSynchronizationUtils.invokeAfterCompletion(TransactionSynchronizationManager.getSynchronizations(),
+                TransactionSynchronization.STATUS_COMMITTED);
+        TransactionSynchronizationManager.clearSynchronization();
+        TransactionSynchronizationManager.initSynchronization();
+
+        assertNull(cache.get(TestTag.class, 1L));
+        assertEquals(1, cache.getHits());
+        assertEquals(3, cache.getMisses());
+    }
+
+    @Test
+    public void get_shouldNotShareTheCacheWithAnInnerTransaction() {
+        TestTransactionManager transactionManager = new TestTransactionManager();
+        TransactionTemplate requiresNew = new TransactionTemplate(transactionManager);
+        requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(outer -> {
+            cache.put(TestTag.class, 1L, tag1);
+            requiresNew.executeWithoutResult(inner -> {
+                assertNull(cache.get(TestTag.class, 1L));
+                cache.put(TestTag.class, 2L, tag2);
+            });
+            assertSame(tag1, cache.get(TestTag.class, 1L));
+            assertNull(cache.get(TestTag.class, 2L));
+        });
+    }
+
+    @Test
+    public void get_shouldNotCacheWithoutAnActualTransaction() {
+        TransactionTemplate supports = new TransactionTemplate(new TestTransactionManager());
+        supports.setPropagationBehavior(TransactionDefinition.PROPAGATION_SUPPORTS);
+
+        supports.executeWithoutResult(status -> {
+            cache.put(TestTag.class, 1L, tag1);
+            assertNull(cache.get(TestTag.class, 1L));
+        });
+    }
+
+    @Test
+    public void put_shouldEvictTheLeastRecentlyUsedEntity() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        cache.put(TestTag.class, 1L, tag1);
+        cache.put(TestTag.class, 2L, tag2);
+        cache.get(TestTag.class, 1L);
+        cache.put(TestTag.class, 3L, tag3);
+
+        assertSame(tag1, cache.get(TestTag.class, 1L));
+        assertNull(cache.get(TestTag.class, 2L));
+        assertSame(tag3, cache.get(TestTag.class, 3L));
+    }
+}
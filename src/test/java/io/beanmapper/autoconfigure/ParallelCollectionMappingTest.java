@@ -0,0 +1,169 @@
+package io.beanmapper.autoconfigure;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.springframework.test.util.ReflectionTestUtils.getField;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.UnaryOperator;
+import java.util.stream.IntStream;
+
+import io.beanmapper.BeanMapper;
+import io.beanmapper.config.BeanMapperBuilder;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ParallelCollectionMappingTest {
+
+    private ExecutorService executor;
+    private BeanMapper beanMapper;
+
+    @Before
+    public void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+        beanMapper = new BeanMapperBuilder().addPackagePrefix(ParallelCollectionMappingTest.class).build();
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void map_shouldPreserveTheOrder_andMapOnTheExecutor() {
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        List<Integer> sources = IntStream.range(0, 100).boxed().toList();
+
+        List<Object> results = parallelMapping(ManagedTypeDetector.NONE).map(beanMapper, sources, String.class, source -> {
+            threads.add(Thread.currentThread().getName());
+            return "mapped " + source;
+        });
+
+        assertEquals(IntStream.range(0, 100).mapToObj(i -> "mapped " + i).toList(), results);
+        assertTrue(threads.contains(Thread.currentThread().getName()));
+        assertTrue(threads.size() > 1);
+    }
+
+    @Test
+    public void map_shouldMapListsInParallel_throughTheCollectionHandlers() {
+        ParallelCollectionMapping parallelMapping = parallelMapping(ManagedTypeDetector.NONE);
+        BeanMapper parallelBeanMapper = new BeanMapperBuilder()
+                .addPackagePrefix(ParallelCollectionMappingTest.class)
+                .addCollectionHandler(new ParallelListCollectionHandler(parallelMapping))
+                .addCollectionHandler(new ParallelSetCollectionHandler(parallelMapping))
+                .build();
+        List<TestAddressForm> forms = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            TestAddressForm form = new TestAddressForm();
+            form.setCity("City " + i);
+            forms.add(form);
+        }
+
+        List<TestAddress> addresses = parallelBeanMapper.map(forms, TestAddress.class);
+
+        assertEquals(forms.stream().map(TestAddressForm::getCity).toList(),
+                addresses.stream().map(TestAddress::getCity).toList());
+    }
+
+    @Test
+    public void shouldMapInParallel_shouldBeFalse_belowTheThreshold() {
+        ParallelCollectionMapping parallelMapping = parallelMapping(ManagedTypeDetector.NONE);
+        assertFalse(parallelMapping.shouldMapInParallel(beanMapper, List.of(new TestAddressForm()), TestAddress.class));
+        assertTrue(parallelMapping.shouldMapInParallel(beanMapper, addressForms(10), TestAddress.class));
+    }
+
+    @Test
+    public void shouldMapInParallel_shouldBeFalse_whenManagedTypesAreTouched() {
+        ParallelCollectionMapping parallelMapping = parallelMapping(new ManagedTypeDetector(TestTag.class::equals));
+        List<TestTagged> tagged = IntStream.range(0, 10).mapToObj(i -> new TestTagged()).toList();
+
+        assertFalse(parallelMapping.shouldMapInParallel(beanMapper, tagged, TestTagged.class));
+        assertTrue(parallelMapping.shouldMapInParallel(beanMapper, addressForms(10), TestAddress.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void map_shouldAnalyseNestedPairsAndEveryElementClassOnTheCallingThread() {
+        Thread caller = Thread.currentThread();
+        List<TestPersonForm> forms = new ArrayList<>(IntStream.range(0, 20).mapToObj(i -> personForm(new TestPersonForm(), i)).toList());
+        forms.set(10, personForm(new TestEmployeeForm(), 10));
+        Map<Class<?>, Map<Class<?>, ?>> beanMatches = (Map<Class<?>, Map<Class<?>, ?>>) getField(
+                beanMapper.getConfiguration().getBeanMatchStore(), "store");
+        Map<Object, Thread> threads = new ConcurrentHashMap<>();
+
+        List<Object> persons = parallelMapping(ManagedTypeDetector.NONE).map(beanMapper, forms, TestPerson.class, source -> {
+            assertTrue(beanMatches.containsKey(TestAddressForm.class));
+            threads.put(source, Thread.currentThread());
+            return beanMapper.map(source, TestPerson.class);
+        });
+
+        assertSame(caller, threads.get(forms.get(0)));
+        assertSame(caller, threads.get(forms.get(10)));
+        assertTrue(threads.values().stream().anyMatch(thread -> thread != caller));
+        assertEquals(forms.stream().map(TestPersonForm::getName).toList(), persons.stream().map(person -> ((TestPerson) person).getName()).toList());
+        assertEquals("City 19", ((TestPerson) persons.get(19)).getAddress().getCity());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void map_shouldAnalyseTheElementPairsOfCollectionPropertiesOnTheCallingThread() {
+        List<TestHouseholdForm> forms = IntStream.range(0, 20).mapToObj(i -> {
+            TestHouseholdForm form = new TestHouseholdForm();
+            form.setMembers(List.of(personForm(new TestPersonForm(), i), personForm(new TestPersonForm(), i + 1)));
+            return form;
+        }).toList();
+        Map<Class<?>, Map<Class<?>, ?>> beanMatches = (Map<Class<?>, Map<Class<?>, ?>>) getField(
+                beanMapper.getConfiguration().getBeanMatchStore(), "store");
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+
+        List<Object> households = parallelMapping(ManagedTypeDetector.NONE).map(beanMapper, forms, TestHousehold.class, source -> {
+            assertTrue(beanMatches.get(TestPersonForm.class).containsKey(TestPerson.class));
+            assertTrue(beanMatches.get(TestAddressForm.class).containsKey(TestAddress.class));
+            threads.add(Thread.currentThread().getName());
+            return beanMapper.map(source, TestHousehold.class);
+        });
+
+        assertTrue(threads.size() > 1);
+        TestHousehold household = (TestHousehold) households.get(18);
+        assertEquals(List.of("Person 18", "Person 19"), household.getMembers().stream().map(TestPerson::getName).toList());
+        assertEquals("City 19", household.getMembers().get(1).getAddress().getCity());
+    }
+
+    @Test
+    public void shouldMapInParallel_shouldBeFalse_whenAnyElementClassTouchesManagedTypes() {
+        List<TestPersonForm> forms = new ArrayList<>(IntStream.range(0, 10).mapToObj(i -> new TestPersonForm()).toList());
+        forms.set(9, new TestEmployeeForm());
+
+        assertTrue(parallelMapping(ManagedTypeDetector.NONE).shouldMapInParallel(beanMapper, forms, TestPerson.class));
+        assertFalse(parallelMapping(new ManagedTypeDetector(TestEmployeeForm.class::equals)).shouldMapInParallel(beanMapper, forms, TestPerson.class));
+    }
+
+    private ParallelCollectionMapping parallelMapping(ManagedTypeDetector managedTypeDetector) {
+        return new ParallelCollectionMapping(executor, 10, 4, managedTypeDetector, UnaryOperator.identity());
+    }
+
+    private static TestPersonForm personForm(TestPersonForm form, int index) {
+        form.setName("Person " + index);
+        if (index % 2 == 1) {
+            TestAddressForm address = new TestAddressForm();
+            address.setCity("City " + index);
+            form.setAddress(address);
+        }
+        return form;
+    }
+
+    private List<TestAddressForm> addressForms(int count) {
+        return IntStream.range(0, count).mapToObj(i -> new TestAddressForm()).toList();
+    }
+
+}
@@ -0,0 +1,155 @@
+package io.beanmapper.autoconfigure;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import io.beanmapper.BeanMapper;
+import io.beanmapper.config.BeanMapperBuilder;
+import io.beanmapper.spring.web.EntityFinder;
+import io.beanmapper.spring.web.MergedForm;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import org.hibernate.LazyInitializationException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.reactive.BindingContext;
+import org.springframework.web.reactive.HandlerMapping;
+import org.springframework.web.server.ServerWebInputException;
+import tools.jackson.databind.json.JsonMapper;
+
+public class ReactiveMergedFormArgumentResolverTest {
+
+    private EntityFinder entityFinder;
+    private Scheduler scheduler;
+    private BeanMapper beanMapper;
+    private ReactiveMergedFormArgumentResolver resolver;
+    private MethodParameter parameter;
+
+    @Before
+    public void setUp() throws NoSuchMethodException {
+        entityFinder = mock(EntityFinder.class);
+        scheduler = Schedulers.newBoundedElastic(1, 10, "merged-form-test");
+        beanMapper = new BeanMapperBuilder().addPackagePrefix(ReactiveMergedFormArgumentResolverTest.class).build();
+        resolver = new ReactiveMergedFormArgumentResolver(JsonMapper.builder().build(), BeanMapperHandle.of(beanMapper), entityFinder, scheduler, null, 1024);
+        parameter = new MethodParameter(ReactiveMergedFormArgumentResolverTest.class.getDeclaredMethod("update", TestCustomer.class), 0);
+    }
+
+    @After
+    public void tearDown() {
+        scheduler.dispose();
+    }
+
+    @Test
+    public void resolveArgument_shouldMergeThePropertiesPresentOntoTheEntity_onTheScheduler() {
+        TestCustomer henk = new TestCustomer(1L, "Henk", "henk@example.com");
+        AtomicReference<String> lookupThread = new AtomicReference<>();
+        when(entityFinder.find(eq(1L), eq(TestCustomer.class))).thenAnswer(invocation -> {
+            lookupThread.set(Thread.currentThread().getName());
+            return henk;
+        });
+
+        Object result = resolve("""
+                { "name": "Hendrik" }""");
+
+        assertSame(henk, result);
+        assertEquals("Hendrik", henk.getName());
+        assertEquals("henk@example.com", henk.getEmail());
+        assertTrue(lookupThread.get().startsWith("merged-form-test"));
+    }
+
+    @Test
+    public void resolveArgument_shouldMergeInATransaction_soLazyAssociationsCanBeLoaded() throws NoSuchMethodException {
+        TestPerson henk = new TestPerson();
+        henk.setAddress(new LazyAddress());
+        when(entityFinder.find(eq(1L), eq(TestPerson.class))).thenReturn(henk);
+        ReactiveMergedFormArgumentResolver transactionalResolver = new ReactiveMergedFormArgumentResolver(JsonMapper.builder().build(),
+                BeanMapperHandle.of(beanMapper), entityFinder, scheduler, new TestTransactionManager(), 1024);
+        MethodParameter personParameter = new MethodParameter(ReactiveMergedFormArgumentResolverTest.class.getDeclaredMethod(
+                "updatePerson", TestPerson.class), 0);
+
+        Object result = transactionalResolver.resolveArgument(personParameter, new BindingContext(), exchange("""
+                { "address": { "city": "Utrecht" } }""")).block();
+
+        assertSame(henk, result);
+        assertEquals("Utrecht", ((LazyAddress) henk.getAddress()).city);
+    }
+
+    @Test(expected = ServerWebInputException.class)
+    public void resolveArgument_shouldRejectInvalidJson() {
+        resolve("{ \"name\": ");
+    }
+
+    @Test(expected = ServerWebInputException.class)
+    public void resolveArgument_shouldRejectAnEmptyBody() {
+        resolve("");
+    }
+
+    @Test
+    public void supportsParameter_shouldOnlySupportMergedFormParameters() throws NoSuchMethodException {
+        assertTrue(resolver.supportsParameter(parameter));
+        assertFalse(resolver.supportsParameter(new MethodParameter(
+                ReactiveMergedFormArgumentResolverTest.class.getDeclaredMethod("resolve", String.class), 0)));
+    }
+
+    private Object resolve(String json) {
+        return resolver.resolveArgument(parameter, new BindingContext(), exchange(json)).block();
+    }
+
+    private MockServerWebExchange exchange(String json) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.patch("/customers/1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(json));
+        exchange.getAttributes().put(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, Map.of("id", "1"));
+        return exchange;
+    }
+
+    @SuppressWarnings("unused")
+    private void update(@MergedForm(value = TestCustomerForm.class, patch = true, mergeId = "id") TestCustomer customer) {
+    }
+
+    @SuppressWarnings("unused")
+    private void updatePerson(@MergedForm(value = TestPersonForm.class, patch = true, mergeId = "id") TestPerson person) {
+    }
+
+    /**
+     * Lazy loaded association, which can only be loaded within a transaction.
+     */
+    static class LazyAddress extends TestAddress {
+
+        private String city;
+
+        @Override
+        public String getCity() {
+            assertLoadable();
+            return city;
+        }
+
+        @Override
+        public void setCity(String city) {
+            assertLoadable();
+            this.city = city;
+        }
+
+        private static void assertLoadable() {
+            if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+                throw new LazyInitializationException("could not initialize proxy - no Session");
+            }
+        }
+    }
+
+}
@@ -0,0 +1,118 @@
+package io.beanmapper.autoconfigure;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import io.beanmapper.BeanMapper;
+import io.beanmapper.config.BeanMapperBuilder;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.hibernate.collection.spi.PersistentBag;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.proxy.LazyInitializer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.slf4j.LoggerFactory;
+
+public class SlowMappingDetectorTest {
+
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+    private final Logger logger = (Logger) LoggerFactory.getLogger(SlowMappingDetector.class);
+    private BeanMapper beanMapper;
+
+    @Before
+    public void setUp() {
+        appender.start();
+        logger.addAppender(appender);
+        beanMapper = new BeanMapperBuilder().addPackagePrefix(SlowMappingDetectorTest.class).build();
+    }
+
+    @After
+    public void tearDown() {
+        logger.detachAppender(appender);
+    }
+
+    @Test
+    public void intercept_shouldLogSlowMappings_withTheirStatistics() {
+        SqlStatementCounter counter = new SqlStatementCounter();
+        SlowMappingDetector detector = new SlowMappingDetector(Duration.ZERO, counter::getCount);
+        BeanMappingInterceptor lazyLoading = invocation -> {
+            counter.inspect("select * from address");
+            counter.inspect("select * from person");
+            return invocation.proceed();
+        };
+        InstrumentedBeanMapper instrumentedBeanMapper = new InstrumentedBeanMapper(beanMapper, List.of(detector, lazyLoading));
+
+        instrumentedBeanMapper.map(List.of(personForm("Henk"), personForm("Piet")), TestPerson.class);
+
+        assertEquals(1, appender.list.size());
+        Map<String, Object> event = appender.list.get(0).getKeyValuePairs().stream()
+                .collect(Collectors.toMap(pair -> pair.key, pair -> pair.value));
+        assertEquals(TestPersonForm.class.getName(), event.get("beanmapper.source"));
+        assertEquals(TestPerson.class.getName(), event.get("beanmapper.target"));
+        assertEquals(true, event.get("beanmapper.collection"));
+        assertEquals(2L, event.get("beanmapper.source_elements"));
+        assertEquals(2, event.get("beanmapper.depth"));
+        assertEquals(5, event.get("beanmapper.result_objects"));
+        assertEquals(2L, event.get("beanmapper.result_elements"));
+        assertEquals(2L, event.get("beanmapper.sql_statements"));
+        assertTrue(appender.list.get(0).getFormattedMessage().startsWith("Slow mapping of [" + TestPersonForm.class.getName()));
+    }
+
+    @Test
+    public void intercept_shouldNotLog_underTheThreshold() {
+        SlowMappingDetector detector = new SlowMappingDetector(Duration.ofMinutes(1), null);
+        new InstrumentedBeanMapper(beanMapper, List.of(detector)).map(personForm("Henk"), TestPerson.class);
+        assertTrue(appender.list.isEmpty());
+    }
+
+    @Test
+    public void statistics_shouldNotWalkIntoHibernateProxiesAndUninitializedCollections() {
+        TestTagged lazyTags = new TestTagged();
+        lazyTags.setTags(new PersistentBag<>((SharedSessionContractImplementor) null));
+        TestTagged proxiedTags = new TestTagged();
+        proxiedTags.setTags(List.of(new TestTagProxy()));
+
+        ObjectGraphStatistics statistics = ObjectGraphStatistics.of(List.of(lazyTags, proxiedTags), 100);
+
+        assertEquals(1, statistics.depth());
+        assertEquals(4, statistics.objects());
+        assertEquals(3L, statistics.elements());
+    }
+
+    private TestPersonForm personForm(String name) {
+        TestAddressForm address = new TestAddressForm();
+        address.setCity("Amsterdam");
+        TestPersonForm form = new TestPersonForm();
+        form.setName(name);
+        form.setAddress(address);
+        return form;
+    }
+
+    /**
+     * Proxy of which the walk would reach the session through the lazy initializer.
+     */
+    private static class TestTagProxy extends TestTag implements HibernateProxy {
+
+        @Override
+        public Object writeReplace() {
+            return this;
+        }
+
+        @Override
+        public LazyInitializer getHibernateLazyInitializer() {
+            return mock(LazyInitializer.class);
+        }
+    }
+
+}
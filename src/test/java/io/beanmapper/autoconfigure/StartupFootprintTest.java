@@ -0,0 +1,133 @@
+package io.beanmapper.autoconfigure;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import io.beanmapper.BeanMapper;
+
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.context.annotation.ImportCandidates;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+
+/**
+ * Compares the startup time and the number of loaded classes of the BeanMapper auto-configurations with the full test
+ * classpath and without JPA, Hibernate and Spring Security. Every context is booted with a fresh class loader, so
+ * the classes it needs are loaded again, and only the classes that loader defines are counted.
+ */
+public class StartupFootprintTest {
+
+    private static final List<String> OPTIONAL_LIBRARIES = List.of(
+            "spring-security-", "jakarta.persistence-api-", "hibernate-", "spring-data-jpa-", "spring-orm-");
+
+    private final Logger log = LoggerFactory.getLogger(StartupFootprintTest.class);
+
+    @Test
+    public void autoconfig_shouldNotLoadTheUnusedBranches_withoutOptionalLibraries() throws Exception {
+        Footprint full = boot(entry -> true);
+        Footprint minimal = boot(entry -> OPTIONAL_LIBRARIES.stream().noneMatch(entry.getFileName().toString()::startsWith));
+        log.info("BeanMapper startup with the full classpath: {} ms, {} classes loaded; without JPA, Hibernate and Spring Security: {} ms, {} classes loaded.",
+                full.startupTime().toMillis(), full.loadedClasses(), minimal.startupTime().toMillis(), minimal.loadedClasses());
+
+        assertTrue(full.beanNames().containsAll(List.of("beanMapperJpaCustomizer", "beanMapperHibernateUnproxyCustomizer",
+                "beanMapperSecurityCustomizer")));
+        assertTrue(minimal.beanNames().contains("beanMapper"));
+        assertFalse(minimal.beanNames().contains("beanMapperJpaCustomizer"));
+        assertFalse(minimal.beanNames().contains("beanMapperHibernateUnproxyCustomizer"));
+        assertFalse(minimal.beanNames().contains("beanMapperSecurityCustomizer"));
+        assertTrue(minimal.loadedClasses() < full.loadedClasses());
+    }
+
+    private Footprint boot(Predicate<Path> classPathFilter) throws Exception {
+        Thread thread = Thread.currentThread();
+        ClassLoader contextClassLoader = thread.getContextClassLoader();
+        try (CountingClassLoader classLoader = new CountingClassLoader(classPath(classPathFilter))) {
+            thread.setContextClassLoader(classLoader);
+            long startTime = System.nanoTime();
+            String[] beanNames = (String[]) classLoader.loadClass(Boot.class.getName()).getMethod("run").invoke(null);
+            return new Footprint(Duration.ofNanos(System.nanoTime() - startTime),
+                    classLoader.definedClasses.get(), Arrays.asList(beanNames));
+        } finally {
+            thread.setContextClassLoader(contextClassLoader);
+        }
+    }
+
+    private URL[] classPath(Predicate<Path> filter) throws Exception {
+        String classPath = System.getProperty("surefire.test.class.path", System.getProperty("java.class.path"));
+        List<URL> urls = new ArrayList<>();
+        for (String entry : classPath.split(File.pathSeparator)) {
+            Path path = Path.of(entry);
+            if (filter.test(path)) {
+                urls.add(path.toUri().toURL());
+            }
+        }
+        return urls.toArray(URL[]::new);
+    }
+
+    /**
+     * Counts the classes it defines itself, rather than the classes the whole JVM loads, which include the classes
+     * loaded by other threads.
+     */
+    private static class CountingClassLoader extends URLClassLoader {
+
+        private final AtomicInteger definedClasses = new AtomicInteger();
+
+        CountingClassLoader(URL[] urls) {
+            super(urls, ClassLoader.getPlatformClassLoader());
+        }
+
+        @Override
+        protected Class<?> findClass(String name) throws ClassNotFoundException {
+            Class<?> cls = super.findClass(name);
+            definedClasses.incrementAndGet();
+            return cls;
+        }
+    }
+
+    private record Footprint(Duration startupTime, long loadedClasses, List<String> beanNames) {
+    }
+
+    /**
+     * Boots the BeanMapper auto-configurations, loaded by the class loader of the footprint.
+     */
+    public static class Boot {
+
+        public static String[] run() {
+            try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext()) {
+                context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("footprint", Map.of(
+                        "beanmapper.package-prefix", "io.beanmapper.autoconfigure.footprint",
+                        "beanmapper.use-index", false)));
+                ImportCandidates.load(AutoConfiguration.class, Boot.class.getClassLoader()).getCandidates().stream()
+                        .filter(name -> name.startsWith("io.beanmapper.autoconfigure."))
+                        .forEach(name -> context.registerBean(name, loadClass(name)));
+                context.refresh();
+                context.getBean(BeanMapper.class);
+                return context.getBeanDefinitionNames();
+            }
+        }
+
+        private static Class<?> loadClass(String name) {
+            try {
+                return Boot.class.getClassLoader().loadClass(name);
+            } catch (ClassNotFoundException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+}
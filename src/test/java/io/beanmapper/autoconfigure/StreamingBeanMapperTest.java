@@ -0,0 +1,131 @@
+package io.beanmapper.autoconfigure;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import io.beanmapper.BeanMapper;
+import io.beanmapper.config.BeanMapperBuilder;
+import tools.jackson.databind.json.JsonMapper;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+public class StreamingBeanMapperTest {
+
+    private final List<Long> released = new ArrayList<>();
+    private final List<Runnable> scopes = new ArrayList<>();
+    private final List<Class<?>> intercepted = new ArrayList<>();
+    private StreamingBeanMapper streamingBeanMapper;
+
+    @Before
+    public void setUp() {
+        BeanMapper beanMapper = new BeanMapperBuilder().addPackagePrefix(StreamingBeanMapperTest.class).build();
+        streamingBeanMapper = new StreamingBeanMapper(new InstrumentedBeanMapper(beanMapper, List.of(invocation -> {
+            intercepted.add(invocation.getTargetClass());
+            return invocation.proceed();
+        })), (source, count) -> released.add(count), streaming -> {
+            scopes.add(streaming);
+            streaming.run();
+        });
+    }
+
+    @Test
+    public void map_shouldMapAndReleaseOneElementAtATime() {
+        List<String> events = new ArrayList<>();
+        MappedStream<TestAddress> addresses = streamingBeanMapper.map(
+                Stream.of(addressForm("Amsterdam"), addressForm("Utrecht")).peek(form -> events.add("read " + form.getCity())),
+                TestAddress.class);
+        assertTrue(events.isEmpty());
+
+        addresses.forEach(address -> events.add("write " + address.getCity()));
+
+        assertEquals(List.of("read Amsterdam", "write Amsterdam", "read Utrecht", "write Utrecht"), events);
+        assertEquals(List.of(1L, 2L), released);
+        assertEquals(1, scopes.size());
+        assertEquals(List.of(TestAddress.class, TestAddress.class), intercepted);
+    }
+
+    @Test
+    public void stream_shouldQueryTheNextSliceOnlyWhenTheContentIsConsumed() {
+        List<Integer> queriedPages = new ArrayList<>();
+        Stream<TestAddressForm> forms = SliceStreams.stream(pageable -> {
+            queriedPages.add(pageable.getPageNumber());
+            return slice(pageable, pageable.getPageNumber() < 2, addressForm("City " + pageable.getPageNumber()));
+        }, PageRequest.of(0, 1));
+
+        List<String> cities = streamingBeanMapper.map(forms, TestAddress.class).stream()
+                .limit(2)
+                .map(TestAddress::getCity)
+                .toList();
+
+        assertEquals(List.of("City 0", "City 1"), cities);
+        assertEquals(List.of(0, 1), queriedPages);
+    }
+
+    @Test
+    public void handleReturnValue_shouldWriteJsonArrayAndCloseTheSource() throws Exception {
+        AtomicBoolean closed = new AtomicBoolean();
+        MappedStream<TestAddress> addresses = streamingBeanMapper.map(
+                () -> Stream.of(addressForm("Amsterdam"), addressForm("Utrecht")).onClose(() -> closed.set(true)),
+                TestAddress.class);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        ModelAndViewContainer mavContainer = new ModelAndViewContainer();
+        MappedStreamReturnValueHandler handler = new MappedStreamReturnValueHandler(JsonMapper.builder().build());
+        MethodParameter returnType = new MethodParameter(StreamingBeanMapperTest.class.getDeclaredMethod("export"), -1);
+
+        assertTrue(handler.supportsReturnType(returnType));
+        handler.handleReturnValue(addresses, returnType, mavContainer, new ServletWebRequest(new MockHttpServletRequest(), response));
+
+        assertEquals("[{\"city\":\"Amsterdam\"},{\"city\":\"Utrecht\"}]", response.getContentAsString());
+        assertEquals("application/json", response.getContentType());
+        assertTrue(mavContainer.isRequestHandled());
+        assertTrue(closed.get());
+    }
+
+    @Test(expected = HttpMediaTypeNotAcceptableException.class)
+    public void handleReturnValue_shouldRejectRequestsNotAcceptingJson() throws Exception {
+        MappedStream<TestAddress> addresses = streamingBeanMapper.map(() -> Stream.of(addressForm("Amsterdam")), TestAddress.class);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_XML_VALUE);
+        MappedStreamReturnValueHandler handler = new MappedStreamReturnValueHandler(JsonMapper.builder().build());
+        MethodParameter returnType = new MethodParameter(StreamingBeanMapperTest.class.getDeclaredMethod("export"), -1);
+
+        handler.handleReturnValue(addresses, returnType, new ModelAndViewContainer(), new ServletWebRequest(request, new MockHttpServletResponse()));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void entityManagerRelease_shouldRejectClearIntervalsBelowOne() {
+        new EntityManagerRelease(null, BeanMapperProperties.Streaming.Release.CLEAR, 0);
+    }
+
+    private MappedStream<TestAddress> export() {
+        return null;
+    }
+
+    private static Slice<TestAddressForm> slice(Pageable pageable, boolean hasNext, TestAddressForm content) {
+        return new SliceImpl<>(List.of(content), pageable, hasNext);
+    }
+
+    private static TestAddressForm addressForm(String city) {
+        TestAddressForm form = new TestAddressForm();
+        form.setCity(city);
+        return form;
+    }
+}
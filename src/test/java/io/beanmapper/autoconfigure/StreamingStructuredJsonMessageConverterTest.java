@@ -0,0 +1,77 @@
+package io.beanmapper.autoconfigure;
+
+import static org.junit.Assert.assertEquals;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+
+import io.beanmapper.spring.web.converter.StructuredBody;
+import io.beanmapper.spring.web.converter.StructuredJsonMessageConverter;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.json.JacksonJsonHttpMessageConverter;
+import org.springframework.mock.http.MockHttpInputMessage;
+import tools.jackson.databind.json.JsonMapper;
+
+public class StreamingStructuredJsonMessageConverterTest {
+
+    private static final String PERSON_JSON = """
+            {
+              "name": "Henk",
+              "address": { "city": "Amsterdam" },
+              "unknown": { "nested": { "deeper": 1 }, "list": [ { "inList": true } ] },
+              "other": [ 1, 2, { "inList": true } ]
+            }""";
+
+    private JsonMapper jsonMapper;
+    private StreamingStructuredJsonMessageConverter converter;
+
+    @Before
+    public void setUp() {
+        jsonMapper = JsonMapper.builder().build();
+        converter = new StreamingStructuredJsonMessageConverter(jsonMapper);
+    }
+
+    @Test
+    public void read_shouldReadTheFormAndRecordThePropertyNamesPresent() throws Exception {
+        StructuredBody structuredBody = (StructuredBody) converter.read(TestPersonForm.class, inputMessage(PERSON_JSON));
+
+        TestPersonForm form = (TestPersonForm) structuredBody.body();
+        assertEquals("Henk", form.getName());
+        assertEquals("Amsterdam", form.getAddress().getCity());
+        assertEquals(Set.of("name", "address", "address.city", "unknown", "unknown.nested", "unknown.nested.deeper",
+                "unknown.list", "other"), structuredBody.propertyNames());
+    }
+
+    @Test
+    public void read_shouldRecordTheSamePropertyNamesAsTheStructuredJsonMessageConverter() throws Exception {
+        StructuredJsonMessageConverter structuredConverter = new StructuredJsonMessageConverter(new JacksonJsonHttpMessageConverter(jsonMapper));
+        String json = """
+                { "a": 1, "b": { "c": null, "d": { "e": "f" } }, "g": [ { "h": 1 } ], "i": {} }""";
+
+        StructuredBody expected = (StructuredBody) structuredConverter.read(Map.class, inputMessage(json));
+        StructuredBody actual = (StructuredBody) converter.read(Map.class, inputMessage(json));
+
+        assertEquals(expected.body(), actual.body());
+        assertEquals(expected.propertyNames(), actual.propertyNames());
+        expected = (StructuredBody) structuredConverter.read(TestPersonForm.class, inputMessage(PERSON_JSON));
+        actual = (StructuredBody) converter.read(TestPersonForm.class, inputMessage(PERSON_JSON));
+        assertEquals(expected.propertyNames(), actual.propertyNames());
+    }
+
+    @Test(expected = HttpMessageNotReadableException.class)
+    public void read_shouldThrowHttpMessageNotReadableException_whenTheJsonIsInvalid() throws Exception {
+        converter.read(TestPersonForm.class, inputMessage("{ \"name\": "));
+    }
+
+    private MockHttpInputMessage inputMessage(String json) {
+        MockHttpInputMessage inputMessage = new MockHttpInputMessage(json.getBytes(StandardCharsets.UTF_8));
+        inputMessage.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        return inputMessage;
+    }
+
+}
@@ -0,0 +1,14 @@
+package io.beanmapper.autoconfigure;
+
+public class TestAddress {
+
+    private String city;
+
+    public String getCity() {
+        return city;
+    }
+
+    public void setCity(String city) {
+        this.city = city;
+    }
+}
@@ -0,0 +1,24 @@
+package io.beanmapper.autoconfigure;
+
+public class TestAppointment {
+
+    private String subject;
+
+    private TestContact contact;
+
+    public String getSubject() {
+        return subject;
+    }
+
+    public void setSubject(String subject) {
+        this.subject = subject;
+    }
+
+    public TestContact getContact() {
+        return contact;
+    }
+
+    public void setContact(TestContact contact) {
+        this.contact = contact;
+    }
+}
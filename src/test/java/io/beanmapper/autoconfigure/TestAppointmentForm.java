@@ -0,0 +1,24 @@
+package io.beanmapper.autoconfigure;
+
+public class TestAppointmentForm {
+
+    private String subject;
+
+    private TestContactForm contact;
+
+    public String getSubject() {
+        return subject;
+    }
+
+    public void setSubject(String subject) {
+        this.subject = subject;
+    }
+
+    public TestContactForm getContact() {
+        return contact;
+    }
+
+    public void setContact(TestContactForm contact) {
+        this.contact = contact;
+    }
+}
@@ -0,0 +1,4 @@
+package io.beanmapper.autoconfigure;
+
+public class TestEmployeeForm extends TestPersonForm {
+}
@@ -0,0 +1,17 @@
+package io.beanmapper.autoconfigure;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class TestHousehold {
+
+    private List<TestPerson> members = new ArrayList<>();
+
+    public List<TestPerson> getMembers() {
+        return members;
+    }
+
+    public void setMembers(List<TestPerson> members) {
+        this.members = members;
+    }
+}
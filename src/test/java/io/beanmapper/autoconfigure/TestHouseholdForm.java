@@ -0,0 +1,17 @@
+package io.beanmapper.autoconfigure;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class TestHouseholdForm {
+
+    private List<TestPersonForm> members = new ArrayList<>();
+
+    public List<TestPersonForm> getMembers() {
+        return members;
+    }
+
+    public void setMembers(List<TestPersonForm> members) {
+        this.members = members;
+    }
+}
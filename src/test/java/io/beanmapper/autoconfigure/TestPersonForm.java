@@ -0,0 +1,25 @@
+package io.beanmapper.autoconfigure;
+
+@BeanMapToClass(target = TestPerson.class)
+public class TestPersonForm {
+
+    private String name;
+
+    private TestAddressForm address;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public TestAddressForm getAddress() {
+        return address;
+    }
+
+    public void setAddress(TestAddressForm address) {
+        this.address = address;
+    }
+}
@@ -0,0 +1,14 @@
+package io.beanmapper.autoconfigure;
+
+public class TestQuantity {
+
+    private Long amount;
+
+    public Long getAmount() {
+        return amount;
+    }
+
+    public void setAmount(Long amount) {
+        this.amount = amount;
+    }
+}
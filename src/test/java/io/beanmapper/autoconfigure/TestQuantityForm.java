@@ -0,0 +1,14 @@
+package io.beanmapper.autoconfigure;
+
+public class TestQuantityForm {
+
+    private String amount;
+
+    public String getAmount() {
+        return amount;
+    }
+
+    public void setAmount(String amount) {
+        this.amount = amount;
+    }
+}
@@ -0,0 +1,21 @@
+package io.beanmapper.autoconfigure;
+
+public class TestTag {
+
+    private Long id;
+
+    public TestTag() {
+    }
+
+    public TestTag(Long id) {
+        this.id = id;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+}
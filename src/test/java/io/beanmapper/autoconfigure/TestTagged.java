@@ -0,0 +1,17 @@
+package io.beanmapper.autoconfigure;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class TestTagged {
+
+    private List<TestTag> tags = new ArrayList<>();
+
+    public List<TestTag> getTags() {
+        return tags;
+    }
+
+    public void setTags(List<TestTag> tags) {
+        this.tags = tags;
+    }
+}
@@ -0,0 +1,16 @@
+package io.beanmapper.autoconfigure;
+
+import java.util.List;
+
+public class TestTagsForm {
+
+    private List<Long> tags;
+
+    public List<Long> getTags() {
+        return tags;
+    }
+
+    public void setTags(List<Long> tags) {
+        this.tags = tags;
+    }
+}
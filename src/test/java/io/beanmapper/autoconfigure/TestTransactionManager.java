@@ -0,0 +1,54 @@
+package io.beanmapper.autoconfigure;
+
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+/**
+ * Begins, suspends and resumes transactions without a resource behind them, with the transaction synchronization
+ * of Spring.
+ */
+class TestTransactionManager extends AbstractPlatformTransactionManager {
+
+    private Object current;
+
+    @Override
+    protected Object doGetTransaction() {
+        return new Object[] { current };
+    }
+
+    @Override
+    protected boolean isExistingTransaction(Object transaction) {
+        return ((Object[]) transaction)[0] != null;
+    }
+
+    @Override
+    protected void doBegin(Object transaction, TransactionDefinition definition) {
+        current = transaction;
+    }
+
+    @Override
+    protected Object doSuspend(Object transaction) {
+        Object suspended = current;
+        current = null;
+        return suspended;
+    }
+
+    @Override
+    protected void doResume(Object transaction, Object suspendedResources) {
+        current = suspendedResources;
+    }
+
+    @Override
+    protected void doCommit(DefaultTransactionStatus status) {
+    }
+
+    @Override
+    protected void doRollback(DefaultTransactionStatus status) {
+    }
+
+    @Override
+    protected void doCleanupAfterCompletion(Object transaction) {
+        current = null;
+    }
+}
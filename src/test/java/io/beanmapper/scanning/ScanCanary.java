@@ -0,0 +1,13 @@
+package io.beanmapper.scanning;
+
+/**
+ * Class that is not of interest to the ApplicationScanner. Records in {@link ScanCanaryState}
+ * whether it has been initialized.
+ */
+public class ScanCanary {
+
+    static {
+        ScanCanaryState.initialized = true;
+    }
+
+}
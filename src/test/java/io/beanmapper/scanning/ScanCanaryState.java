@@ -0,0 +1,10 @@
+package io.beanmapper.scanning;
+
+public final class ScanCanaryState {
+
+    public static boolean initialized;
+
+    private ScanCanaryState() {
+    }
+
+}
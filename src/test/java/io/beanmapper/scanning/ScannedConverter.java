@@ -0,0 +1,12 @@
+package io.beanmapper.scanning;
+
+import io.beanmapper.core.converter.SimpleBeanConverter;
+
+public class ScannedConverter extends SimpleBeanConverter<String, Integer> {
+
+    @Override
+    protected Integer doConvert(String source) {
+        return Integer.parseInt(source);
+    }
+
+}